@@ -38,7 +38,7 @@ public class Main {
         final var boundarySelector = new MazeBoundarySelector();
         final var mazeGeneratorFactory = new MazeGeneratorFactory(rng);
         final var mazeTypeProviderFactory = new MazeTypeProviderFactory(rng);
-        final var solverFactory = new SolverFactory();
+        final var solverFactory = new SolverFactory(true);
         return new GameLogic(gameFlowManager, gameIORender, cycleAdder, render,
             boundarySelector, mazeGeneratorFactory, mazeTypeProviderFactory, solverFactory);
     }
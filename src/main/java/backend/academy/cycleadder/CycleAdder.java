@@ -43,14 +43,8 @@ public class CycleAdder {
         // Для каждого потенциального ребра, решаем, удалять ли стену
         for (Edge edge : potentialEdgesForCycles) {
             if (randomGenerator.nextInt(MAX_PERCENTAGE) < cycleLevelType.cycleProbability()) {
-                // Меняем тип ребра на проходной
-                edge.type(typeProvider.getPassableEdgeType());
-
-                // Также обновляем обратное ребро
-                Edge reverseEdge = maze.getEdge(edge.to(), edge.from());
-                if (reverseEdge != null) {
-                    reverseEdge.type(typeProvider.getPassableEdgeType());
-                }
+                // Меняем тип ребра и обратного ребра на проходной
+                maze.updateEdgeType(edge.from(), edge.to(), typeProvider.getPassableEdgeType());
             }
         }
     }
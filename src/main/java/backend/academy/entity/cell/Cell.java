@@ -6,6 +6,9 @@ import lombok.Setter;
 
 @Getter
 public class Cell {
+    // Номер, который лабиринт возвращает для координат без ячейки
+    public static final int NO_ID = -1;
+
     private final Coordinate coordinate;
     @Setter
     private CellType cellType;
@@ -26,8 +29,12 @@ public class Cell {
         return Objects.equals(coordinate, cell.coordinate);
     }
 
+    /**
+     * Хеш зависит только от координат, как и equals, поэтому изменение типа ячейки после её добавления
+     * в хеш-таблицу не ломает поиск.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(coordinate, cellType);
+        return coordinate.hashCode();
     }
 }
@@ -1,7 +1,5 @@
 package backend.academy.entity.cell;
 
-import java.util.Objects;
-
 public record Coordinate(int row, int col) implements Comparable<Coordinate> {
     @Override
     public boolean equals(Object o) {
@@ -16,7 +14,7 @@ public record Coordinate(int row, int col) implements Comparable<Coordinate> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return 31 * row + col;
     }
 
     @Override
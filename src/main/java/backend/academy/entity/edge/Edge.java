@@ -26,8 +26,11 @@ public class Edge {
                && type == edge.type;
     }
 
+    /**
+     * Хеш не учитывает изменяемый тип ребра, чтобы смена типа не ломала поиск в хеш-таблицах.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(from, to, type);
+        return 31 * Objects.hashCode(from) + Objects.hashCode(to);
     }
 }
@@ -0,0 +1,616 @@
+package backend.academy.entity.maze;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.direction.Direction;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.edge.EdgeType;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+import lombok.Getter;
+
+/**
+ * Базовый класс компактных лабиринтов на прямоугольной сетке. Вместо объектов Cell и Edge лабиринт хранит
+ * код типа каждой ячейки (один байт на ячейку) и типы рёбер вправо и вниз — 2-битными полями, упакованными
+ * в 64-битные слова. Где лежат эти данные, решают наследники через методы доступа к кодам ячеек и словам рёбер.
+ * <p>
+ * Ячейки и рёбра, возвращаемые методами лабиринта, создаются по запросу и являются представлениями:
+ * изменение их типа через сеттер записывается обратно в лабиринт. Между соседними ячейками сетки ребро
+ * существует всегда (по умолчанию это стена), поэтому удаление ребра превращает его в стену.
+ */
+public abstract class AbstractGridMaze extends Maze {
+    private static final Logger LOGGER = Logger.getLogger(AbstractGridMaze.class.getName());
+    // Размер 2-битного поля типа ребра и количество таких полей в одном long
+    private static final int EDGE_BITS = 2;
+    private static final int EDGES_PER_WORD = Long.SIZE / EDGE_BITS;
+    private static final long EDGE_MASK = (1L << EDGE_BITS) - 1;
+    // У каждой ячейки хранятся только рёбра вправо и вниз
+    private static final int EDGES_PER_CELL = 2;
+    private static final int RIGHT_SLOT = 0;
+    private static final int DOWN_SLOT = 1;
+    // Код 0 означает, что ячейка ещё не добавлена, иначе код равен ordinal + 1
+    protected static final byte NO_CELL = 0;
+
+    private static final CellType[] CELL_TYPES = CellType.values();
+    private static final EdgeType[] EDGE_TYPES = EdgeType.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @Getter
+    private final int height;
+    @Getter
+    private final int width;
+    // Количество ячеек сетки, включая ещё не добавленные
+    private final int gridSize;
+    private int cellCount;
+
+    protected AbstractGridMaze(int height, int width) {
+        this(height, width, 0);
+    }
+
+    /**
+     * Конструктор для наследников, хранилище которых уже содержит ячейки, например загруженные из файла.
+     *
+     * @param height    Высота лабиринта.
+     * @param width     Ширина лабиринта.
+     * @param cellCount Количество уже добавленных ячеек.
+     */
+    protected AbstractGridMaze(int height, int width, int cellCount) {
+        super(Collections.emptyMap());
+        if (height < 1 || width < 1) {
+            LOGGER.warning("The dimensions of the maze must be positive.");
+            throw new IllegalArgumentException("The dimensions of the maze must be positive");
+        }
+        this.height = height;
+        this.width = width;
+        this.gridSize = Math.multiplyExact(height, width);
+        if (cellCount < 0 || cellCount > gridSize) {
+            LOGGER.warning("The cell count must be between 0 and " + gridSize + ".");
+            throw new IllegalArgumentException("The cell count must be between 0 and " + gridSize);
+        }
+        this.cellCount = cellCount;
+    }
+
+    /**
+     * Возвращает количество 64-битных слов, необходимое для хранения рёбер сетки заданного размера.
+     * Для ячейки с row-major номером id поле 2 * id хранит ребро вправо, поле 2 * id + 1 — ребро вниз.
+     *
+     * @param gridSize Количество ячеек сетки.
+     * @return Количество слов для рёбер.
+     */
+    protected static int edgeWordCount(int gridSize) {
+        return (int) (((long) gridSize * EDGES_PER_CELL + EDGES_PER_WORD - 1) / EDGES_PER_WORD);
+    }
+
+    /**
+     * Возвращает количество добавленных ячеек. Неизменяемые наследники переопределяют метод и хранят
+     * количество в собственном финальном поле.
+     *
+     * @return Количество ячеек.
+     */
+    protected int cellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Возвращает код типа ячейки по её row-major номеру.
+     *
+     * @param id Номер ячейки.
+     * @return {@link #NO_CELL}, если ячейка не добавлена, иначе ordinal типа + 1.
+     */
+    protected abstract byte cellCode(int id);
+
+    /**
+     * Записывает код типа ячейки по её row-major номеру.
+     *
+     * @param id   Номер ячейки.
+     * @param code Код типа ячейки.
+     */
+    protected abstract void cellCode(int id, byte code);
+
+    /**
+     * Возвращает слово с упакованными типами рёбер.
+     *
+     * @param word Номер слова.
+     * @return Слово из 32 двухбитных полей.
+     */
+    protected abstract long edgeWord(int word);
+
+    /**
+     * Записывает слово с упакованными типами рёбер.
+     *
+     * @param word  Номер слова.
+     * @param value Новое значение слова.
+     */
+    protected abstract void edgeWord(int word, long value);
+
+    /**
+     * Добавляет ячейку в лабиринт. Если ячейка уже добавлена, её тип не меняется.
+     *
+     * @param cell Ячейка для добавления.
+     * @throws IllegalArgumentException если ячейка лежит за пределами сетки.
+     */
+    @Override
+    public void addCell(Cell cell) {
+        int id = indexOf(cell.coordinate());
+        if (id < 0) {
+            throw new IllegalArgumentException("The cell is out of the maze bounds: " + cell.coordinate());
+        }
+        if (cellCode(id) == NO_CELL) {
+            cellCode(id, encode(cell.cellType()));
+            cellCount++;
+            markModified();
+        }
+    }
+
+    /**
+     * Устанавливает тип ячейки по её row-major номеру и добавляет ячейку, если её ещё нет. Не требует объекта
+     * Cell, поэтому генераторы заполняют этим методом сетки любого размера.
+     *
+     * @param id       Номер ячейки.
+     * @param cellType Тип ячейки.
+     * @throws IndexOutOfBoundsException если номер лежит за пределами сетки.
+     */
+    public void setCellType(int id, CellType cellType) {
+        Objects.checkIndex(id, gridSize);
+        if (cellCode(id) == NO_CELL) {
+            cellCount++;
+        }
+        cellCode(id, encode(cellType));
+        markModified();
+    }
+
+    /**
+     * Устанавливает тип ребра между двумя добавленными соседними ячейками по их row-major номерам.
+     * Ребро хранится в одном поле для обоих направлений, поэтому обратное ребро меняется вместе с ним.
+     *
+     * @param from     Номер первой ячейки.
+     * @param to       Номер второй ячейки.
+     * @param edgeType Тип ребра.
+     * @throws IllegalArgumentException если ячейки не добавлены или не являются соседями по сетке.
+     */
+    public void setEdgeType(int from, int to, EdgeType edgeType) {
+        int slot = edgeSlot(from, to);
+        if (slot < 0) {
+            LOGGER.warning("Only adjacent cells of the grid can be connected.");
+            throw new IllegalArgumentException("Only adjacent cells of the grid can be connected: " + from + ", " + to);
+        }
+        writeEdge(slot, edgeType);
+        if (hasChangeListeners()) {
+            markEdgeModified(cellAt(from), cellAt(to));
+        } else {
+            markModified();
+        }
+    }
+
+    @Override
+    public void addOrUpdateEdge(Cell from, Cell to, EdgeType edgeType) {
+        addEdge(from, to, edgeType);
+    }
+
+    @Override
+    public Edge getEdge(Cell from, Cell to) {
+        int slot = edgeSlot(from.coordinate(), to.coordinate());
+        if (slot < 0) {
+            return null;
+        }
+        return new GridEdge(cellAt(indexOf(from.coordinate())), cellAt(indexOf(to.coordinate())), slot);
+    }
+
+    @Override
+    public Cell getCell(Coordinate coordinate) {
+        int id = indexOf(coordinate);
+        if (id < 0 || cellCode(id) == NO_CELL) {
+            return null;
+        }
+        return cellAt(id);
+    }
+
+    @Override
+    public Cell getCell(int id) {
+        return cellCode(id) == NO_CELL ? null : cellAt(id);
+    }
+
+    @Override
+    public CellType getCellType(int id) {
+        byte code = cellCode(id);
+        return code == NO_CELL ? null : decode(id, code);
+    }
+
+    @Override
+    public int cellId(Coordinate coordinate) {
+        int id = indexOf(coordinate);
+        return id < 0 || cellCode(id) == NO_CELL ? Cell.NO_ID : id;
+    }
+
+    /**
+     * Номера ячеек сетки — их row-major индексы, поэтому граница равна площади сетки.
+     *
+     * @return Высота, умноженная на ширину.
+     */
+    @Override
+    public int cellIdBound() {
+        return gridSize;
+    }
+
+    @Override
+    public int gridHeight() {
+        return height;
+    }
+
+    @Override
+    public int gridWidth() {
+        return width;
+    }
+
+    /**
+     * Устанавливает тип ребра между двумя соседними ячейками сетки, добавляя ячейки при необходимости.
+     *
+     * @param from     Начальная ячейка.
+     * @param to       Конечная ячейка.
+     * @param edgeType Тип ребра.
+     * @throws IllegalArgumentException если ячейки не являются соседями по сетке.
+     */
+    @Override
+    public void addEdge(Cell from, Cell to, EdgeType edgeType) {
+        if (!isAdjacent(from.coordinate(), to.coordinate())) {
+            throw new IllegalArgumentException("Only adjacent cells of the grid can be connected");
+        }
+        addCell(from);
+        addCell(to);
+        writeEdge(edgeSlot(from.coordinate(), to.coordinate()), edgeType);
+        markEdgeModified(from, to);
+    }
+
+    /**
+     * В сетке ребро между соседями существует всегда, поэтому удаление превращает его в стену.
+     *
+     * @param from Начальная ячейка.
+     * @param to   Конечная ячейка.
+     */
+    @Override
+    public void removeEdge(Cell from, Cell to) {
+        updateEdgeType(from, to, EdgeType.WALL);
+    }
+
+    @Override
+    public List<Cell> getNeighbors(Cell cell) {
+        List<Cell> neighbors = new ArrayList<>();
+        int id = indexOf(cell.coordinate());
+        if (id < 0 || cellCode(id) == NO_CELL) {
+            return neighbors;
+        }
+        for (Direction direction : DIRECTIONS) {
+            int neighborId = neighborIndex(id, direction);
+            if (neighborId >= 0 && readEdge(edgeSlot(id, direction)).isPassable()) {
+                neighbors.add(cellAt(neighborId));
+            }
+        }
+        return neighbors;
+    }
+
+    @Override
+    public boolean containsCell(Cell cell) {
+        int id = indexOf(cell.coordinate());
+        return id >= 0 && cellCode(id) != NO_CELL;
+    }
+
+    /**
+     * Возвращает представление множества всех ячеек лабиринта. Ячейки создаются при обходе.
+     *
+     * @return Набор всех ячеек.
+     */
+    @Override
+    public Set<Cell> getAllCells() {
+        return new CellSet();
+    }
+
+    @Override
+    public EdgeType getEdgeType(Cell from, Cell to) {
+        int slot = edgeSlot(from.coordinate(), to.coordinate());
+        return slot < 0 ? null : readEdge(slot);
+    }
+
+    @Override
+    public void updateEdgeType(Cell from, Cell to, EdgeType newType) {
+        int slot = edgeSlot(from.coordinate(), to.coordinate());
+        if (slot >= 0) {
+            writeEdge(slot, newType);
+            markEdgeModified(from, to);
+        }
+    }
+
+    @Override
+    public List<Edge> getEdges(Cell cell) {
+        int id = indexOf(cell.coordinate());
+        if (id < 0 || cellCode(id) == NO_CELL) {
+            return Collections.emptyList();
+        }
+        Cell from = cellAt(id);
+        List<Edge> edges = new ArrayList<>(DIRECTIONS.length);
+        for (Direction direction : DIRECTIONS) {
+            int neighborId = neighborIndex(id, direction);
+            if (neighborId >= 0) {
+                edges.add(new GridEdge(from, cellAt(neighborId), edgeSlot(id, direction)));
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Возвращает курсор, который читает типы рёбер прямо из упакованных слов и не создаёт ячеек и рёбер.
+     *
+     * @return Новый курсор.
+     */
+    @Override
+    public NeighborCursor neighborCursor() {
+        return new GridCursor();
+    }
+
+    /**
+     * Возвращает неизменяемый снимок, который хранит копию упакованных данных в куче.
+     *
+     * @return Неизменяемый снимок лабиринта.
+     */
+    @Override
+    public Maze freeze() {
+        return new FrozenGridMaze(this);
+    }
+
+    /**
+     * Возвращает row-major индекс координаты или -1, если координата вне сетки.
+     */
+    private int indexOf(Coordinate coordinate) {
+        int row = coordinate.row();
+        int col = coordinate.col();
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            return -1;
+        }
+        return row * width + col;
+    }
+
+    /**
+     * Возвращает индекс добавленной соседней ячейки в заданном направлении или -1.
+     */
+    private int neighborIndex(int id, Direction direction) {
+        int row = id / width + direction.rowOffset();
+        int col = id % width + direction.colOffset();
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            return -1;
+        }
+        int neighborId = row * width + col;
+        return cellCode(neighborId) == NO_CELL ? -1 : neighborId;
+    }
+
+    /**
+     * Возвращает номер 2-битного поля ребра, ведущего из ячейки id в заданном направлении.
+     * Рёбра вверх и влево хранятся у соседней ячейки как рёбра вниз и вправо.
+     */
+    private int edgeSlot(int id, Direction direction) {
+        return switch (direction) {
+            case RIGHT -> id * EDGES_PER_CELL + RIGHT_SLOT;
+            case DOWN -> id * EDGES_PER_CELL + DOWN_SLOT;
+            case LEFT -> (id - 1) * EDGES_PER_CELL + RIGHT_SLOT;
+            case UP -> (id - width) * EDGES_PER_CELL + DOWN_SLOT;
+        };
+    }
+
+    /**
+     * Возвращает номер поля ребра между двумя добавленными соседними ячейками или -1, если ребра нет.
+     */
+    private int edgeSlot(Coordinate from, Coordinate to) {
+        int fromId = indexOf(from);
+        int toId = indexOf(to);
+        if (fromId < 0 || toId < 0 || cellCode(fromId) == NO_CELL || cellCode(toId) == NO_CELL
+            || !isAdjacent(from, to)) {
+            return -1;
+        }
+        int first = Math.min(fromId, toId);
+        return first * EDGES_PER_CELL + (from.row() == to.row() ? RIGHT_SLOT : DOWN_SLOT);
+    }
+
+    /**
+     * Возвращает номер поля ребра между двумя добавленными соседними ячейками, заданными номерами, или -1.
+     */
+    private int edgeSlot(int from, int to) {
+        if (from < 0 || from >= gridSize || to < 0 || to >= gridSize
+            || cellCode(from) == NO_CELL || cellCode(to) == NO_CELL) {
+            return -1;
+        }
+        int first = Math.min(from, to);
+        int second = Math.max(from, to);
+        if (second == first + 1 && second % width != 0) {
+            return first * EDGES_PER_CELL + RIGHT_SLOT;
+        }
+        if (second == first + width) {
+            return first * EDGES_PER_CELL + DOWN_SLOT;
+        }
+        return -1;
+    }
+
+    private boolean isAdjacent(Coordinate a, Coordinate b) {
+        return Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col()) == 1;
+    }
+
+    private EdgeType readEdge(int slot) {
+        int shift = slot % EDGES_PER_WORD * EDGE_BITS;
+        return EDGE_TYPES[(int) (edgeWord(slot / EDGES_PER_WORD) >>> shift & EDGE_MASK)];
+    }
+
+    private void writeEdge(int slot, EdgeType type) {
+        int word = slot / EDGES_PER_WORD;
+        int shift = slot % EDGES_PER_WORD * EDGE_BITS;
+        edgeWord(word, edgeWord(word) & ~(EDGE_MASK << shift) | (long) type.ordinal() << shift);
+    }
+
+    private static byte encode(CellType type) {
+        return (byte) (type.ordinal() + 1);
+    }
+
+    /**
+     * Возвращает тип добавленной ячейки по её коду. Код проверяется при каждом чтении, поэтому повреждённые
+     * данные, например из отображённого файла, обнаруживаются без предварительного прохода по всей сетке.
+     *
+     * @param id   Номер ячейки.
+     * @param code Код типа ячейки.
+     * @return Тип ячейки.
+     * @throws IllegalStateException если код не соответствует ни одному типу ячейки.
+     */
+    protected static CellType decode(int id, byte code) {
+        int ordinal = code - 1;
+        if (ordinal < 0 || ordinal >= CELL_TYPES.length) {
+            String message = "Invalid cell type code " + code + " of the cell " + id;
+            LOGGER.warning(message);
+            throw new IllegalStateException(message);
+        }
+        return CELL_TYPES[ordinal];
+    }
+
+    private Cell cellAt(int id) {
+        return new GridCell(id, decode(id, cellCode(id)));
+    }
+
+    /**
+     * Представление ячейки сетки: изменение типа записывается в лабиринт.
+     */
+    private final class GridCell extends Cell {
+        GridCell(int id, CellType cellType) {
+            super(id / width, id % width, cellType);
+        }
+
+        @Override
+        public Cell cellType(CellType cellType) {
+            cellCode(indexOf(coordinate()), encode(cellType));
+            markModified();
+            return super.cellType(cellType);
+        }
+    }
+
+    /**
+     * Представление ребра сетки: изменение типа записывается в лабиринт, в том числе и для обратного ребра,
+     * так как оба направления хранятся в одном поле.
+     */
+    private final class GridEdge extends Edge {
+        private final int slot;
+
+        GridEdge(Cell from, Cell to, int slot) {
+            super(from, to, readEdge(slot));
+            this.slot = slot;
+        }
+
+        @Override
+        public Edge type(EdgeType type) {
+            writeEdge(slot, type);
+            markEdgeModified(from(), to());
+            return super.type(type);
+        }
+    }
+
+    /**
+     * Курсор соседей ячейки сетки: перебирает направления и читает тип ребра из упакованного поля.
+     */
+    private final class GridCursor implements NeighborCursor {
+        private int id = -1;
+        private int direction;
+        private int neighborId;
+
+        @Override
+        public NeighborCursor reset(Cell cell) {
+            return reset(indexOf(cell.coordinate()));
+        }
+
+        @Override
+        public NeighborCursor reset(int cellId) {
+            id = cellId >= 0 && cellCode(cellId) != NO_CELL ? cellId : -1;
+            direction = 0;
+            neighborId = -1;
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            if (id < 0) {
+                return false;
+            }
+            while (direction < DIRECTIONS.length) {
+                neighborId = neighborIndex(id, DIRECTIONS[direction++]);
+                if (neighborId >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int row() {
+            return neighborId / width;
+        }
+
+        @Override
+        public int col() {
+            return neighborId % width;
+        }
+
+        @Override
+        public int id() {
+            return neighborId;
+        }
+
+        @Override
+        public EdgeType edgeType() {
+            return readEdge(edgeSlot(id, DIRECTIONS[direction - 1]));
+        }
+    }
+
+    /**
+     * Множество ячеек, которое обходит коды типов и создаёт ячейки по запросу.
+     */
+    private final class CellSet extends AbstractSet<Cell> {
+        @Override
+        public Iterator<Cell> iterator() {
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next < gridSize;
+                }
+
+                @Override
+                public Cell next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Cell cell = cellAt(next);
+                    next = advance(next + 1);
+                    return cell;
+                }
+
+                private int advance(int from) {
+                    int id = from;
+                    while (id < gridSize && cellCode(id) == NO_CELL) {
+                        id++;
+                    }
+                    return id;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return cellCount();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Cell cell && containsCell(cell);
+        }
+    }
+}
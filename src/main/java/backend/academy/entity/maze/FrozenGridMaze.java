@@ -0,0 +1,61 @@
+package backend.academy.entity.maze;
+
+/**
+ * Неизменяемый снимок лабиринта на сетке. Копирует коды ячеек и слова рёбер исходного лабиринта в собственные
+ * финальные массивы, поэтому безопасно публикуется и может читаться из нескольких потоков без синхронизации.
+ * Попытка изменить снимок, в том числе через сеттеры возвращённых ячеек и рёбер,
+ * завершится {@link UnsupportedOperationException}.
+ */
+public class FrozenGridMaze extends AbstractGridMaze {
+    private final byte[] cellTypes;
+    private final long[] edgeTypes;
+    private final int cellCount;
+
+    FrozenGridMaze(AbstractGridMaze source) {
+        super(source.height(), source.width());
+        int size = source.height() * source.width();
+        this.cellTypes = new byte[size];
+        int count = 0;
+        for (int id = 0; id < size; id++) {
+            cellTypes[id] = source.cellCode(id);
+            if (cellTypes[id] != NO_CELL) {
+                count++;
+            }
+        }
+        this.cellCount = count;
+        this.edgeTypes = new long[edgeWordCount(size)];
+        for (int word = 0; word < edgeTypes.length; word++) {
+            edgeTypes[word] = source.edgeWord(word);
+        }
+    }
+
+    @Override
+    public Maze freeze() {
+        return this;
+    }
+
+    @Override
+    protected int cellCount() {
+        return cellCount;
+    }
+
+    @Override
+    protected byte cellCode(int id) {
+        return cellTypes[id];
+    }
+
+    @Override
+    protected void cellCode(int id, byte code) {
+        throw new UnsupportedOperationException("The frozen maze is read-only");
+    }
+
+    @Override
+    protected long edgeWord(int word) {
+        return edgeTypes[word];
+    }
+
+    @Override
+    protected void edgeWord(int word, long value) {
+        throw new UnsupportedOperationException("The frozen maze is read-only");
+    }
+}
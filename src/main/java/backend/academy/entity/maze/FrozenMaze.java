@@ -0,0 +1,309 @@
+package backend.academy.entity.maze;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.edge.EdgeType;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Неизменяемый снимок произвольного лабиринта. Рёбра хранятся в сжатом построчном виде: рёбра ячейки i
+ * занимают позиции с offsets[i] по offsets[i + 1] - 1 в массивах targets и edgeTypes.
+ * <p>
+ * Все поля финальные и заполняются в конструкторе, поэтому снимок безопасно публикуется и может читаться
+ * из нескольких потоков без синхронизации. Ячейки и рёбра, которые он возвращает, тоже неизменяемы:
+ * их сеттеры, как и методы изменения лабиринта, бросают {@link UnsupportedOperationException}.
+ */
+public class FrozenMaze extends Maze {
+    private static final EdgeType[] EDGE_TYPES = EdgeType.values();
+    private static final int NO_CELL = -1;
+
+    private final Cell[] cells;
+    private final Object2IntOpenHashMap<Coordinate> cellIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final byte[] edgeTypes;
+
+    FrozenMaze(Maze source) {
+        super(Collections.emptyMap());
+        Set<Cell> sourceCells = source.getAllCells();
+        List<Cell> originals = new ArrayList<>(sourceCells.size());
+        cellIds = new Object2IntOpenHashMap<>(sourceCells.size());
+        cellIds.defaultReturnValue(NO_CELL);
+        for (Cell cell : sourceCells) {
+            if (cellIds.putIfAbsent(cell.coordinate(), originals.size()) == NO_CELL) {
+                originals.add(cell);
+            }
+        }
+
+        cells = new Cell[originals.size()];
+        offsets = new int[cells.length + 1];
+        IntArrayList targetList = new IntArrayList(cells.length * 2);
+        ByteArrayList typeList = new ByteArrayList(cells.length * 2);
+        for (int id = 0; id < cells.length; id++) {
+            cells[id] = new FrozenCell(originals.get(id));
+            for (Edge edge : source.getEdges(originals.get(id))) {
+                int target = cellIds.getInt(edge.to().coordinate());
+                if (target != NO_CELL) {
+                    targetList.add(target);
+                    typeList.add((byte) edge.type().ordinal());
+                }
+            }
+            offsets[id + 1] = targetList.size();
+        }
+        targets = targetList.toIntArray();
+        edgeTypes = typeList.toByteArray();
+    }
+
+    @Override
+    public Maze freeze() {
+        return this;
+    }
+
+    @Override
+    public void addCell(Cell cell) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addOrUpdateEdge(Cell from, Cell to, EdgeType edgeType) {
+        throw readOnly();
+    }
+
+    @Override
+    public Edge getEdge(Cell from, Cell to) {
+        int id = idOf(from);
+        int index = edgeIndex(id, idOf(to));
+        return index < 0 ? null : new FrozenEdge(cells[id], cells[targets[index]], EDGE_TYPES[edgeTypes[index]]);
+    }
+
+    @Override
+    public Cell getCell(Coordinate coordinate) {
+        int id = cellIds.getInt(coordinate);
+        return id == NO_CELL ? null : cells[id];
+    }
+
+    @Override
+    public Cell getCell(int id) {
+        return cells[id];
+    }
+
+    @Override
+    public int cellId(Coordinate coordinate) {
+        return cellIds.getInt(coordinate);
+    }
+
+    @Override
+    public int cellIdBound() {
+        return cells.length;
+    }
+
+    @Override
+    public void addEdge(Cell from, Cell to, EdgeType edgeType) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeEdge(Cell from, Cell to) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<Cell> getNeighbors(Cell cell) {
+        List<Cell> neighbors = new ArrayList<>();
+        int id = idOf(cell);
+        if (id != NO_CELL) {
+            for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                if (EDGE_TYPES[edgeTypes[i]].isPassable()) {
+                    neighbors.add(cells[targets[i]]);
+                }
+            }
+        }
+        return neighbors;
+    }
+
+    @Override
+    public boolean containsCell(Cell cell) {
+        return idOf(cell) != NO_CELL;
+    }
+
+    @Override
+    public Set<Cell> getAllCells() {
+        return new CellSet();
+    }
+
+    @Override
+    public EdgeType getEdgeType(Cell from, Cell to) {
+        int index = edgeIndex(idOf(from), idOf(to));
+        return index < 0 ? null : EDGE_TYPES[edgeTypes[index]];
+    }
+
+    @Override
+    public void updateEdgeType(Cell from, Cell to, EdgeType newType) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<Edge> getEdges(Cell cell) {
+        int id = idOf(cell);
+        if (id == NO_CELL) {
+            return Collections.emptyList();
+        }
+        List<Edge> edges = new ArrayList<>(offsets[id + 1] - offsets[id]);
+        for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+            edges.add(new FrozenEdge(cells[id], cells[targets[i]], EDGE_TYPES[edgeTypes[i]]));
+        }
+        return edges;
+    }
+
+    @Override
+    public NeighborCursor neighborCursor() {
+        return new FrozenCursor();
+    }
+
+    private int idOf(Cell cell) {
+        return cellIds.getInt(cell.coordinate());
+    }
+
+    /**
+     * Возвращает позицию ребра между ячейками в массивах targets и edgeTypes или -1, если ребра нет.
+     */
+    private int edgeIndex(int from, int to) {
+        if (from == NO_CELL || to == NO_CELL) {
+            return -1;
+        }
+        for (int i = offsets[from]; i < offsets[from + 1]; i++) {
+            if (targets[i] == to) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("The frozen maze is read-only");
+    }
+
+    /**
+     * Неизменяемая копия ячейки.
+     */
+    private static final class FrozenCell extends Cell {
+        FrozenCell(Cell cell) {
+            super(cell.coordinate().row(), cell.coordinate().col(), cell.cellType());
+        }
+
+        @Override
+        public Cell cellType(CellType cellType) {
+            throw readOnly();
+        }
+    }
+
+    /**
+     * Неизменяемое ребро снимка.
+     */
+    private static final class FrozenEdge extends Edge {
+        FrozenEdge(Cell from, Cell to, EdgeType type) {
+            super(from, to, type);
+        }
+
+        @Override
+        public Edge type(EdgeType type) {
+            throw readOnly();
+        }
+    }
+
+    /**
+     * Курсор, который перебирает рёбра ячейки в сжатых массивах снимка.
+     */
+    private final class FrozenCursor implements NeighborCursor {
+        private int next;
+        private int end;
+        private int edge;
+
+        @Override
+        public NeighborCursor reset(Cell cell) {
+            return reset(idOf(cell));
+        }
+
+        @Override
+        public NeighborCursor reset(int id) {
+            next = id == NO_CELL ? 0 : offsets[id];
+            end = id == NO_CELL ? 0 : offsets[id + 1];
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            if (next >= end) {
+                return false;
+            }
+            edge = next++;
+            return true;
+        }
+
+        @Override
+        public int row() {
+            return cells[targets[edge]].coordinate().row();
+        }
+
+        @Override
+        public int col() {
+            return cells[targets[edge]].coordinate().col();
+        }
+
+        @Override
+        public int id() {
+            return targets[edge];
+        }
+
+        @Override
+        public EdgeType edgeType() {
+            return EDGE_TYPES[edgeTypes[edge]];
+        }
+    }
+
+    /**
+     * Множество ячеек снимка, которое проверяет принадлежность по координатам.
+     */
+    private final class CellSet extends AbstractSet<Cell> {
+        @Override
+        public Iterator<Cell> iterator() {
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < cells.length;
+                }
+
+                @Override
+                public Cell next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return cells[next++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return cells.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Cell cell && containsCell(cell);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package backend.academy.entity.maze;
+
+/**
+ * Компактный лабиринт на сетке, который хранит коды ячеек в массиве byte[], а упакованные типы рёбер —
+ * в массиве long[]. В сумме это около 1,25 байта на ячейку вместо сотен байт в {@link Maze}.
+ */
+public class GridMaze extends AbstractGridMaze {
+    private final byte[] cellTypes;
+    private final long[] edgeTypes;
+
+    public GridMaze(int height, int width) {
+        super(height, width);
+        this.cellTypes = new byte[height * width];
+        this.edgeTypes = new long[edgeWordCount(height * width)];
+    }
+
+    @Override
+    protected byte cellCode(int id) {
+        return cellTypes[id];
+    }
+
+    @Override
+    protected void cellCode(int id, byte code) {
+        cellTypes[id] = code;
+    }
+
+    @Override
+    protected long edgeWord(int word) {
+        return edgeTypes[word];
+    }
+
+    @Override
+    protected void edgeWord(int word, long value) {
+        edgeTypes[word] = value;
+    }
+}
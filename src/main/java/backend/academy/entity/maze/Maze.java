@@ -1,27 +1,74 @@
 package backend.academy.entity.maze;
 
 import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
 import backend.academy.entity.cell.Coordinate;
 import backend.academy.entity.edge.Edge;
 import backend.academy.entity.edge.EdgeType;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Класс Maze представляет лабиринт, построенный в виде графа, где каждая ячейка соединена ребрами с соседними
  * ячейками. Лабиринт хранится как список смежности (adjacencyEdgeMap), где каждая ячейка содержит список рёбер,
- * указывающих на соседние ячейки.
+ * указывающих на соседние ячейки. Для поиска ячейки по координатам лабиринт поддерживает индекс: плотный массив
+ * по row-major номеру, если размеры лабиринта известны, и хеш-таблицу для остальных ячеек. Позиция ячейки
+ * в индексе служит её номером ({@link #cellId(Coordinate)}), по которому алгоритмы могут адресовать массивы.
  */
 
 public class Maze {
     // Карта, где ключом является ячейка, а значением — список рёбер, ведущих к соседним ячейкам.
     private final Map<Cell, List<Edge>> adjacencyEdgeMap;
+    // Плотный индекс ячеек по row-major номеру; пуст, если размеры лабиринта неизвестны.
+    private final Cell[] cellGrid;
+    private final int gridHeight;
+    private final int gridWidth;
+    // Ячейки, не попавшие в плотный массив, и их номера; номера продолжают нумерацию плотного массива.
+    private final List<Cell> overflowCells = new ArrayList<>();
+    private final Object2IntOpenHashMap<Coordinate> overflowIds = newOverflowIds();
+    // Номер версии структуры лабиринта; увеличивается при каждом изменении через методы лабиринта.
+    private long version;
+    // Подписчики на изменения рёбер; список копируется при записи, так как подписка редка, а события часты
+    private final List<MazeChangeListener> changeListeners = new CopyOnWriteArrayList<>();
 
     public Maze() {
-        adjacencyEdgeMap = new HashMap<>();
+        this(new HashMap<>());
+    }
+
+    /**
+     * Создаёт лабиринт с известными размерами. Ячейки внутри границ индексируются плотным массивом,
+     * поэтому поиск ячейки по координатам не требует хеширования.
+     *
+     * @param height Высота лабиринта.
+     * @param width  Ширина лабиринта.
+     */
+    public Maze(int height, int width) {
+        if (height < 1 || width < 1) {
+            throw new IllegalArgumentException("The dimensions of the maze must be positive");
+        }
+        this.adjacencyEdgeMap = new HashMap<>();
+        this.cellGrid = new Cell[Math.multiplyExact(height, width)];
+        this.gridHeight = height;
+        this.gridWidth = width;
+    }
+
+    /**
+     * Конструктор для наследников, которые хранят структуру лабиринта самостоятельно
+     * и не используют список смежности.
+     *
+     * @param adjacencyEdgeMap Карта смежности, используемая базовой реализацией.
+     */
+    protected Maze(Map<Cell, List<Edge>> adjacencyEdgeMap) {
+        this.adjacencyEdgeMap = adjacencyEdgeMap;
+        this.cellGrid = new Cell[0];
+        this.gridHeight = 0;
+        this.gridWidth = 0;
     }
 
     /**
@@ -30,7 +77,29 @@ public class Maze {
      * @param cell Ячейка для добавления.
      */
     public void addCell(Cell cell) {
-        adjacencyEdgeMap.putIfAbsent(cell, new ArrayList<>());
+        if (adjacencyEdgeMap.putIfAbsent(cell, new ArrayList<>()) == null) {
+            indexCell(cell);
+            markModified();
+        }
+    }
+
+    /**
+     * Возвращает высоту плотной части нумерации. Ячейка с номером меньше gridHeight() * gridWidth() лежит
+     * в строке id / gridWidth() и столбце id % gridWidth(), остальные номера выдаются по порядку добавления.
+     *
+     * @return Высота сетки или 0, если размеры лабиринта неизвестны.
+     */
+    public int gridHeight() {
+        return gridHeight;
+    }
+
+    /**
+     * Возвращает ширину плотной части нумерации, см. {@link #gridHeight()}.
+     *
+     * @return Ширина сетки или 0, если размеры лабиринта неизвестны.
+     */
+    public int gridWidth() {
+        return gridWidth;
     }
 
     /**
@@ -45,6 +114,7 @@ public class Maze {
         Edge existingEdge = getEdge(from, to);
         if (existingEdge != null) {
             existingEdge.type(edgeType);
+            markEdgeModified(from, to);
         } else {
             addEdge(from, to, edgeType);
         }
@@ -76,10 +146,57 @@ public class Maze {
      * @return Ячейка по данным координатам, или null, если ячейка не найдена.
      */
     public Cell getCell(Coordinate coordinate) {
-        return adjacencyEdgeMap.keySet().stream()
-            .filter(cell -> cell.coordinate().equals(coordinate))
-            .findFirst()
-            .orElse(null);
+        int id = cellId(coordinate);
+        return id == Cell.NO_ID ? null : getCell(id);
+    }
+
+    /**
+     * Получает ячейку по её номеру.
+     *
+     * @param id Номер ячейки от 0 до {@link #cellIdBound()} - 1.
+     * @return Ячейка с данным номером, или null, если номер свободен.
+     */
+    public Cell getCell(int id) {
+        if (id < cellGrid.length) {
+            return cellGrid[id];
+        }
+        return overflowCells.get(id - cellGrid.length);
+    }
+
+    /**
+     * Возвращает тип ячейки по её номеру.
+     *
+     * @param id Номер ячейки от 0 до {@link #cellIdBound()} - 1.
+     * @return Тип ячейки, или null, если номер свободен.
+     */
+    public CellType getCellType(int id) {
+        Cell cell = getCell(id);
+        return cell == null ? null : cell.cellType();
+    }
+
+    /**
+     * Возвращает номер ячейки по координатам. Для лабиринта с известными размерами это row-major номер,
+     * остальные ячейки нумеруются по порядку добавления. Номер ячейки не меняется, пока она в лабиринте.
+     *
+     * @param coordinate Координаты ячейки.
+     * @return Номер ячейки или {@link Cell#NO_ID}, если ячейки нет.
+     */
+    public int cellId(Coordinate coordinate) {
+        int id = gridIndex(coordinate);
+        if (id >= 0) {
+            return cellGrid[id] == null ? Cell.NO_ID : id;
+        }
+        return overflowIds.getInt(coordinate);
+    }
+
+    /**
+     * Возвращает верхнюю границу номеров ячеек: все номера лежат в диапазоне от 0 до этого значения.
+     * Массивы такого размера можно индексировать номерами ячеек.
+     *
+     * @return Количество возможных номеров ячеек.
+     */
+    public int cellIdBound() {
+        return cellGrid.length + overflowCells.size();
     }
 
     /**
@@ -91,9 +208,10 @@ public class Maze {
      */
     public void addEdge(Cell from, Cell to, EdgeType edgeType) {
         Edge edge = new Edge(from, to, edgeType);
-        adjacencyEdgeMap.computeIfAbsent(from, i -> new ArrayList<>()).add(edge);
+        adjacencyEdgeMap.computeIfAbsent(from, this::newEdgeList).add(edge);
         Edge reverseEdge = new Edge(to, from, edgeType);
-        adjacencyEdgeMap.computeIfAbsent(to, i -> new ArrayList<>()).add(reverseEdge);
+        adjacencyEdgeMap.computeIfAbsent(to, this::newEdgeList).add(reverseEdge);
+        markEdgeModified(from, to);
     }
 
     /**
@@ -112,6 +230,7 @@ public class Maze {
         if (edgesTo != null) {
             edgesTo.removeIf(edge -> edge.to().equals(from));
         }
+        markEdgeModified(from, to);
     }
 
     /**
@@ -197,6 +316,67 @@ public class Maze {
                 }
             }
         }
+        markEdgeModified(from, to);
+    }
+
+    /**
+     * Возвращает номер версии лабиринта. Номер увеличивается при каждом изменении ячеек или рёбер через методы
+     * лабиринта, поэтому по паре (лабиринт, версия) можно кешировать результаты, вычисленные по его структуре.
+     * Изменение типа ячейки или ребра напрямую через их сеттеры в базовой реализации не отслеживается.
+     *
+     * @return Номер версии.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Отмечает изменение структуры лабиринта, увеличивая номер версии.
+     */
+    protected void markModified() {
+        version++;
+    }
+
+    /**
+     * Подписывает слушателя на изменения рёбер, сделанные через методы лабиринта. Как и для
+     * {@link #version()}, изменение типа ребра напрямую через его сеттер в базовой реализации не сообщается.
+     *
+     * @param listener Слушатель.
+     */
+    public void addChangeListener(MazeChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Отписывает слушателя от изменений рёбер.
+     *
+     * @param listener Слушатель.
+     */
+    public void removeChangeListener(MazeChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Проверяет, есть ли подписчики на изменения рёбер. Позволяет наследникам не создавать ячейки для
+     * оповещения, когда оповещать некого.
+     *
+     * @return true, если есть хотя бы один слушатель.
+     */
+    protected boolean hasChangeListeners() {
+        return !changeListeners.isEmpty();
+    }
+
+    /**
+     * Отмечает изменение ребра между ячейками: увеличивает номер версии и оповещает слушателей.
+     *
+     * @param from Первая ячейка ребра.
+     * @param to   Вторая ячейка ребра.
+     */
+    protected void markEdgeModified(Cell from, Cell to) {
+        markModified();
+        for (MazeChangeListener listener : changeListeners) {
+            listener.edgeChanged(this, from, to);
+        }
     }
 
     /**
@@ -206,6 +386,123 @@ public class Maze {
      * @return Список рёбер, исходящих из ячейки.
      */
     public List<Edge> getEdges(Cell cell) {
-        return adjacencyEdgeMap.getOrDefault(cell, new ArrayList<>());
+        return adjacencyEdgeMap.getOrDefault(cell, Collections.emptyList());
+    }
+
+    /**
+     * Создаёт курсор для обхода соседей ячеек без выделения памяти на каждую ячейку.
+     * Один курсор можно переиспользовать для любого количества ячеек этого лабиринта.
+     *
+     * @return Новый курсор.
+     */
+    public NeighborCursor neighborCursor() {
+        return new EdgeListCursor();
+    }
+
+    /**
+     * Возвращает неизменяемый компактный снимок лабиринта. Снимок безопасно публикуется, поэтому несколько
+     * потоков могут одновременно искать в нём пути без блокировок и защитных копий. Последующие изменения
+     * исходного лабиринта на снимок не влияют.
+     *
+     * @return Неизменяемый снимок лабиринта.
+     */
+    public Maze freeze() {
+        return new FrozenMaze(this);
+    }
+
+    /**
+     * Создаёт список рёбер для новой ячейки и добавляет её в индекс координат.
+     */
+    private List<Edge> newEdgeList(Cell cell) {
+        indexCell(cell);
+        return new ArrayList<>();
+    }
+
+    /**
+     * Добавляет ячейку в индекс координат и назначает ей номер, если по этим координатам ячейки ещё нет.
+     */
+    private void indexCell(Cell cell) {
+        int id = gridIndex(cell.coordinate());
+        if (id >= 0) {
+            if (cellGrid[id] == null) {
+                cellGrid[id] = cell;
+            }
+        } else if (!overflowIds.containsKey(cell.coordinate())) {
+            overflowIds.put(cell.coordinate(), cellIdBound());
+            overflowCells.add(cell);
+        }
+    }
+
+    private static Object2IntOpenHashMap<Coordinate> newOverflowIds() {
+        Object2IntOpenHashMap<Coordinate> ids = new Object2IntOpenHashMap<>();
+        ids.defaultReturnValue(Cell.NO_ID);
+        return ids;
+    }
+
+    /**
+     * Возвращает row-major номер координаты в плотном индексе или -1, если она вне его границ.
+     */
+    private int gridIndex(Coordinate coordinate) {
+        int row = coordinate.row();
+        int col = coordinate.col();
+        if (row < 0 || row >= gridHeight || col < 0 || col >= gridWidth) {
+            return -1;
+        }
+        return row * gridWidth + col;
+    }
+
+    /**
+     * Курсор, который обходит список рёбер ячейки по индексу, не создавая итератор.
+     */
+    private final class EdgeListCursor implements NeighborCursor {
+        private List<Edge> edges = Collections.emptyList();
+        private Edge edge;
+        private int next;
+
+        @Override
+        public NeighborCursor reset(Cell cell) {
+            edges = getEdges(cell);
+            edge = null;
+            next = 0;
+            return this;
+        }
+
+        @Override
+        public NeighborCursor reset(int id) {
+            Cell cell = getCell(id);
+            edges = cell == null ? Collections.emptyList() : getEdges(cell);
+            edge = null;
+            next = 0;
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            if (next >= edges.size()) {
+                return false;
+            }
+            edge = edges.get(next++);
+            return true;
+        }
+
+        @Override
+        public int row() {
+            return edge.to().coordinate().row();
+        }
+
+        @Override
+        public int col() {
+            return edge.to().coordinate().col();
+        }
+
+        @Override
+        public int id() {
+            return cellId(edge.to().coordinate());
+        }
+
+        @Override
+        public EdgeType edgeType() {
+            return edge.type();
+        }
     }
 }
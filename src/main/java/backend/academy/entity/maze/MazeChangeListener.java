@@ -0,0 +1,21 @@
+package backend.academy.entity.maze;
+
+import backend.academy.entity.cell.Cell;
+
+/**
+ * Слушатель изменений рёбер лабиринта. Подписывается через {@link Maze#addChangeListener(MazeChangeListener)}
+ * и вызывается синхронно в потоке, изменившем лабиринт, уже после изменения.
+ */
+@FunctionalInterface
+public interface MazeChangeListener {
+    /**
+     * Вызывается, когда ребро между ячейками добавлено, удалено или сменило тип. Рёбра лабиринта парные,
+     * поэтому событие относится к обоим направлениям; актуальный тип можно прочитать через
+     * {@link Maze#getEdgeType}.
+     *
+     * @param maze Изменённый лабиринт.
+     * @param from Первая ячейка ребра.
+     * @param to   Вторая ячейка ребра.
+     */
+    void edgeChanged(Maze maze, Cell from, Cell to);
+}
@@ -0,0 +1,72 @@
+package backend.academy.entity.maze;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.edge.EdgeType;
+
+/**
+ * Курсор для обхода соседей ячейки без создания списков, ячеек и рёбер. Курсор получают один раз
+ * через {@link Maze#neighborCursor()} и переиспользуют для всех ячеек:
+ * <pre>{@code
+ * NeighborCursor cursor = maze.neighborCursor();
+ * cursor.reset(cell);
+ * while (cursor.next()) {
+ *     if (cursor.edgeType().isPassable()) {
+ *         visit(cursor.row(), cursor.col());
+ *     }
+ * }
+ * }</pre>
+ * Курсор не потокобезопасен; после изменения лабиринта его нужно заново установить на ячейку.
+ */
+public interface NeighborCursor {
+    /**
+     * Устанавливает курсор перед первым соседом ячейки. Для ячейки, которой нет в лабиринте, обход пуст.
+     *
+     * @param cell Ячейка, соседей которой нужно обойти.
+     * @return Этот же курсор.
+     */
+    NeighborCursor reset(Cell cell);
+
+    /**
+     * Устанавливает курсор перед первым соседом ячейки с заданным номером ({@link Maze#cellId}).
+     * Для свободного номера обход пуст.
+     *
+     * @param id Номер ячейки от 0 до {@link Maze#cellIdBound()} - 1.
+     * @return Этот же курсор.
+     */
+    NeighborCursor reset(int id);
+
+    /**
+     * Переходит к следующему соседу.
+     *
+     * @return true, если сосед есть, иначе false.
+     */
+    boolean next();
+
+    /**
+     * Возвращает строку текущего соседа.
+     *
+     * @return Номер строки.
+     */
+    int row();
+
+    /**
+     * Возвращает столбец текущего соседа.
+     *
+     * @return Номер столбца.
+     */
+    int col();
+
+    /**
+     * Возвращает номер текущего соседа в лабиринте.
+     *
+     * @return Номер соседа или {@link Cell#NO_ID}, если соседа нет в лабиринте.
+     */
+    int id();
+
+    /**
+     * Возвращает тип ребра, ведущего к текущему соседу.
+     *
+     * @return Тип ребра.
+     */
+    EdgeType edgeType();
+}
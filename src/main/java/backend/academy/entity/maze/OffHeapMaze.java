@@ -0,0 +1,96 @@
+package backend.academy.entity.maze;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * Компактный лабиринт на сетке, данные которого лежат вне кучи Java в сегментах памяти из переданной
+ * {@link Arena}. Такой лабиринт не занимает место в куче и не увеличивает паузы сборщика мусора.
+ * <p>
+ * Временем жизни памяти управляет владелец арены: после закрытия арены любое обращение к лабиринту
+ * завершится {@link IllegalStateException}. Читать лабиринт из нескольких потоков можно, только если
+ * арена разделяемая ({@link Arena#ofShared()}).
+ */
+public class OffHeapMaze extends AbstractGridMaze {
+    // Слова рёбер всегда хранятся в little-endian, чтобы сегменты можно было отображать из файла на любой платформе
+    private static final ValueLayout.OfLong EDGE_WORD = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final MemorySegment cellTypes;
+    private final MemorySegment edgeTypes;
+
+    /**
+     * Выделяет память под лабиринт заданного размера.
+     *
+     * @param height Высота лабиринта.
+     * @param width  Ширина лабиринта.
+     * @param arena  Арена, из которой выделяется память и которая определяет время её жизни.
+     */
+    public OffHeapMaze(int height, int width, Arena arena) {
+        this(height, width, arena.allocate(cellPlaneSize(height, width), Long.BYTES).fill(NO_CELL),
+            arena.allocate(edgePlaneSize(height, width), Long.BYTES).fill(NO_CELL), 0);
+    }
+
+    /**
+     * Создаёт лабиринт поверх уже существующих сегментов, например отображённых из файла.
+     *
+     * @param height    Высота лабиринта.
+     * @param width     Ширина лабиринта.
+     * @param cellTypes Сегмент с кодами ячеек размером не меньше {@link #cellPlaneSize(int, int)}.
+     * @param edgeTypes Сегмент со словами рёбер размером не меньше {@link #edgePlaneSize(int, int)},
+     *                  выровненный по 8 байтам.
+     * @param cellCount Количество ячеек, уже записанных в сегменты.
+     */
+    public OffHeapMaze(int height, int width, MemorySegment cellTypes, MemorySegment edgeTypes, int cellCount) {
+        super(height, width, cellCount);
+        if (cellTypes.byteSize() < cellPlaneSize(height, width)
+            || edgeTypes.byteSize() < edgePlaneSize(height, width)) {
+            throw new IllegalArgumentException("The segments are too small for the maze dimensions");
+        }
+        this.cellTypes = cellTypes;
+        this.edgeTypes = edgeTypes;
+    }
+
+    /**
+     * Возвращает размер в байтах плоскости кодов ячеек для лабиринта заданного размера.
+     *
+     * @param height Высота лабиринта.
+     * @param width  Ширина лабиринта.
+     * @return Размер плоскости ячеек в байтах.
+     */
+    public static long cellPlaneSize(int height, int width) {
+        return (long) height * width;
+    }
+
+    /**
+     * Возвращает размер в байтах плоскости слов рёбер для лабиринта заданного размера.
+     *
+     * @param height Высота лабиринта.
+     * @param width  Ширина лабиринта.
+     * @return Размер плоскости рёбер в байтах.
+     */
+    public static long edgePlaneSize(int height, int width) {
+        return (long) edgeWordCount(Math.multiplyExact(height, width)) * Long.BYTES;
+    }
+
+    @Override
+    protected byte cellCode(int id) {
+        return cellTypes.get(ValueLayout.JAVA_BYTE, id);
+    }
+
+    @Override
+    protected void cellCode(int id, byte code) {
+        cellTypes.set(ValueLayout.JAVA_BYTE, id, code);
+    }
+
+    @Override
+    protected long edgeWord(int word) {
+        return edgeTypes.getAtIndex(EDGE_WORD, word);
+    }
+
+    @Override
+    protected void edgeWord(int word, long value) {
+        edgeTypes.setAtIndex(EDGE_WORD, word, value);
+    }
+}
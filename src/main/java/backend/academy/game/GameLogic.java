@@ -12,6 +12,7 @@ import backend.academy.mazetype.MazeTypeProviderType;
 import backend.academy.render.Render;
 import backend.academy.solver.SolverFactory;
 import backend.academy.solver.SolverType;
+import backend.academy.solver.graph.MazeGraph;
 import backend.academy.utils.MazeBoundarySelector;
 import java.util.logging.Logger;
 import lombok.RequiredArgsConstructor;
@@ -96,6 +97,9 @@ public class GameLogic {
                         LOGGER.info("Cycles added to maze.");
                     }
 
+                    // Дальше лабиринт только читается, поэтому работаем с неизменяемым снимком
+                    maze = maze.freeze();
+
                     gameIORender.print(render.render(maze));
 
                     yield gameFlowManager.next(currentState);
@@ -149,15 +153,18 @@ public class GameLogic {
     }
 
     private Path solveMaze(
-        Maze maze,
+        MazeGraph graph,
         Coordinate startPoint,
         Coordinate endPoint,
-        SolverType solverType,
-        MazeTypeProviderType mazeTypeProviderType
+        SolverType solverType
     ) {
         LOGGER.info("Solving maze with " + solverType);
         var solver = solverFactory.getSolver(solverType);
-        return solver.solve(maze, startPoint, endPoint, mazeTypeProviderFactory.getProvider(mazeTypeProviderType));
+        return solver.solve(graph, startPoint, endPoint);
+    }
+
+    private MazeGraph buildGraph(Maze maze, MazeTypeProviderType mazeTypeProviderType) {
+        return MazeGraph.of(maze, mazeTypeProviderFactory.getProvider(mazeTypeProviderType));
     }
 
     private void outputResults(
@@ -167,10 +174,16 @@ public class GameLogic {
         SolverType solverType,
         MazeTypeProviderType mazeTypeProviderType
     ) {
-        Path result = solveMaze(maze, startPoint, endPoint, solverType, mazeTypeProviderType);
+        MazeGraph graph = buildGraph(maze, mazeTypeProviderType);
+        // В лабиринте без циклов путь единственен, и индекс дерева находит его без поиска
+        SolverType engine = solverFactory.isTree(graph) ? SolverType.TREE : solverType;
+        if (engine != solverType) {
+            LOGGER.info("Maze has no cycles, using " + engine + " instead of " + solverType);
+        }
+        Path result = solveMaze(graph, startPoint, endPoint, engine);
         gameIORender.print(render.render(maze, result.coordinates()));
-        gameIORender.print(solverType + DELIMITER + result.totalCost());
-        LOGGER.info("Result for  " + solverType + ": total cost = " + result.totalCost());
+        gameIORender.print(engine + DELIMITER + result.totalCost());
+        LOGGER.info("Result for  " + engine + ": total cost = " + result.totalCost());
     }
 
     private void outputResultsForAllSolutions(
@@ -179,9 +192,11 @@ public class GameLogic {
         Coordinate endPoint,
         MazeTypeProviderType mazeTypeProviderType
     ) {
+        // Граф строится один раз и используется всеми алгоритмами
+        MazeGraph graph = buildGraph(maze, mazeTypeProviderType);
         for (SolverType solverType : SolverType.values()) {
             if (solverType != SolverType.ALL) {
-                Path solution = solveMaze(maze, startPoint, endPoint, solverType, mazeTypeProviderType);
+                Path solution = solveMaze(graph, startPoint, endPoint, solverType);
                 gameIORender.print(solverType + DELIMITER + solution.totalCost());
                 LOGGER.info("Result for " + solverType + " : total cost = " + solution.totalCost());
             }
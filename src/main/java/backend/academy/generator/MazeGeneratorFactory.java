@@ -18,7 +18,17 @@ public class MazeGeneratorFactory {
     private final Generator recursiveDivisionGenerator;
 
     public MazeGeneratorFactory(RandomGenerator randomGenerator) {
-        MazeUtils mazeUtils = new MazeUtils();
+        this(randomGenerator, new MazeUtils());
+    }
+
+    /**
+     * Создаёт фабрику, генераторы которой создают лабиринты через переданные утилиты,
+     * например вне кучи.
+     *
+     * @param randomGenerator Генератор случайных чисел.
+     * @param mazeUtils       Утилиты для работы с лабиринтом.
+     */
+    public MazeGeneratorFactory(RandomGenerator randomGenerator, MazeUtils mazeUtils) {
         this.growingTreeGenerator =
             new GrowingTreeMazeGenerator(randomGenerator, mazeUtils, SelectionStrategyGrowingTree.RANDOM);
         this.huntAndKillGenerator = new HuntAndKillMazeGenerator(randomGenerator, mazeUtils);
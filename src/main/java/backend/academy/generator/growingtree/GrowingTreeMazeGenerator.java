@@ -1,14 +1,14 @@
 package backend.academy.generator.growingtree;
 
-import backend.academy.entity.cell.Cell;
-import backend.academy.entity.edge.Edge;
+import backend.academy.entity.maze.AbstractGridMaze;
 import backend.academy.entity.maze.Maze;
+import backend.academy.entity.maze.NeighborCursor;
 import backend.academy.generator.Generator;
 import backend.academy.mazetype.MazeTypeProvider;
 import backend.academy.random.RandomGenerator;
 import backend.academy.utils.MazeUtils;
-import java.util.ArrayList;
-import java.util.List;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.BitSet;
 import java.util.logging.Logger;
 import lombok.AllArgsConstructor;
 import lombok.Setter;
@@ -35,43 +35,39 @@ public class GrowingTreeMazeGenerator implements Generator {
             LOGGER.warning("The dimensions of the maze must be positive.");
             throw new IllegalArgumentException("The dimensions of the maze must be positive");
         }
-        Maze maze = new Maze();
-        Cell[][] grid = new Cell[height][width];
-        boolean[][] visited = new boolean[height][width];
+        AbstractGridMaze maze = mazeUtils.createMaze(height, width);
+        mazeUtils.initializeGridAndWalls(maze, typeProvider);
 
-        mazeUtils.initializeGridAndWalls(height, width, grid, maze, typeProvider);
-
-        List<Cell> activeCells = new ArrayList<>();
+        // Посещённые и активные ячейки хранятся по row-major номерам
+        BitSet visited = new BitSet(height * width);
+        IntArrayList activeCells = new IntArrayList();
+        NeighborCursor cursor = maze.neighborCursor();
 
         int startRow = randomGenerator.nextInt(height);
         int startCol = randomGenerator.nextInt(width);
-        Cell startCell = grid[startRow][startCol];
+        int start = startRow * width + startCol;
 
         // Помечаем стартовую ячейку как посещённую
-        visited[startRow][startCol] = true;
-        activeCells.add(startCell);
+        visited.set(start);
+        activeCells.add(start);
 
         // Пока есть активные ячейки
         while (!activeCells.isEmpty()) {
-            Cell currentCell = selectActiveCell(activeCells, selectionStrategy);
-
-            // Получаем список не посещённых соседей
-            List<Edge> unvisitedNeighbors = mazeUtils.getUnvisitedNeighbors(maze, currentCell, visited);
-
-            if (!unvisitedNeighbors.isEmpty()) {
-                // Если есть не посещённые соседи, выбираем случайного соседа
-                Edge edge = unvisitedNeighbors.get(randomGenerator.nextInt(unvisitedNeighbors.size()));
+            int index = selectActiveCell(activeCells, selectionStrategy);
+            int current = activeCells.getInt(index);
 
+            // Ищем случайного не посещённого соседа
+            if (mazeUtils.moveToRandomUnvisitedNeighbor(cursor, current, visited, randomGenerator)) {
                 // Устанавливаем проход между текущей ячейкой и выбранным соседом
-                mazeUtils.setPassableEdgeAndReverse(maze, edge, typeProvider);
+                int neighbor = cursor.id();
+                mazeUtils.setPassableEdgeAndReverse(maze, current, neighbor, typeProvider);
 
                 // Помечаем соседа как посещённого и добавляем его в активные ячейки
-                Cell neighborCell = edge.to();
-                visited[neighborCell.coordinate().row()][neighborCell.coordinate().col()] = true;
-                activeCells.add(neighborCell);
+                visited.set(neighbor);
+                activeCells.add(neighbor);
             } else {
                 // Убираем текущую ячейку из активных ячеек
-                activeCells.remove(currentCell);
+                removeActiveCell(activeCells, index, selectionStrategy);
             }
         }
 
@@ -81,14 +77,31 @@ public class GrowingTreeMazeGenerator implements Generator {
     /**
      * Выбирает активную ячейку на основе выбранной стратегии.
      *
-     * @param activeCells Список активных ячеек.
-     * @return Выбранная активная ячейка.
+     * @param activeCells Номера активных ячеек.
+     * @return Позиция выбранной ячейки в списке активных.
      */
-    private Cell selectActiveCell(List<Cell> activeCells, SelectionStrategyGrowingTree selectionStrategy) {
+    private int selectActiveCell(IntArrayList activeCells, SelectionStrategyGrowingTree selectionStrategy) {
         return switch (selectionStrategy) {
-            case RANDOM -> activeCells.get(randomGenerator.nextInt(activeCells.size()));
-            case LAST -> activeCells.getLast();
-            case FIRST -> activeCells.getFirst();
+            case RANDOM -> randomGenerator.nextInt(activeCells.size());
+            case LAST -> activeCells.size() - 1;
+            case FIRST -> 0;
         };
     }
+
+    /**
+     * Убирает ячейку из активных. При случайном выборе порядок активных ячеек не важен, поэтому на место
+     * убранной переставляется последняя; для остальных стратегий порядок сохраняется.
+     *
+     * @param activeCells Номера активных ячеек.
+     * @param index       Позиция убираемой ячейки.
+     */
+    private void removeActiveCell(IntArrayList activeCells, int index, SelectionStrategyGrowingTree selectionStrategy) {
+        int last = activeCells.size() - 1;
+        if (selectionStrategy == SelectionStrategyGrowingTree.RANDOM) {
+            activeCells.set(index, activeCells.getInt(last));
+            activeCells.removeInt(last);
+        } else {
+            activeCells.removeInt(index);
+        }
+    }
 }
@@ -1,13 +1,13 @@
 package backend.academy.generator.huntandkill;
 
-import backend.academy.entity.cell.Cell;
-import backend.academy.entity.edge.Edge;
+import backend.academy.entity.maze.AbstractGridMaze;
 import backend.academy.entity.maze.Maze;
+import backend.academy.entity.maze.NeighborCursor;
 import backend.academy.generator.Generator;
 import backend.academy.mazetype.MazeTypeProvider;
 import backend.academy.random.RandomGenerator;
 import backend.academy.utils.MazeUtils;
-import java.util.List;
+import java.util.BitSet;
 import java.util.logging.Logger;
 import lombok.RequiredArgsConstructor;
 
@@ -32,63 +32,45 @@ public class HuntAndKillMazeGenerator implements Generator {
             throw new IllegalArgumentException("The dimensions of the maze must be positive");
         }
 
-        Cell[][] grid = new Cell[height][width];
-        Maze maze = new Maze();
-        boolean[][] visited = new boolean[height][width];
+        AbstractGridMaze maze = mazeUtils.createMaze(height, width);
+        mazeUtils.initializeGridAndWalls(maze, typeProvider);
 
-        mazeUtils.initializeGridAndWalls(height, width, grid, maze, typeProvider);
+        // Посещённые ячейки по row-major номерам
+        int size = height * width;
+        BitSet visited = new BitSet(size);
+        NeighborCursor cursor = maze.neighborCursor();
 
         int currentRow = randomGenerator.nextInt(height);
         int currentCol = randomGenerator.nextInt(width);
-        Cell currentCell = grid[currentRow][currentCol];
+        int current = currentRow * width + currentCol;
         // Помечаем стартовую ячейку как посещённую
-        visited[currentRow][currentCol] = true;
+        visited.set(current);
 
         while (true) {
             // Фаза случайного блуждания (убийство)
-            List<Edge> unvisitedNeighbors = mazeUtils.getUnvisitedNeighbors(maze, currentCell, visited);
-
-            if (!unvisitedNeighbors.isEmpty()) {
-                // Если есть не посещённые соседи, выбираем случайного соседа
-                Edge edge = unvisitedNeighbors.get(randomGenerator.nextInt(unvisitedNeighbors.size()));
+            if (mazeUtils.moveToRandomUnvisitedNeighbor(cursor, current, visited, randomGenerator)) {
+                // Если есть не посещённые соседи, выбран случайный сосед
+                int neighbor = cursor.id();
 
                 // Устанавливаем проход между текущей ячейкой и выбранным соседом
-                mazeUtils.setPassableEdgeAndReverse(maze, edge, typeProvider);
-
-                // Переход к следующей ячейке
-                currentCell = edge.to();
-                int row = currentCell.coordinate().row();
-                int col = currentCell.coordinate().col();
+                mazeUtils.setPassableEdgeAndReverse(maze, current, neighbor, typeProvider);
 
-                // Помечаем её как посещённую
-                visited[row][col] = true;
+                // Переход к следующей ячейке и пометка её как посещённой
+                current = neighbor;
+                visited.set(neighbor);
             } else {
-                // Фаза охоты
+                // Фаза охоты: поиск не посещённой ячейки с посещёнными соседями в порядке row-major номеров
                 boolean found = false;
-
-                // Поиск не посещённой ячейки с посещёнными соседями
-                for (int row = 0; row < height; row++) {
-                    for (int col = 0; col < width; col++) {
-                        if (!visited[row][col]) {
-                            Cell cell = grid[row][col];
-                            // Получаем список рёбер к посещённым соседям текущей ячейки
-                            List<Edge> visitedNeighbors = mazeUtils.getVisitedNeighbors(maze, cell, visited);
-                            if (!visitedNeighbors.isEmpty()) {
-                                // И если он не пуст, удаляем стену между ячейкой и её случайным посещённым соседом
-                                Edge edge = visitedNeighbors.get(randomGenerator.nextInt(visitedNeighbors.size()));
-
-                                mazeUtils.setPassableEdgeAndReverse(maze, edge, typeProvider);
-
-                                // Помечаем ячейку как посещённую и переходим к ней
-                                visited[row][col] = true;
-                                currentCell = cell;
-                                found = true;
-                                break;
-                            }
-                        }
-                    }
-                    if (found) {
-                        // Если ячейка найдена, возвращаемся к фазе блуждания
+                for (int id = visited.nextClearBit(0); id < size; id = visited.nextClearBit(id + 1)) {
+                    // Ищем случайного посещённого соседа ячейки
+                    if (mazeUtils.moveToRandomVisitedNeighbor(cursor, id, visited, randomGenerator)) {
+                        // И если он есть, удаляем стену между ячейкой и этим соседом
+                        mazeUtils.setPassableEdgeAndReverse(maze, id, cursor.id(), typeProvider);
+
+                        // Помечаем ячейку как посещённую и переходим к ней
+                        visited.set(id);
+                        current = id;
+                        found = true;
                         break;
                     }
                 }
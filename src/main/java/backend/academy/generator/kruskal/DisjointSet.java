@@ -1,40 +1,64 @@
 package backend.academy.generator.kruskal;
 
-import java.util.HashMap;
-import java.util.Map;
-
-public class DisjointSet<T> {
-    private final Map<T, T> parent = new HashMap<>();
+/**
+ * Система непересекающихся множеств над номерами элементов от 0 до size - 1.
+ * Хранит родителей и ранги в массивах, поэтому не создаёт объектов при поиске и объединении.
+ */
+public class DisjointSet {
+    private final int[] parent;
+    private final byte[] rank;
 
     /**
-     * Создаёт новое множество для элемента.
+     * Создаёт по одному множеству для каждого номера.
+     *
+     * @param size Количество элементов.
      */
-    public void makeSet(T item) {
-        parent.put(item, item);
+    public DisjointSet(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        for (int item = 0; item < size; item++) {
+            parent[item] = item;
+        }
     }
 
     /**
      * Находит представителя множества, используя сжатие пути.
      */
-    public T findSet(T item) {
-        T p = parent.get(item);
-        if (!p.equals(item)) {
-            T root = findSet(p);
-            parent.put(item, root); // Сжатие пути
-            return root;
+    public int findSet(int item) {
+        int root = item;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Сжатие пути
+        int current = item;
+        while (parent[current] != root) {
+            int next = parent[current];
+            parent[current] = root;
+            current = next;
         }
-        return p;
+        return root;
     }
 
     /**
      * Объединяет два множества.
+     *
+     * @return true, если элементы были в разных множествах, иначе false.
      */
-    public void union(T item1, T item2) {
-        T root1 = findSet(item1);
-        T root2 = findSet(item2);
-        if (!root1.equals(root2)) {
-            parent.put(root1, root2);
+    public boolean union(int item1, int item2) {
+        int root1 = findSet(item1);
+        int root2 = findSet(item2);
+        if (root1 == root2) {
+            return false;
         }
+        // Объединение по рангу
+        if (rank[root1] < rank[root2]) {
+            parent[root1] = root2;
+        } else if (rank[root1] > rank[root2]) {
+            parent[root2] = root1;
+        } else {
+            parent[root2] = root1;
+            rank[root1]++;
+        }
+        return true;
     }
 }
-
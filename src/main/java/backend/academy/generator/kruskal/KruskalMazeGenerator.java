@@ -1,16 +1,13 @@
 package backend.academy.generator.kruskal;
 
-import backend.academy.entity.cell.Cell;
-import backend.academy.entity.edge.Edge;
+import backend.academy.entity.maze.AbstractGridMaze;
 import backend.academy.entity.maze.Maze;
 import backend.academy.generator.Generator;
 import backend.academy.mazetype.MazeTypeProvider;
 import backend.academy.utils.MazeUtils;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
 import lombok.RequiredArgsConstructor;
 
@@ -33,48 +30,35 @@ public class KruskalMazeGenerator implements Generator {
             throw new IllegalArgumentException("The dimensions of the maze must be positive");
         }
 
-        Maze maze = new Maze();
-        Cell[][] grid = new Cell[height][width];
+        AbstractGridMaze maze = mazeUtils.createMaze(height, width);
+        mazeUtils.initializeGridAndWalls(maze, typeProvider);
 
-        mazeUtils.initializeGridAndWalls(height, width, grid, maze, typeProvider);
+        // Создание раздельных множеств (Disjoint Set) по row-major номерам ячеек
+        DisjointSet disjointSet = new DisjointSet(height * width);
 
-        // Создание раздельных множеств (Disjoint Set) для каждой ячейки
-        DisjointSet<Cell> disjointSet = new DisjointSet<>();
-        for (Cell[] row : grid) {
-            for (Cell cell : row) {
-                disjointSet.makeSet(cell);
-            }
-        }
-
-        Set<Edge> edges = new HashSet<>();
-        for (Cell cell : maze.getAllCells()) {
-            for (Edge edge : maze.getEdges(cell)) {
-                // Добавляем только один экземпляр ребра
-                if (cell.coordinate().row() <= edge.to().coordinate().row()
-                    && cell.coordinate().col() <= edge.to().coordinate().col()) {
-                    edges.add(edge);
+        // Каждое ребро сетки кодируется один раз: номер ячейки * 2 для ребра вправо, + 1 для ребра вниз
+        IntArrayList edges = new IntArrayList(height * width * 2);
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int id = row * width + col;
+                if (col + 1 < width) {
+                    edges.add(id * 2);
+                }
+                if (row + 1 < height) {
+                    edges.add(id * 2 + 1);
                 }
             }
         }
 
-        // Преобразуем Set в список для перемешивания
-        List<Edge> edgeList = new ArrayList<>(edges);
+        int[] edgeArray = IntArrays.shuffle(edges.toIntArray(), ThreadLocalRandom.current());
 
-        Collections.shuffle(edgeList);
-
-        for (Edge edge : edgeList) {
-            Cell cell1 = edge.from();
-            Cell cell2 = edge.to();
-
-            // Находим множества, к которым принадлежат ячейки
-            Cell parent1 = disjointSet.findSet(cell1);
-            Cell parent2 = disjointSet.findSet(cell2);
+        for (int edge : edgeArray) {
+            int id1 = edge / 2;
+            int id2 = edge % 2 == 0 ? id1 + 1 : id1 + width;
 
             // Если ячейки принадлежат разным множествам, соединяем их
-            if (!parent1.equals(parent2)) {
-                disjointSet.union(cell1, cell2);
-
-                mazeUtils.setPassableEdgeAndReverse(maze, edge, typeProvider);
+            if (disjointSet.union(id1, id2)) {
+                mazeUtils.setPassableEdgeAndReverse(maze, id1, id2, typeProvider);
             }
         }
 
@@ -1,14 +1,14 @@
 package backend.academy.generator.prime;
 
-import backend.academy.entity.cell.Cell;
-import backend.academy.entity.edge.Edge;
+import backend.academy.entity.maze.AbstractGridMaze;
 import backend.academy.entity.maze.Maze;
+import backend.academy.entity.maze.NeighborCursor;
 import backend.academy.generator.Generator;
 import backend.academy.mazetype.MazeTypeProvider;
 import backend.academy.random.RandomGenerator;
 import backend.academy.utils.MazeUtils;
-import java.util.HashSet;
-import java.util.Set;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.BitSet;
 import java.util.logging.Logger;
 import lombok.RequiredArgsConstructor;
 
@@ -31,47 +31,65 @@ public class PrimMazeGenerator implements Generator {
             throw new IllegalArgumentException("The dimensions of the maze must be positive");
         }
 
-        Cell[][] grid = new Cell[height][width];
-        Maze maze = new Maze();
-
-        mazeUtils.initializeGridAndWalls(height, width, grid, maze, typeProvider);
+        AbstractGridMaze maze = mazeUtils.createMaze(height, width);
+        mazeUtils.initializeGridAndWalls(maze, typeProvider);
 
         int startRow = randomGenerator.nextInt(height);
         int startCol = randomGenerator.nextInt(width);
-        Cell startCell = grid[startRow][startCol];
-
-        // Помечаем ячейки как не входящие в лабиринт
-        boolean[][] inMaze = new boolean[height][width];
-        inMaze[startRow][startCol] = true;
-
-        // Граничные рёбра стартовой ячейки
-        Set<Edge> frontierEdges = new HashSet<>(maze.getEdges(startCell));
-
-        while (!frontierEdges.isEmpty()) {
-            // Преобразуем Set в список для выбора случайного ребра
-            Edge[] edgesArray = frontierEdges.toArray(new Edge[0]);
-            int index = randomGenerator.nextInt(edgesArray.length);
-            Edge edge = edgesArray[index];
-
-            // Удаляем выбранное ребро из множества пограничных
-            frontierEdges.remove(edge);
-
-            // Получаем соседа через выбранное ребро
-            Cell neighbor = edge.to();
-            int nRow = neighbor.coordinate().row();
-            int nCol = neighbor.coordinate().col();
+        int start = startRow * width + startCol;
+
+        // Ячейки, уже входящие в лабиринт, по row-major номерам
+        BitSet inMaze = new BitSet(height * width);
+        inMaze.set(start);
+
+        // Граничные рёбра хранятся парами row-major номеров ячеек: откуда и куда ведёт ребро
+        NeighborCursor cursor = maze.neighborCursor();
+        IntArrayList frontierFrom = new IntArrayList();
+        IntArrayList frontierTo = new IntArrayList();
+        addFrontierEdges(cursor, start, inMaze, frontierFrom, frontierTo);
+
+        while (!frontierFrom.isEmpty()) {
+            // Выбираем случайное ребро и удаляем его, переставляя на его место последнее
+            int index = randomGenerator.nextInt(frontierFrom.size());
+            int from = frontierFrom.getInt(index);
+            int to = frontierTo.getInt(index);
+            int last = frontierFrom.size() - 1;
+            frontierFrom.set(index, frontierFrom.getInt(last));
+            frontierTo.set(index, frontierTo.getInt(last));
+            frontierFrom.removeInt(last);
+            frontierTo.removeInt(last);
 
             // Если сосед ещё не в лабиринте
-            if (!inMaze[nRow][nCol]) {
+            if (!inMaze.get(to)) {
                 // Устанавливаем ребро как проходимое и добавляем ячейку в лабиринт
-                mazeUtils.setPassableEdgeAndReverse(maze, edge, typeProvider);
-
-                inMaze[nRow][nCol] = true;
+                mazeUtils.setPassableEdgeAndReverse(maze, from, to, typeProvider);
+                inMaze.set(to);
 
                 // Добавляем рёбра нового соседа к пограничным
-                frontierEdges.addAll(mazeUtils.getUnvisitedNeighbors(maze, neighbor, inMaze));
+                addFrontierEdges(cursor, to, inMaze, frontierFrom, frontierTo);
             }
         }
         return maze;
     }
+
+    /**
+     * Добавляет к пограничным рёбра от ячейки к её соседям, которые ещё не входят в лабиринт.
+     *
+     * @param cursor       Курсор соседей лабиринта.
+     * @param from         Номер ячейки, только что добавленной в лабиринт.
+     * @param inMaze       Ячейки, входящие в лабиринт.
+     * @param frontierFrom Номера ячеек, из которых выходят пограничные рёбра.
+     * @param frontierTo   Номера ячеек, в которые ведут пограничные рёбра.
+     */
+    private void addFrontierEdges(
+        NeighborCursor cursor, int from, BitSet inMaze, IntArrayList frontierFrom, IntArrayList frontierTo
+    ) {
+        cursor.reset(from);
+        while (cursor.next()) {
+            if (!inMaze.get(cursor.id())) {
+                frontierFrom.add(from);
+                frontierTo.add(cursor.id());
+            }
+        }
+    }
 }
@@ -1,6 +1,6 @@
 package backend.academy.generator.recursivedivision;
 
-import backend.academy.entity.cell.Cell;
+import backend.academy.entity.maze.AbstractGridMaze;
 import backend.academy.entity.maze.Maze;
 import backend.academy.generator.Generator;
 import backend.academy.mazetype.MazeTypeProvider;
@@ -37,64 +37,28 @@ public class RecursiveDivisionMazeGenerator implements Generator {
             throw new IllegalArgumentException("The dimensions of the maze must be positive");
         }
 
-        Maze maze = new Maze();
-        Cell[][] grid = new Cell[height][width];
+        AbstractGridMaze maze = mazeUtils.createMaze(height, width);
 
         // Инициализация сетки с проходами вместо стен
-        initializeGridWithoutWalls(height, width, grid, maze, typeProvider);
+        mazeUtils.initializeGrid(maze, typeProvider, typeProvider.getPassableEdgeType());
 
         // Запуск рекурсивного деления для создания стен
-        divide(maze, typeProvider, grid, 0, 0, width, height);
+        divide(maze, typeProvider, 0, 0, width, height);
 
         return maze;
     }
 
-    /**
-     * Инициализация сетки лабиринта. Устанавливает все рёбра между соседними ячейками как проходные.
-     *
-     * @param height       высота лабиринта
-     * @param width        ширина лабиринта
-     * @param grid         двумерный массив ячеек лабиринта
-     * @param maze         объект Maze для хранения структуры лабиринта
-     * @param typeProvider провайдер типов ячеек и рёбер
-     */
-    private void initializeGridWithoutWalls(
-        int height,
-        int width,
-        Cell[][] grid,
-        Maze maze,
-        MazeTypeProvider typeProvider
-    ) {
-        mazeUtils.initializeGrid(height, width, grid, maze, typeProvider);
-
-        // Убираем стены между соседними ячейками
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                Cell cell = grid[row][col];
-                if (row > 0) {
-                    Cell above = grid[row - 1][col];
-                    maze.addEdge(cell, above, typeProvider.getPassableEdgeType());
-                }
-                if (col > 0) {
-                    Cell left = grid[row][col - 1];
-                    maze.addEdge(cell, left, typeProvider.getPassableEdgeType());
-                }
-            }
-        }
-    }
-
     /**
      * Рекурсивно делит пространство лабиринта, создавая стены и оставляя случайные проходы.
      *
      * @param maze         объект Maze для хранения структуры лабиринта
      * @param typeProvider провайдер типов ячеек и рёбер
-     * @param grid         двумерный массив ячеек лабиринта
      * @param x            координата X начала области деления
      * @param y            координата Y начала области деления
      * @param width        ширина области деления
      * @param height       высота области деления
      */
-    private void divide(Maze maze, MazeTypeProvider typeProvider, Cell[][] grid, int x, int y, int width, int height) {
+    private void divide(AbstractGridMaze maze, MazeTypeProvider typeProvider, int x, int y, int width, int height) {
         // Базовый случай: если область слишком мала, прекращаем деление
         if (width <= 2 || height <= 2) {
             return;
@@ -137,20 +101,19 @@ public class RecursiveDivisionMazeGenerator implements Generator {
             int nx = wx + i * dx;
             int ny = wy + i * dy;
             if (nx != px || ny != py) {
-                Cell cell1 = grid[ny][nx];
-                Cell cell2 = grid[ny + dy][nx + dx];
-
-                mazeUtils.setUnpassableEdgeAndReverse(maze, cell1, cell2, typeProvider);
+                int id1 = ny * maze.width() + nx;
+                int id2 = (ny + dy) * maze.width() + nx + dx;
+                mazeUtils.setUnpassableEdgeAndReverse(maze, id1, id2, typeProvider);
             }
         }
 
         // Рекурсивное деление на две части
         if (horizontal) {
-            divide(maze, typeProvider, grid, x, y, width, wy - y);
-            divide(maze, typeProvider, grid, x, wy + 1, width, y + height - wy - 1);
+            divide(maze, typeProvider, x, y, width, wy - y);
+            divide(maze, typeProvider, x, wy + 1, width, y + height - wy - 1);
         } else {
-            divide(maze, typeProvider, grid, x, y, wx - x, height);
-            divide(maze, typeProvider, grid, wx + 1, y, x + width - wx - 1, height);
+            divide(maze, typeProvider, x, y, wx - x, height);
+            divide(maze, typeProvider, wx + 1, y, x + width - wx - 1, height);
         }
     }
 }
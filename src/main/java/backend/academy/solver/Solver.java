@@ -4,13 +4,16 @@ import backend.academy.entity.cell.Coordinate;
 import backend.academy.entity.maze.Maze;
 import backend.academy.entity.path.Path;
 import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.solver.graph.MazeGraph;
 
 /**
  * Интерфейс для алгоритмов решения лабиринта.
  */
 public interface Solver {
     /**
-     * Находит путь в заданном лабиринте от начальной до конечной координаты.
+     * Находит путь в заданном лабиринте от начальной до конечной координаты. Лабиринт предварительно
+     * переводится в {@link MazeGraph}; если нужно решить несколько задач на одном лабиринте,
+     * выгоднее построить граф один раз и вызывать {@link #solve(MazeGraph, Coordinate, Coordinate)}.
      *
      * @param maze             Лабиринт для решения.
      * @param start            Начальная координата.
@@ -18,5 +21,17 @@ public interface Solver {
      * @param mazeTypeProvider Провайдер типов лабиринта.
      * @return Объект Path, содержащий координаты пути и общую стоимость.
      */
-    Path solve(Maze maze, Coordinate start, Coordinate end, MazeTypeProvider mazeTypeProvider);
+    default Path solve(Maze maze, Coordinate start, Coordinate end, MazeTypeProvider mazeTypeProvider) {
+        return solve(MazeGraph.of(maze, mazeTypeProvider), start, end);
+    }
+
+    /**
+     * Находит путь в графе лабиринта от начальной до конечной координаты.
+     *
+     * @param graph Граф лабиринта, содержащий только проходимые рёбра.
+     * @param start Начальная координата.
+     * @param end   Конечная координата.
+     * @return Объект Path, содержащий координаты пути и общую стоимость.
+     */
+    Path solve(MazeGraph graph, Coordinate start, Coordinate end);
 }
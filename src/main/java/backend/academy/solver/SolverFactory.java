@@ -1,27 +1,94 @@
 package backend.academy.solver;
 
 import backend.academy.solver.bidirection.BiDirectionalSolver;
+import backend.academy.solver.bidirection.ParallelBiDirectionalSolver;
+import backend.academy.solver.cache.CachingSolver;
+import backend.academy.solver.contraction.ContractionHierarchySolver;
+import backend.academy.solver.corridor.CorridorSolver;
 import backend.academy.solver.fs.BFSSolver;
 import backend.academy.solver.fs.DFSSolver;
+import backend.academy.solver.fs.ParallelBFSSolver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.hierarchy.HierarchicalSolver;
 import backend.academy.solver.priority.AStarSolver;
+import backend.academy.solver.priority.BiDirectionalAStarSolver;
+import backend.academy.solver.priority.BiDirectionalDijkstraSolver;
+import backend.academy.solver.priority.DeltaSteppingSolver;
+import backend.academy.solver.priority.DialSolver;
 import backend.academy.solver.priority.DijkstraSolver;
+import backend.academy.solver.priority.JumpPointSolver;
+import backend.academy.solver.priority.LandmarkAStarSolver;
+import backend.academy.solver.tree.TreeSolver;
 import backend.academy.utils.ReconstructorPath;
+import java.util.EnumMap;
+import java.util.Map;
 
 public class SolverFactory {
 
     private final Solver bfsSolver;
+    private final Solver parallelBfsSolver;
     private final Solver dfsSolver;
     private final Solver dijkstraSolver;
+    private final Solver dialSolver;
+    private final Solver deltaSteppingSolver;
     private final Solver aStarSolver;
+    private final Solver landmarkAStarSolver;
+    private final Solver jumpPointSolver;
     private final Solver biDirectionalSolver;
+    private final Solver parallelBiDirectionalSolver;
+    private final Solver biDirectionalDijkstraSolver;
+    private final Solver biDirectionalAStarSolver;
+    private final Solver hierarchicalSolver;
+    private final Solver contractionHierarchySolver;
+    private final TreeSolver treeSolver;
+    // Обёртки решателей; пусто, если кеширование результатов и сжатие коридоров выключены
+    private final Map<SolverType, Solver> wrappedSolvers = new EnumMap<>(SolverType.class);
 
     public SolverFactory() {
+        this(false);
+    }
+
+    public SolverFactory(boolean cacheResults) {
+        this(cacheResults, false);
+    }
+
+    /**
+     * Создаёт фабрику решателей.
+     *
+     * @param cacheResults      Если true, фабрика возвращает решатели, обёрнутые в {@link CachingSolver},
+     *                          и повторные запросы к лабиринту с тем же содержимым и теми же концами пути
+     *                          не запускают поиск.
+     * @param compressCorridors Если true, решатели обёрнуты в {@link CorridorSolver} и ищут путь по графу развилок,
+     *                          в котором коридоры лабиринта сжаты в рёбра.
+     */
+    public SolverFactory(boolean cacheResults, boolean compressCorridors) {
         ReconstructorPath reconstructorPath = new ReconstructorPath();
         this.bfsSolver = new BFSSolver(reconstructorPath);
+        this.parallelBfsSolver = new ParallelBFSSolver();
         this.dfsSolver = new DFSSolver(reconstructorPath);
         this.dijkstraSolver = new DijkstraSolver(reconstructorPath);
+        this.dialSolver = new DialSolver(reconstructorPath);
+        this.deltaSteppingSolver = new DeltaSteppingSolver();
         this.aStarSolver = new AStarSolver(reconstructorPath);
+        this.landmarkAStarSolver = new LandmarkAStarSolver(reconstructorPath);
+        this.jumpPointSolver = new JumpPointSolver(reconstructorPath, aStarSolver);
         this.biDirectionalSolver = new BiDirectionalSolver();
+        this.parallelBiDirectionalSolver = new ParallelBiDirectionalSolver();
+        this.biDirectionalDijkstraSolver = new BiDirectionalDijkstraSolver(reconstructorPath);
+        this.biDirectionalAStarSolver = new BiDirectionalAStarSolver(reconstructorPath);
+        this.hierarchicalSolver = new HierarchicalSolver();
+        this.contractionHierarchySolver = new ContractionHierarchySolver();
+        this.treeSolver = new TreeSolver(aStarSolver);
+        if (cacheResults || compressCorridors) {
+            for (SolverType solverType : SolverType.values()) {
+                if (solverType != SolverType.ALL) {
+                    Solver solver = solverOf(solverType);
+                    solver = compressCorridors ? new CorridorSolver(solver) : solver;
+                    solver = cacheResults ? new CachingSolver(solver) : solver;
+                    wrappedSolvers.put(solverType, solver);
+                }
+            }
+        }
     }
 
     /**
@@ -31,12 +98,39 @@ public class SolverFactory {
      * @return Объект, реализующий интерфейс Solver.
      */
     public Solver getSolver(SolverType solverType) {
+        Solver wrappedSolver = wrappedSolvers.get(solverType);
+        return wrappedSolver != null ? wrappedSolver : solverOf(solverType);
+    }
+
+    /**
+     * Проверяет, что граф лабиринта не содержит циклов, то есть является деревом. Индекс дерева строится
+     * при этом один раз и переиспользуется решателем {@link SolverType#TREE}.
+     *
+     * @param graph Граф лабиринта.
+     * @return true, если путь между любыми двумя ячейками единственен.
+     */
+    public boolean isTree(MazeGraph graph) {
+        return treeSolver.index(graph).isPresent();
+    }
+
+    private Solver solverOf(SolverType solverType) {
         return switch (solverType) {
             case BFS -> bfsSolver;
+            case PARALLEL_BFS -> parallelBfsSolver;
             case DFS -> dfsSolver;
             case DIJKSTRA -> dijkstraSolver;
+            case DIAL -> dialSolver;
+            case DELTA_STEPPING -> deltaSteppingSolver;
             case A_STAR -> aStarSolver;
+            case ALT -> landmarkAStarSolver;
+            case JPS -> jumpPointSolver;
             case BIDIRECTIONAL -> biDirectionalSolver;
+            case PARALLEL_BIDIRECTIONAL -> parallelBiDirectionalSolver;
+            case BIDIRECTIONAL_DIJKSTRA -> biDirectionalDijkstraSolver;
+            case BIDIRECTIONAL_A_STAR -> biDirectionalAStarSolver;
+            case HIERARCHICAL -> hierarchicalSolver;
+            case CONTRACTION_HIERARCHY -> contractionHierarchySolver;
+            case TREE -> treeSolver;
             case ALL -> null;
         };
     }
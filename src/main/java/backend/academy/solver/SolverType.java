@@ -9,10 +9,21 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum SolverType {
     BFS("Breadth-First Search (BFS)"),
+    PARALLEL_BFS("Parallel Breadth-First Search"),
     DFS("Depth-First Search (DFS)"),
     DIJKSTRA("Dijkstra's Algorithm"),
+    DIAL("Dial's Algorithm"),
+    DELTA_STEPPING("Delta-Stepping Algorithm"),
     A_STAR("A* Algorithm"),
+    ALT("A* with Landmarks (ALT)"),
+    JPS("Jump Point Search"),
     BIDIRECTIONAL("Bidirectional Search"),
+    PARALLEL_BIDIRECTIONAL("Parallel Bidirectional Search"),
+    BIDIRECTIONAL_DIJKSTRA("Bidirectional Dijkstra's Algorithm"),
+    BIDIRECTIONAL_A_STAR("Bidirectional A* Algorithm"),
+    HIERARCHICAL("Hierarchical Pathfinding (HPA*)"),
+    CONTRACTION_HIERARCHY("Contraction Hierarchies"),
+    TREE("Tree Path Index (LCA)"),
     ALL("All Algorithms");
 
     private final String description;
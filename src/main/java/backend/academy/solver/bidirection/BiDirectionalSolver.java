@@ -1,18 +1,14 @@
 package backend.academy.solver.bidirection;
 
-import backend.academy.entity.cell.Cell;
 import backend.academy.entity.cell.Coordinate;
-import backend.academy.entity.edge.Edge;
-import backend.academy.entity.maze.Maze;
 import backend.academy.entity.path.Path;
-import backend.academy.mazetype.MazeTypeProvider;
 import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.workspace.SearchWorkspace;
+import backend.academy.solver.workspace.WorkspacePool;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
 
 /**
  * Реализация двунаправленного поиска для решения лабиринта.
@@ -20,144 +16,141 @@ import java.util.Queue;
  * Когда два фронта встречаются, поиск завершается, и восстанавливается путь.
  */
 public class BiDirectionalSolver implements Solver {
+    private static final int NO_CELL = -1;
+
+    // Каждый вызов берёт массивы обоих фронтов из пула, поэтому решатель можно вызывать из нескольких потоков
+    private final WorkspacePool<SearchWorkspace> workspaces = new WorkspacePool<>(SearchWorkspace::new);
 
     @Override
-    public Path solve(Maze maze, Coordinate startCoord, Coordinate endCoord, MazeTypeProvider mazeTypeProvider) {
-        Cell startCell = maze.getCell(startCoord);
-        Cell endCell = maze.getCell(endCoord);
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
 
-        if (startCell == null || endCell == null) {
+        if (start < 0 || end < 0) {
             return new Path(Collections.emptyList(), 0);
         }
 
-        if (startCell.equals(endCell)) {
-            return new Path(Collections.singletonList(startCoord), startCell.cellType().movementCost());
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
         }
 
-        // Очереди для прямого и обратного поиска
-        Queue<Cell> forwardQueue = new LinkedList<>();
-        Queue<Cell> backwardQueue = new LinkedList<>();
-
-        // Посещённые ячейки
-        Map<Cell, Integer> forwardVisited = new HashMap<>();
-        Map<Cell, Integer> backwardVisited = new HashMap<>();
+        SearchWorkspace forward = workspaces.acquire();
+        SearchWorkspace backward = workspaces.acquire();
+        try {
+            return search(graph, forward, backward, start, end);
+        } finally {
+            workspaces.release(forward);
+            workspaces.release(backward);
+        }
+    }
 
-        // Мэпы предшественников
-        Map<Cell, Cell> forwardPredecessors = new HashMap<>();
-        Map<Cell, Cell> backwardPredecessors = new HashMap<>();
+    /**
+     * Выполняет поиск на рабочих пространствах прямого и обратного фронтов, взятых из пула.
+     */
+    private Path search(MazeGraph graph, SearchWorkspace forward, SearchWorkspace backward, int start, int end) {
+        // Рабочие пространства прямого и обратного поиска: очередь, отметки посещения и предшественники
+        forward.prepare(graph.size());
+        backward.prepare(graph.size());
 
-        forwardQueue.add(startCell);
-        forwardVisited.put(startCell, 0);
+        forward.visit(start);
+        forward.push(start);
+        forward.parents()[start] = NO_CELL;
 
-        backwardQueue.add(endCell);
-        backwardVisited.put(endCell, 0);
+        backward.visit(end);
+        backward.push(end);
+        backward.parents()[end] = NO_CELL;
 
-        Cell meetingCell = null;
+        int meetingCell = NO_CELL;
 
-        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+        while (!forward.isFrontierEmpty() && !backward.isFrontierEmpty()) {
             // Прямой поиск
-            meetingCell =
-                expandFront(maze, mazeTypeProvider, forwardQueue, forwardVisited, forwardPredecessors, backwardVisited);
-            if (meetingCell != null) {
+            meetingCell = expandFront(graph, forward, backward);
+            if (meetingCell != NO_CELL) {
                 break;
             }
 
             // Обратный поиск
-            meetingCell = expandFront(maze, mazeTypeProvider, backwardQueue, backwardVisited, backwardPredecessors,
-                forwardVisited);
-            if (meetingCell != null) {
+            meetingCell = expandFront(graph, backward, forward);
+            if (meetingCell != NO_CELL) {
                 break;
             }
         }
 
         // Если встречи фронтов не произошло, путь не найден
-        if (meetingCell == null) {
+        if (meetingCell == NO_CELL) {
             // Путь не найден
             return new Path(Collections.emptyList(), 0);
         }
 
         // Иначе восстановление пути и подсчёт стоимости
-        List<Coordinate> coordinatesPath = reconstructPath(meetingCell, forwardPredecessors, backwardPredecessors);
-        int totalCost = calculateTotalCost(coordinatesPath, maze);
+        List<Integer> cellsPath = reconstructPath(meetingCell, forward.parents(), backward.parents());
+        int totalCost = calculateTotalCost(cellsPath, graph);
 
-        return new Path(coordinatesPath, totalCost);
+        return new Path(cellsPath.stream().map(graph::coordinate).toList(), totalCost);
     }
 
     /**
      * Расширяет фронт поиска в заданном направлении.
      *
-     * @param maze             Лабиринт.
-     * @param mazeTypeProvider Провайдер типов ячеек и рёбер.
-     * @param queue            Очередь для расширения фронта.
-     * @param visited          Мэпа посещённых ячеек.
-     * @param predecessors     Мэпа предшественников.
-     * @param otherVisited     Мэпа посещённых ячеек противоположного фронта.
-     * @return Ячейка, где произошла встреча двух фронтов, или null, если встреча не произошла.
+     * @param graph Граф лабиринта.
+     * @param front Рабочее пространство расширяемого фронта.
+     * @param other Рабочее пространство противоположного фронта.
+     * @return Номер ячейки, где произошла встреча двух фронтов, или -1, если встреча не произошла.
      */
-    private Cell expandFront(
-        Maze maze, MazeTypeProvider mazeTypeProvider,
-        Queue<Cell> queue,
-        Map<Cell, Integer> visited,
-        Map<Cell, Cell> predecessors,
-        Map<Cell, Integer> otherVisited
-    ) {
-        if (queue.isEmpty()) {
-            return null;
+    private int expandFront(MazeGraph graph, SearchWorkspace front, SearchWorkspace other) {
+        if (front.isFrontierEmpty()) {
+            return NO_CELL;
         }
 
         // Извлечение текущей ячейки из очереди
-        Cell current = queue.poll();
+        int current = front.pollFirst();
 
         // Расширение текущего фронта поиска
-        for (Edge edge : maze.getEdges(current)) {
-            if (!mazeTypeProvider.isPassage(edge.type())) {
-                continue;
-            }
-
-            Cell neighbor = edge.to();
+        for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+            int neighbor = graph.target(edge);
 
             // Проверяем, посещалась ли соседняя ячейка
-            if (!visited.containsKey(neighbor)) {
-                visited.put(neighbor, visited.get(current) + edge.type().movementCost());
-                predecessors.put(neighbor, current);
-                queue.add(neighbor);
+            if (front.visit(neighbor)) {
+                front.parents()[neighbor] = current;
+                front.push(neighbor);
 
                 // Если соседняя ячейка уже посещена другим фронтом, фронты встречаются
-                if (otherVisited.containsKey(neighbor)) {
+                if (other.isVisited(neighbor)) {
                     return neighbor;
                 }
             }
         }
-        return null;
+        return NO_CELL;
     }
 
     /**
-     * Восстанавливает путь от начальной до конечной точки, основываясь на картах предшественников.
+     * Восстанавливает путь от начальной до конечной точки, основываясь на массивах предшественников.
      *
      * @param meetingCell          Ячейка, где произошла встреча фронтов.
-     * @param forwardPredecessors  Мэпа предшественников прямого поиска.
-     * @param backwardPredecessors Мэпа предшественников обратного поиска.
-     * @return Восстановленный путь в виде списка координат.
+     * @param forwardPredecessors  Предшественники прямого поиска.
+     * @param backwardPredecessors Предшественники обратного поиска.
+     * @return Восстановленный путь в виде списка номеров ячеек.
      */
-    private List<Coordinate> reconstructPath(
-        Cell meetingCell,
-        Map<Cell, Cell> forwardPredecessors,
-        Map<Cell, Cell> backwardPredecessors
+    static List<Integer> reconstructPath(
+        int meetingCell,
+        int[] forwardPredecessors,
+        int[] backwardPredecessors
     ) {
-        List<Coordinate> path = new LinkedList<>();
+        List<Integer> path = new ArrayList<>();
 
         // Восстановление пути от начала до точки встречи
-        Cell current = meetingCell;
-        while (current != null) {
-            path.addFirst(current.coordinate());
-            current = forwardPredecessors.get(current);
+        int current = meetingCell;
+        while (current != NO_CELL) {
+            path.add(current);
+            current = forwardPredecessors[current];
         }
+        Collections.reverse(path);
 
         // Восстановление пути от точки встречи до конца
-        current = backwardPredecessors.get(meetingCell);
-        while (current != null) {
-            path.add(current.coordinate());
-            current = backwardPredecessors.get(current);
+        current = backwardPredecessors[meetingCell];
+        while (current != NO_CELL) {
+            path.add(current);
+            current = backwardPredecessors[current];
         }
 
         return path;
@@ -166,21 +159,17 @@ public class BiDirectionalSolver implements Solver {
     /**
      * Вычисляет общую стоимость пути, включая стоимость рёбер и ячеек.
      *
-     * @param path Список координат пути.
-     * @param maze Лабиринт, в котором выполняется поиск.
+     * @param path  Список номеров ячеек пути.
+     * @param graph Граф лабиринта, в котором выполняется поиск.
      * @return Общая стоимость пути.
      */
-    private int calculateTotalCost(List<Coordinate> path, Maze maze) {
-        int totalCost = 0;
-        Cell startCell = maze.getCell(path.getFirst());
-        totalCost += startCell.cellType().movementCost();
+    static int calculateTotalCost(List<Integer> path, MazeGraph graph) {
+        int totalCost = graph.cellCost(path.getFirst());
         for (int i = 0; i < path.size() - 1; i++) {
-            Cell from = maze.getCell(path.get(i));
-            Cell to = maze.getCell(path.get(i + 1));
-            Edge edge = maze.getEdge(from, to);
+            int edge = graph.findEdge(path.get(i), path.get(i + 1));
 
-            if (edge != null) {
-                totalCost += edge.type().movementCost() + to.cellType().movementCost();
+            if (edge >= 0) {
+                totalCost += graph.weight(edge);
             }
         }
         return totalCost;
@@ -0,0 +1,165 @@
+package backend.academy.solver.bidirection;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.workspace.SearchWorkspace;
+import backend.academy.solver.workspace.WorkspacePool;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Двунаправленный поиск, в котором прямой и обратный фронты расширяются в двух потоках: прямой — в вызывающем,
+ * обратный — в новом виртуальном потоке.
+ * <p>
+ * Фронты делят массив владельцев ячеек. Поток захватывает ячейку через compareAndSet, предварительно записав
+ * её предшественника в свой массив, поэтому другой поток, увидевший владельца, видит и всю цепочку
+ * предшественников до этой ячейки. Если захват не удался, потому что ячейка принадлежит другому фронту,
+ * фронты встретились: первый поток, записавший ячейку встречи в общий результат, останавливает оба поиска.
+ * <p>
+ * Массив владельцев помечается номером поколения, как в {@link SearchWorkspace}, и вместе с очередями
+ * и предшественниками обоих фронтов берётся из пула на время вызова, поэтому решатель можно вызывать
+ * из нескольких потоков.
+ */
+public class ParallelBiDirectionalSolver implements Solver {
+    private static final int NO_CELL = -1;
+    private static final int SEARCHING = -1;
+    private static final int EXHAUSTED = -2;
+
+    private final ExecutorService backwardExecutor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("backward-search").factory());
+    private final WorkspacePool<ParallelWorkspace> workspaces = new WorkspacePool<>(ParallelWorkspace::new);
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
+
+        if (start < 0 || end < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        ParallelWorkspace workspace = workspaces.acquire();
+        try {
+            return search(graph, workspace, start, end);
+        } finally {
+            workspaces.release(workspace);
+        }
+    }
+
+    /**
+     * Выполняет поиск на рабочем пространстве, взятом из пула.
+     */
+    private Path search(MazeGraph graph, ParallelWorkspace workspace, int start, int end) {
+        workspace.prepare(graph.size());
+        AtomicIntegerArray owners = workspace.owners;
+        SearchWorkspace forward = workspace.forward;
+        SearchWorkspace backward = workspace.backward;
+        int forwardMark = workspace.epoch * 2;
+        int backwardMark = workspace.epoch * 2 + 1;
+        AtomicInteger outcome = new AtomicInteger(SEARCHING);
+
+        forward.parents()[start] = NO_CELL;
+        owners.set(start, forwardMark);
+        backward.parents()[end] = NO_CELL;
+        owners.set(end, backwardMark);
+
+        CompletableFuture<Void> backwardSearch = CompletableFuture.runAsync(
+            () -> expand(graph, owners, end, backward, backwardMark, forwardMark, outcome), backwardExecutor);
+        expand(graph, owners, start, forward, forwardMark, backwardMark, outcome);
+        backwardSearch.join();
+
+        int meetingCell = outcome.get();
+        if (meetingCell < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        List<Integer> cellsPath =
+            BiDirectionalSolver.reconstructPath(meetingCell, forward.parents(), backward.parents());
+        int totalCost = BiDirectionalSolver.calculateTotalCost(cellsPath, graph);
+        return new Path(cellsPath.stream().map(graph::coordinate).toList(), totalCost);
+    }
+
+    /**
+     * Расширяет один фронт поиска в ширину, пока фронты не встретятся или пока фронт не опустеет.
+     *
+     * @param graph     Граф лабиринта.
+     * @param owners    Общий массив владельцев ячеек.
+     * @param origin    Ячейка, с которой начинается фронт.
+     * @param front     Очередь и предшественники этого фронта.
+     * @param ownMark   Отметка владельца для ячеек этого фронта.
+     * @param otherMark Отметка владельца для ячеек противоположного фронта.
+     * @param outcome   Общий результат: номер ячейки встречи, SEARCHING или EXHAUSTED.
+     */
+    private static void expand(
+        MazeGraph graph,
+        AtomicIntegerArray owners,
+        int origin,
+        SearchWorkspace front,
+        int ownMark,
+        int otherMark,
+        AtomicInteger outcome
+    ) {
+        int[] predecessors = front.parents();
+        front.push(origin);
+
+        while (!front.isFrontierEmpty() && outcome.get() == SEARCHING) {
+            int current = front.pollFirst();
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                int owner = owners.get(neighbor);
+                if (owner == ownMark) {
+                    continue;
+                }
+
+                // Предшественник записывается до захвата, чтобы другой поток видел его вместе с владельцем
+                predecessors[neighbor] = current;
+                if (owner != otherMark && owners.compareAndSet(neighbor, owner, ownMark)) {
+                    front.push(neighbor);
+                } else {
+                    outcome.compareAndSet(SEARCHING, neighbor);
+                    return;
+                }
+            }
+        }
+
+        // Фронт исчерпан без встречи: ячейки другого фронта недостижимы
+        outcome.compareAndSet(SEARCHING, EXHAUSTED);
+    }
+
+    /**
+     * Массивы одного вызова: владельцы ячеек с номером поколения, очереди и предшественники обоих фронтов.
+     */
+    private static final class ParallelWorkspace {
+        private final SearchWorkspace forward = new SearchWorkspace();
+        private final SearchWorkspace backward = new SearchWorkspace();
+        private AtomicIntegerArray owners = new AtomicIntegerArray(0);
+        private int epoch;
+
+        /**
+         * Готовит массивы к новому запросу: увеличивает номер поколения и пересоздаёт массив владельцев
+         * при росте графа или переполнении номера.
+         *
+         * @param size Количество номеров ячеек графа.
+         */
+        private void prepare(int size) {
+            forward.prepare(size);
+            backward.prepare(size);
+            epoch++;
+            if (owners.length() < size || epoch > Integer.MAX_VALUE / 2 - 1) {
+                owners = new AtomicIntegerArray(Math.max(size, owners.length()));
+                epoch = 1;
+            }
+        }
+    }
+}
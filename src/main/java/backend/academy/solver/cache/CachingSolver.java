@@ -0,0 +1,133 @@
+package backend.academy.solver.cache;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Декоратор решателя, кеширующий найденные пути. Ключ кеша — отпечаток содержимого графа
+ * ({@link MazeGraph#fingerprint()}) и координаты концов пути, поэтому повторные запросы к одинаковым лабиринтам
+ * не запускают поиск заново, даже если графы построены отдельно.
+ * <p>
+ * Размер кеша ограничен суммарным весом записей: вес пути равен количеству его координат плюс один, так что
+ * ограничение одновременно задаёт и максимальное количество записей, и объём хранимых путей. Одинаковые запросы,
+ * пришедшие во время поиска, не запускают свой поиск, а ждут результата первого. Если поиск завершился
+ * исключением, запись удаляется, и исключение получают все ожидающие. Пути хранятся и возвращаются
+ * неизменяемыми, чтобы вызывающий код не мог испортить ответ для других запросов.
+ * <p>
+ * Декоратор потокобезопасен, если потокобезопасен исходный решатель.
+ */
+public final class CachingSolver implements Solver {
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 1_000_000;
+    private static final Logger LOGGER = Logger.getLogger(CachingSolver.class.getName());
+
+    private final Solver delegate;
+    private final AsyncCache<SolveKey, Path> paths;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    public CachingSolver(Solver delegate) {
+        this(delegate, DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * Создаёт кеширующий решатель с ограничением на суммарный вес записей.
+     *
+     * @param delegate      Решатель, выполняющий поиск при промахе.
+     * @param maximumWeight Максимальный суммарный вес записей кеша.
+     */
+    public CachingSolver(Solver delegate, long maximumWeight) {
+        if (maximumWeight <= 0) {
+            LOGGER.warning("Maximum weight must be positive.");
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        this.delegate = delegate;
+        this.paths = Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .<SolveKey, Path>weigher((key, path) -> path.coordinates().size() + 1)
+            .buildAsync();
+    }
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate start, Coordinate end) {
+        long startTime = System.nanoTime();
+        SolveKey key = new SolveKey(graph.fingerprint(), graph.size(), start, end);
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> existing = paths.asMap().putIfAbsent(key, created);
+
+        if (existing != null) {
+            if (!existing.isDone()) {
+                coalesced.increment();
+            }
+            Path path = await(existing);
+            hits.increment();
+            hitNanos.add(System.nanoTime() - startTime);
+            return path;
+        }
+
+        try {
+            // Путь отдаётся всем последующим запросам, поэтому кешируется неизменяемая копия
+            Path found = delegate.solve(graph, start, end);
+            Path path = new Path(List.copyOf(found.coordinates()), found.totalCost());
+            created.complete(path);
+            return path;
+        } catch (RuntimeException | Error e) {
+            paths.asMap().remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            misses.increment();
+            missNanos.add(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Возвращает снимок метрик кеша.
+     *
+     * @return Количество попаданий, промахов и объединённых запросов и время их обработки.
+     */
+    public SolverCacheStats stats() {
+        return new SolverCacheStats(hits.sum(), misses.sum(), coalesced.sum(), hitNanos.sum(), missNanos.sum());
+    }
+
+    /**
+     * Удаляет все закешированные пути. Поиски, выполняющиеся в этот момент, завершатся без записи в кеш.
+     */
+    public void invalidateAll() {
+        paths.synchronous().invalidateAll();
+    }
+
+    /**
+     * Ожидает результат поиска, запущенного другим потоком, и пробрасывает его исключение без обёртки.
+     */
+    private static Path await(CompletableFuture<Path> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Ключ кеша: отпечаток и размер графа и координаты концов пути.
+     */
+    private record SolveKey(long fingerprint, int size, Coordinate start, Coordinate end) {
+    }
+}
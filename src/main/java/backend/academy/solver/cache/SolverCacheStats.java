@@ -0,0 +1,41 @@
+package backend.academy.solver.cache;
+
+/**
+ * Снимок метрик {@link CachingSolver}.
+ *
+ * @param hits      Количество запросов, получивших готовый путь, включая дождавшихся чужого поиска.
+ * @param misses    Количество запросов, выполнивших поиск.
+ * @param coalesced Количество запросов, ожидавших завершения одинакового поиска в другом потоке.
+ * @param hitNanos  Суммарное время обработки попаданий в наносекундах.
+ * @param missNanos Суммарное время обработки промахов в наносекундах.
+ */
+public record SolverCacheStats(long hits, long misses, long coalesced, long hitNanos, long missNanos) {
+
+    /**
+     * Возвращает долю запросов, обслуженных без поиска.
+     *
+     * @return Доля попаданий от 0 до 1 или 0, если запросов не было.
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Возвращает среднее время обработки попадания.
+     *
+     * @return Среднее время в наносекундах или 0, если попаданий не было.
+     */
+    public double averageHitNanos() {
+        return hits == 0 ? 0 : (double) hitNanos / hits;
+    }
+
+    /**
+     * Возвращает среднее время обработки промаха, то есть среднее время поиска.
+     *
+     * @return Среднее время в наносекундах или 0, если промахов не было.
+     */
+    public double averageMissNanos() {
+        return misses == 0 ? 0 : (double) missNanos / misses;
+    }
+}
@@ -0,0 +1,238 @@
+package backend.academy.solver.contraction;
+
+import backend.academy.solver.graph.MazeGraph;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.logging.Logger;
+
+/**
+ * Иерархия сжатия (contraction hierarchy) графа лабиринта. Каждой ячейке присвоен ранг — порядок её сжатия,
+ * а граф дополнен короткими путями, поэтому кратчайший путь между любыми ячейками можно найти двунаправленным
+ * поиском, который ходит только по рёбрам к ячейкам с большим рангом. Такие поиски просматривают малую часть
+ * графа. Иерархия строится один раз и после построения не изменяется.
+ * <p>
+ * Иерархию можно сохранить и загрузить. Формат двоичный, числа записаны в big-endian, а ранги, степени и поля
+ * рёбер — целыми переменной длины (по 7 бит в байте, старший бит означает продолжение):
+ *
+ * <pre>
+ * поле                  размер
+ * сигнатура "CHMZ"      4
+ * версия формата        4
+ * отпечаток графа       8
+ * количество ячеек n    4
+ * ранги                 n чисел
+ * исходящие рёбра       количество, n степеней, тройки (цель, вес, средняя ячейка + 1)
+ * входящие рёбра        количество, n степеней, тройки (источник, вес, средняя ячейка + 1)
+ * </pre>
+ */
+public final class ContractionHierarchy {
+    public static final int MAGIC = 0x43484D5A;
+    public static final int VERSION = 1;
+    private static final Logger LOGGER = Logger.getLogger(ContractionHierarchy.class.getName());
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION = 0x80;
+
+    private final MazeGraph graph;
+    private final int[] ranks;
+    private final UpwardEdges upwardOut;
+    private final UpwardEdges upwardIn;
+
+    ContractionHierarchy(MazeGraph graph, int[] ranks, UpwardEdges upwardOut, UpwardEdges upwardIn) {
+        this.graph = graph;
+        this.ranks = ranks;
+        this.upwardOut = upwardOut;
+        this.upwardIn = upwardIn;
+    }
+
+    /**
+     * Строит иерархию сжатия графа лабиринта.
+     *
+     * @param graph Граф лабиринта.
+     * @return Иерархия сжатия.
+     */
+    public static ContractionHierarchy build(MazeGraph graph) {
+        return new ContractionHierarchyBuilder(graph).build();
+    }
+
+    /**
+     * Загружает иерархию, сохранённую методом {@link #write(OutputStream)}, для заданного графа. Поток
+     * не закрывается и читается без упреждения: после возврата он стоит сразу за иерархией, так что следом
+     * за ней в потоке могут лежать другие данные. Буферизацию, если она нужна, добавляет вызывающий код.
+     *
+     * @param input Поток с сохранённой иерархией.
+     * @param graph Граф, для которого иерархия была построена.
+     * @return Иерархия сжатия.
+     * @throws IOException              если поток не удалось прочитать.
+     * @throws IllegalArgumentException если данные не являются иерархией этого графа поддерживаемой версии.
+     */
+    public static ContractionHierarchy read(InputStream input, MazeGraph graph) throws IOException {
+        DataInputStream data = new DataInputStream(input);
+        if (data.readInt() != MAGIC) {
+            throw invalidData("The data is not a contraction hierarchy");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw invalidData("Unsupported contraction hierarchy version: " + version);
+        }
+        if (data.readLong() != graph.fingerprint() || data.readInt() != graph.size()) {
+            throw invalidData("The contraction hierarchy was built for a different graph");
+        }
+
+        int[] ranks = new int[graph.size()];
+        for (int node = 0; node < ranks.length; node++) {
+            ranks[node] = readId(data, ranks.length);
+        }
+        UpwardEdges upwardOut = readEdges(data, graph.size());
+        UpwardEdges upwardIn = readEdges(data, graph.size());
+        return new ContractionHierarchy(graph, ranks, upwardOut, upwardIn);
+    }
+
+    /**
+     * Сохраняет иерархию в поток. Граф лабиринта не сохраняется: при загрузке он передаётся отдельно
+     * и сверяется по отпечатку. Поток не закрывается.
+     *
+     * @param output Поток для записи.
+     * @throws IOException если запись не удалась.
+     */
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(graph.fingerprint());
+        data.writeInt(graph.size());
+        for (int rank : ranks) {
+            writeVarint(data, rank);
+        }
+        writeEdges(data, upwardOut);
+        writeEdges(data, upwardIn);
+        data.flush();
+    }
+
+    /**
+     * Возвращает граф лабиринта, для которого построена иерархия.
+     *
+     * @return Граф лабиринта.
+     */
+    public MazeGraph graph() {
+        return graph;
+    }
+
+    /**
+     * Возвращает количество рёбер иерархии, включая короткие пути.
+     *
+     * @return Количество рёбер.
+     */
+    public int edgeCount() {
+        return upwardOut.size() + upwardIn.size();
+    }
+
+    /**
+     * Возвращает количество коротких путей, добавленных при сжатии.
+     *
+     * @return Количество коротких путей.
+     */
+    public int shortcutCount() {
+        int shortcuts = 0;
+        for (int middle : upwardOut.middles()) {
+            shortcuts += middle >= 0 ? 1 : 0;
+        }
+        for (int middle : upwardIn.middles()) {
+            shortcuts += middle >= 0 ? 1 : 0;
+        }
+        return shortcuts;
+    }
+
+    int rank(int node) {
+        return ranks[node];
+    }
+
+    UpwardEdges upwardOut() {
+        return upwardOut;
+    }
+
+    UpwardEdges upwardIn() {
+        return upwardIn;
+    }
+
+    private static void writeEdges(DataOutputStream data, UpwardEdges edges) throws IOException {
+        int[] offsets = edges.offsets();
+        writeVarint(data, edges.size());
+        for (int node = 0; node + 1 < offsets.length; node++) {
+            writeVarint(data, offsets[node + 1] - offsets[node]);
+        }
+        for (int edge = 0; edge < edges.size(); edge++) {
+            writeVarint(data, edges.neighbors()[edge]);
+            writeVarint(data, edges.weights()[edge]);
+            writeVarint(data, edges.middles()[edge] + 1);
+        }
+    }
+
+    private static UpwardEdges readEdges(DataInputStream data, int size) throws IOException {
+        int count = readVarint(data);
+        int[] offsets = new int[size + 1];
+        for (int node = 0; node < size; node++) {
+            int degree = readVarint(data);
+            if (degree < 0 || degree > count - offsets[node]) {
+                throw invalidData("The contraction hierarchy edge count is corrupted");
+            }
+            offsets[node + 1] = offsets[node] + degree;
+        }
+        if (offsets[size] != count) {
+            throw invalidData("The contraction hierarchy edge count is corrupted");
+        }
+        int[] neighbors = new int[count];
+        int[] weights = new int[count];
+        int[] middles = new int[count];
+        for (int edge = 0; edge < count; edge++) {
+            neighbors[edge] = readId(data, size);
+            weights[edge] = readVarint(data);
+            if (weights[edge] < 0) {
+                throw invalidData("The contraction hierarchy contains a negative edge weight");
+            }
+            middles[edge] = readId(data, size + 1) - 1;
+        }
+        return new UpwardEdges(offsets, neighbors, weights, middles);
+    }
+
+    private static void writeVarint(DataOutputStream data, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            data.writeByte(remaining & VARINT_PAYLOAD_MASK | VARINT_CONTINUATION);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        data.writeByte(remaining);
+    }
+
+    private static int readVarint(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += VARINT_PAYLOAD_BITS) {
+            int octet = data.readUnsignedByte();
+            value |= (octet & VARINT_PAYLOAD_MASK) << shift;
+            if ((octet & VARINT_CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw invalidData("The contraction hierarchy contains a malformed number");
+    }
+
+    /**
+     * Читает номер, который должен лежать в диапазоне от 0 до bound - 1.
+     */
+    private static int readId(DataInputStream data, int bound) throws IOException {
+        int id = readVarint(data);
+        if (id < 0 || id >= bound) {
+            throw invalidData("The contraction hierarchy refers to a cell outside the graph");
+        }
+        return id;
+    }
+
+    private static IllegalArgumentException invalidData(String message) {
+        LOGGER.warning(message);
+        return new IllegalArgumentException(message);
+    }
+}
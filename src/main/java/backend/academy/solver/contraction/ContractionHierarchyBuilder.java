@@ -0,0 +1,300 @@
+package backend.academy.solver.contraction;
+
+import backend.academy.solver.graph.MazeGraph;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import java.util.Arrays;
+
+/**
+ * Построитель иерархии сжатия. Ячейки удаляются из графа по одной в порядке возрастания приоритета, равного
+ * разности рёбер: количество добавляемых коротких путей минус количество удаляемых рёбер плюс количество уже
+ * сжатых соседей, чтобы сжатие шло равномерно по лабиринту. Приоритеты пересчитываются лениво: ячейка
+ * сжимается, только если её пересчитанный приоритет не больше приоритета следующей в очереди.
+ * <p>
+ * При сжатии ячейки v для каждой пары соседей u → v → x проверяется, есть ли путь из u в x в обход v не длиннее,
+ * чем через v. Если ограниченный поиск такого пути не нашёл, добавляется короткий путь (shortcut) u → x
+ * с суммарной стоимостью и средней ячейкой v, по которой он потом раскрывается.
+ * <p>
+ * В лабиринтах с большим количеством циклов сжатие последних ячеек порождает лавину коротких путей. Поэтому
+ * сжатие останавливается, когда очередной ячейке понадобилось бы больше {@value #CORE_SHORTCUT_LIMIT} коротких
+ * путей: несжатые ячейки образуют ядро с общим рангом, и поиск ходит по нему как обычный Дейкстра.
+ */
+final class ContractionHierarchyBuilder {
+    // Поиск свидетеля прекращается после стольких извлечённых ячеек: лишний короткий путь не нарушает корректность
+    private static final int WITNESS_SETTLE_LIMIT = 64;
+    // Сдвиг приоритета, чтобы отрицательная разность рёбер упаковывалась в неотрицательное число
+    private static final int PRIORITY_BIAS = 1 << 20;
+    // Ячейка, сжатие которой потребовало бы больше коротких путей, открывает ядро и не сжимается
+    private static final int CORE_SHORTCUT_LIMIT = 64;
+    private static final int NO_MIDDLE = -1;
+
+    private final MazeGraph graph;
+    private final int size;
+    private final Adjacency out;
+    private final Adjacency in;
+    private final boolean[] contracted;
+    private final int[] deletedNeighbors;
+    // Массивы поиска свидетелей с отметками поколения
+    private final int[] witnessCosts;
+    private final int[] witnessEpochs;
+    private final LongHeapPriorityQueue witnessHeap = new LongHeapPriorityQueue();
+    private int witnessEpoch;
+
+    ContractionHierarchyBuilder(MazeGraph graph) {
+        this.graph = graph;
+        this.size = graph.size();
+        this.out = new Adjacency(size);
+        this.in = new Adjacency(size);
+        this.contracted = new boolean[size];
+        this.deletedNeighbors = new int[size];
+        this.witnessCosts = new int[size];
+        this.witnessEpochs = new int[size];
+        for (int id = 0; id < size; id++) {
+            for (int edge = graph.edgesStart(id); edge < graph.edgesEnd(id); edge++) {
+                int target = graph.target(edge);
+                out.add(id, target, graph.weight(edge), NO_MIDDLE);
+                in.add(target, id, graph.weight(edge), NO_MIDDLE);
+            }
+        }
+    }
+
+    /**
+     * Сжимает все ячейки графа и собирает иерархию.
+     *
+     * @return Иерархия сжатия.
+     */
+    ContractionHierarchy build() {
+        LongHeapPriorityQueue queue = new LongHeapPriorityQueue(size);
+        for (int id = 0; id < size; id++) {
+            queue.enqueue(pack(priority(id, contract(id, false)), id));
+        }
+
+        int[] ranks = new int[size];
+        int nextRank = 0;
+        while (!queue.isEmpty()) {
+            int node = (int) queue.dequeueLong();
+            int shortcuts = contract(node, false);
+            long entry = pack(priority(node, shortcuts), node);
+            if (!queue.isEmpty() && entry > queue.firstLong()) {
+                queue.enqueue(entry);
+                continue;
+            }
+            if (shortcuts > CORE_SHORTCUT_LIMIT) {
+                break;
+            }
+            contract(node, true);
+            contracted[node] = true;
+            ranks[node] = nextRank++;
+
+            for (int i = 0; i < out.degree(node); i++) {
+                deletedNeighbors[out.target(node, i)]++;
+            }
+            for (int i = 0; i < in.degree(node); i++) {
+                deletedNeighbors[in.target(node, i)]++;
+            }
+        }
+
+        // Оставшиеся ячейки образуют ядро с общим рангом, по которому поиск идёт без ограничения ранга
+        for (int id = 0; id < size; id++) {
+            if (!contracted[id]) {
+                ranks[id] = nextRank;
+            }
+        }
+        return new ContractionHierarchy(graph, ranks, upward(out, ranks), upward(in, ranks));
+    }
+
+    /**
+     * Вычисляет приоритет ячейки по количеству коротких путей, найденному имитацией её сжатия.
+     */
+    private int priority(int node, int shortcuts) {
+        int degree = 0;
+        for (int i = 0; i < out.degree(node); i++) {
+            degree += contracted[out.target(node, i)] ? 0 : 1;
+        }
+        for (int i = 0; i < in.degree(node); i++) {
+            degree += contracted[in.target(node, i)] ? 0 : 1;
+        }
+        return shortcuts - degree + deletedNeighbors[node];
+    }
+
+    /**
+     * Находит короткие пути, необходимые при сжатии ячейки, и добавляет их, если apply равен true.
+     *
+     * @return Количество необходимых коротких путей.
+     */
+    private int contract(int node, boolean apply) {
+        int shortcuts = 0;
+        int maxOut = 0;
+        for (int j = 0; j < out.degree(node); j++) {
+            if (!contracted[out.target(node, j)]) {
+                maxOut = Math.max(maxOut, out.weight(node, j));
+            }
+        }
+
+        for (int i = 0; i < in.degree(node); i++) {
+            int source = in.target(node, i);
+            if (contracted[source]) {
+                continue;
+            }
+            int toNode = in.weight(node, i);
+            witnessSearch(source, node, toNode + maxOut);
+
+            for (int j = 0; j < out.degree(node); j++) {
+                int target = out.target(node, j);
+                if (contracted[target] || target == source) {
+                    continue;
+                }
+                int viaNode = toNode + out.weight(node, j);
+                if (witnessEpochs[target] == witnessEpoch && witnessCosts[target] <= viaNode) {
+                    continue;
+                }
+                shortcuts++;
+                if (apply) {
+                    addShortcut(source, target, viaNode, node);
+                }
+            }
+        }
+        return shortcuts;
+    }
+
+    /**
+     * Ограниченный поиск Дейкстры из source по несжатым ячейкам в обход excluded.
+     */
+    private void witnessSearch(int source, int excluded, int maxCost) {
+        witnessEpoch++;
+        if (witnessEpoch == 0) {
+            Arrays.fill(witnessEpochs, 0);
+            witnessEpoch = 1;
+        }
+        witnessHeap.clear();
+        witnessEpochs[source] = witnessEpoch;
+        witnessCosts[source] = 0;
+        witnessHeap.enqueue(pack(0, source));
+
+        int settled = 0;
+        while (!witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+            long entry = witnessHeap.dequeueLong();
+            int current = (int) entry;
+            int cost = (int) (entry >>> Integer.SIZE);
+            if (cost > witnessCosts[current]) {
+                continue;
+            }
+            if (cost > maxCost) {
+                return;
+            }
+            settled++;
+            for (int i = 0; i < out.degree(current); i++) {
+                int neighbor = out.target(current, i);
+                if (neighbor == excluded || contracted[neighbor]) {
+                    continue;
+                }
+                int tentative = cost + out.weight(current, i);
+                if (witnessEpochs[neighbor] != witnessEpoch || tentative < witnessCosts[neighbor]) {
+                    witnessEpochs[neighbor] = witnessEpoch;
+                    witnessCosts[neighbor] = tentative;
+                    witnessHeap.enqueue(pack(tentative, neighbor));
+                }
+            }
+        }
+    }
+
+    private void addShortcut(int source, int target, int weight, int middle) {
+        int existing = out.find(source, target);
+        if (existing < 0) {
+            out.add(source, target, weight, middle);
+            in.add(target, source, weight, middle);
+        } else if (weight < out.weight(source, existing)) {
+            out.update(source, existing, weight, middle);
+            in.update(target, in.find(target, source), weight, middle);
+        }
+    }
+
+    /**
+     * Собирает из списков смежности рёбра, ведущие к ячейкам с большим рангом, и рёбра внутри ядра.
+     */
+    private static UpwardEdges upward(Adjacency adjacency, int[] ranks) {
+        int[] offsets = new int[ranks.length + 1];
+        IntArrayList targets = new IntArrayList();
+        IntArrayList weights = new IntArrayList();
+        IntArrayList middles = new IntArrayList();
+        for (int node = 0; node < ranks.length; node++) {
+            for (int i = 0; i < adjacency.degree(node); i++) {
+                int target = adjacency.target(node, i);
+                if (ranks[target] >= ranks[node]) {
+                    targets.add(target);
+                    weights.add(adjacency.weight(node, i));
+                    middles.add(adjacency.middle(node, i));
+                }
+            }
+            offsets[node + 1] = targets.size();
+        }
+        return new UpwardEdges(offsets, targets.toIntArray(), weights.toIntArray(), middles.toIntArray());
+    }
+
+    private static long pack(int priority, int node) {
+        return (long) (priority + PRIORITY_BIAS) << Integer.SIZE | node;
+    }
+
+    /**
+     * Изменяемые списки смежности: для каждой ячейки — соседи, веса и средние ячейки коротких путей.
+     */
+    private static final class Adjacency {
+        private static final int INITIAL_CAPACITY = 4;
+        private static final int FIELDS = 3;
+
+        // Для каждой ячейки рёбра лежат тройками (сосед, вес, средняя ячейка)
+        private final int[][] edges;
+        private final int[] degrees;
+
+        Adjacency(int size) {
+            this.edges = new int[size][];
+            this.degrees = new int[size];
+        }
+
+        void add(int node, int neighbor, int weight, int middle) {
+            int[] list = edges[node];
+            int position = degrees[node] * FIELDS;
+            if (list == null) {
+                list = new int[INITIAL_CAPACITY * FIELDS];
+                edges[node] = list;
+            } else if (position == list.length) {
+                list = Arrays.copyOf(list, list.length * 2);
+                edges[node] = list;
+            }
+            list[position] = neighbor;
+            list[position + 1] = weight;
+            list[position + 2] = middle;
+            degrees[node]++;
+        }
+
+        void update(int node, int index, int weight, int middle) {
+            edges[node][index * FIELDS + 1] = weight;
+            edges[node][index * FIELDS + 2] = middle;
+        }
+
+        int find(int node, int neighbor) {
+            for (int i = 0; i < degrees[node]; i++) {
+                if (edges[node][i * FIELDS] == neighbor) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int degree(int node) {
+            return degrees[node];
+        }
+
+        int target(int node, int index) {
+            return edges[node][index * FIELDS];
+        }
+
+        int weight(int node, int index) {
+            return edges[node][index * FIELDS + 1];
+        }
+
+        int middle(int node, int index) {
+            return edges[node][index * FIELDS + 2];
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package backend.academy.solver.contraction;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.workspace.SearchWorkspace;
+import backend.academy.solver.workspace.WorkspacePool;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Поиск пути по иерархии сжатия. Прямой поиск из начала идёт по исходящим рёбрам к ячейкам с большим рангом,
+ * обратный поиск из конца — по входящим рёбрам к ячейкам с большим рангом; кратчайший путь проходит через
+ * ячейку, в которой встречаются оба поиска. Найденный путь раскрывается рекурсивной заменой коротких путей
+ * на пары рёбер через их средние ячейки. Внутри несжатого ядра иерархии оба поиска ходят по всем рёбрам ядра.
+ * Путь оптимален.
+ * <p>
+ * Иерархии кешируются по ссылке на граф: первый запрос к графу оплачивает построение. Заранее построенную
+ * или загруженную иерархию можно передать методом {@link #register(ContractionHierarchy)}.
+ */
+public class ContractionHierarchySolver implements Solver {
+    private static final int MAXIMUM_CACHED_GRAPHS = 4;
+
+    private final Cache<MazeGraph, ContractionHierarchy> hierarchies = Caffeine.newBuilder()
+        .weakKeys()
+        .maximumSize(MAXIMUM_CACHED_GRAPHS)
+        .build();
+    private final WorkspacePool<SearchWorkspace> workspaces = new WorkspacePool<>(SearchWorkspace::new);
+
+    /**
+     * Возвращает иерархию сжатия графа, строя её при первом обращении.
+     *
+     * @param graph Граф лабиринта.
+     * @return Иерархия сжатия.
+     */
+    public ContractionHierarchy hierarchy(MazeGraph graph) {
+        return hierarchies.get(graph, ContractionHierarchy::build);
+    }
+
+    /**
+     * Регистрирует заранее построенную иерархию для её графа.
+     *
+     * @param hierarchy Иерархия сжатия.
+     */
+    public void register(ContractionHierarchy hierarchy) {
+        hierarchies.put(hierarchy.graph(), hierarchy);
+    }
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
+
+        if (start < 0 || end < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        ContractionHierarchy hierarchy = hierarchy(graph);
+        SearchWorkspace forward = workspaces.acquire();
+        SearchWorkspace backward = workspaces.acquire();
+        try {
+            return search(hierarchy, forward, backward, start, end);
+        } finally {
+            workspaces.release(forward);
+            workspaces.release(backward);
+        }
+    }
+
+    /**
+     * Выполняет двунаправленный поиск вверх по иерархии на рабочих пространствах из пула.
+     */
+    private Path search(
+        ContractionHierarchy hierarchy,
+        SearchWorkspace forward,
+        SearchWorkspace backward,
+        int start,
+        int end
+    ) {
+        MazeGraph graph = hierarchy.graph();
+        forward.prepare(graph.size());
+        backward.prepare(graph.size());
+        LongHeapPriorityQueue forwardQueue = new LongHeapPriorityQueue();
+        LongHeapPriorityQueue backwardQueue = new LongHeapPriorityQueue();
+
+        forward.visit(start);
+        forward.costs()[start] = graph.cellCost(start);
+        forward.parents()[start] = -1;
+        forwardQueue.enqueue(pack(forward.costs()[start], start));
+        backward.visit(end);
+        backward.costs()[end] = 0;
+        backward.parents()[end] = -1;
+        backwardQueue.enqueue(pack(0, end));
+
+        int best = Integer.MAX_VALUE;
+        int meeting = -1;
+        while (!forwardQueue.isEmpty() || !backwardQueue.isEmpty()) {
+            long forwardMin = forwardQueue.isEmpty() ? Long.MAX_VALUE : forwardQueue.firstLong();
+            long backwardMin = backwardQueue.isEmpty() ? Long.MAX_VALUE : backwardQueue.firstLong();
+            boolean forwardTurn = forwardMin <= backwardMin;
+            long entry = forwardTurn ? forwardQueue.dequeueLong() : backwardQueue.dequeueLong();
+            int cost = (int) (entry >>> Integer.SIZE);
+            if (cost >= best) {
+                // Извлечён минимум обеих очередей, и он не меньше лучшего пути: встречи его уже не улучшат
+                break;
+            }
+
+            int current = (int) entry;
+            SearchWorkspace own = forwardTurn ? forward : backward;
+            SearchWorkspace other = forwardTurn ? backward : forward;
+            if (cost > own.costs()[current]) {
+                continue;
+            }
+            if (other.isVisited(current) && cost + other.costs()[current] < best) {
+                best = cost + other.costs()[current];
+                meeting = current;
+            }
+
+            UpwardEdges edges = forwardTurn ? hierarchy.upwardOut() : hierarchy.upwardIn();
+            LongHeapPriorityQueue queue = forwardTurn ? forwardQueue : backwardQueue;
+            for (int edge = edges.offsets()[current]; edge < edges.offsets()[current + 1]; edge++) {
+                int neighbor = edges.neighbors()[edge];
+                int tentative = cost + edges.weights()[edge];
+                if (own.visit(neighbor) || tentative < own.costs()[neighbor]) {
+                    own.costs()[neighbor] = tentative;
+                    own.parents()[neighbor] = current;
+                    queue.enqueue(pack(tentative, neighbor));
+                }
+            }
+        }
+
+        if (meeting < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+        return new Path(unpack(hierarchy, forward.parents(), backward.parents(), meeting), best);
+    }
+
+    /**
+     * Восстанавливает путь через точку встречи и раскрывает короткие пути.
+     */
+    private static List<Coordinate> unpack(
+        ContractionHierarchy hierarchy,
+        int[] forwardParents,
+        int[] backwardParents,
+        int meeting
+    ) {
+        IntArrayList forwardChain = new IntArrayList();
+        for (int node = meeting; node != -1; node = forwardParents[node]) {
+            forwardChain.add(node);
+        }
+        IntArrayList route = new IntArrayList();
+        for (int i = forwardChain.size() - 1; i >= 0; i--) {
+            route.add(forwardChain.getInt(i));
+        }
+        for (int node = backwardParents[meeting]; node != -1; node = backwardParents[node]) {
+            route.add(node);
+        }
+
+        MazeGraph graph = hierarchy.graph();
+        List<Coordinate> coordinates = new ArrayList<>();
+        coordinates.add(graph.coordinate(route.getInt(0)));
+        IntArrayList pending = new IntArrayList();
+        for (int i = 1; i < route.size(); i++) {
+            // Раскрываем ребро стеком: сверху лежит ближайшая ещё не пройденная ячейка
+            int from = route.getInt(i - 1);
+            pending.add(route.getInt(i));
+            while (!pending.isEmpty()) {
+                int to = pending.getInt(pending.size() - 1);
+                int middle = middle(hierarchy, from, to);
+                if (middle < 0) {
+                    pending.removeInt(pending.size() - 1);
+                    coordinates.add(graph.coordinate(to));
+                    from = to;
+                } else {
+                    pending.add(middle);
+                }
+            }
+        }
+        return coordinates;
+    }
+
+    /**
+     * Возвращает среднюю ячейку ребра from → to или -1, если это ребро исходного графа.
+     */
+    private static int middle(ContractionHierarchy hierarchy, int from, int to) {
+        if (hierarchy.rank(from) < hierarchy.rank(to)) {
+            UpwardEdges out = hierarchy.upwardOut();
+            return out.middles()[out.find(from, to)];
+        }
+        UpwardEdges in = hierarchy.upwardIn();
+        return in.middles()[in.find(to, from)];
+    }
+
+    private static long pack(int cost, int node) {
+        return (long) cost << Integer.SIZE | node;
+    }
+}
@@ -0,0 +1,39 @@
+package backend.academy.solver.contraction;
+
+/**
+ * Рёбра иерархии сжатия, ведущие к ячейкам с большим рангом, в формате CSR: рёбра ячейки id лежат на позициях
+ * с offsets[id] по offsets[id + 1] - 1. Для исходящих рёбер neighbors хранит цели, для входящих — источники.
+ * Средняя ячейка равна -1 у рёбер исходного графа и номеру сжатой ячейки у коротких путей.
+ *
+ * @param offsets   Начала списков рёбер ячеек.
+ * @param neighbors Соседние ячейки.
+ * @param weights   Стоимости рёбер.
+ * @param middles   Средние ячейки коротких путей.
+ */
+record UpwardEdges(int[] offsets, int[] neighbors, int[] weights, int[] middles) {
+
+    /**
+     * Ищет ребро между ячейкой и соседом.
+     *
+     * @param node     Номер ячейки, в списке которой лежит ребро.
+     * @param neighbor Номер соседа.
+     * @return Позиция ребра или -1, если ребра нет.
+     */
+    int find(int node, int neighbor) {
+        for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+            if (neighbors[edge] == neighbor) {
+                return edge;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество рёбер.
+     *
+     * @return Количество рёбер.
+     */
+    int size() {
+        return neighbors.length;
+    }
+}
@@ -0,0 +1,113 @@
+package backend.academy.solver.corridor;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.CorridorGraph;
+import backend.academy.solver.graph.MazeGraph;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Декоратор решателя, который ищет путь по графу развилок {@link CorridorGraph} вместо графа ячеек и раскрывает
+ * найденный путь обратно в ячейки. Исходный решатель просматривает только развилки и тупики, а коридоры
+ * проходит одним ребром.
+ * <p>
+ * Граф развилок строится один раз для графа лабиринта и кешируется по ссылке на него, поэтому предобработка
+ * исходного решателя на сжатом графе (иерархии, ориентиры, индексы) тоже переиспользуется. Конец пути, лежащий
+ * внутри коридора, присоединяется к развилкам на концах своего коридора с частичными стоимостями: исходный
+ * решатель вызывается для каждой пары выходов начала и конца (не больше четырёх раз), и выбирается самый
+ * дешёвый путь. Если оба конца лежат в одном коридоре, рассматривается и путь прямо по коридору.
+ * <p>
+ * Оптимальный решатель остаётся оптимальным. Поиск в ширину на сжатом графе минимизирует количество коридоров,
+ * а не ячеек.
+ */
+public final class CorridorSolver implements Solver {
+    private static final int MAXIMUM_CACHED_GRAPHS = 4;
+
+    private final Solver delegate;
+    private final Cache<MazeGraph, CorridorGraph> corridorGraphs = Caffeine.newBuilder()
+        .weakKeys()
+        .maximumSize(MAXIMUM_CACHED_GRAPHS)
+        .build();
+
+    public CorridorSolver(Solver delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Возвращает граф развилок, строя его при первом обращении. Позволяет выполнить предварительную обработку
+     * заранее, до первого запроса.
+     *
+     * @param graph Граф лабиринта.
+     * @return Граф развилок.
+     */
+    public CorridorGraph corridorGraph(MazeGraph graph) {
+        return corridorGraphs.get(graph, CorridorGraph::build);
+    }
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        if (start < 0 || graph.idOf(endCoord) < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+        if (startCoord.equals(endCoord)) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        CorridorGraph corridorGraph = corridorGraph(graph);
+        List<CorridorGraph.Exit> startExits = corridorGraph.exits(startCoord);
+        List<CorridorGraph.Exit> endExits = corridorGraph.exits(endCoord);
+        Path best = sameCorridorPath(graph, startExits, endCoord);
+        for (CorridorGraph.Exit startExit : startExits) {
+            for (CorridorGraph.Exit endExit : endExits) {
+                Path middle = delegate.solve(corridorGraph.reduced(), startExit.junction(), endExit.junction());
+                if (middle.coordinates().isEmpty()) {
+                    continue;
+                }
+                // Стоимость среднего участка включает стоимость его первой развилки, она уже учтена в выходе
+                int cost = graph.cellCost(start) + startExit.costToJunction()
+                    + middle.totalCost() - graph.cellCost(graph.idOf(startExit.junction()))
+                    + endExit.costFromJunction();
+                if (best == null || cost < best.totalCost()) {
+                    best = join(startExit, corridorGraph.expand(middle), endExit, cost);
+                }
+            }
+        }
+        return best == null ? new Path(Collections.emptyList(), 0) : best;
+    }
+
+    /**
+     * Возвращает путь вдоль коридора, если конец лежит в том же коридоре, что и начало, иначе null.
+     */
+    private static Path sameCorridorPath(MazeGraph graph, List<CorridorGraph.Exit> startExits, Coordinate end) {
+        for (CorridorGraph.Exit exit : startExits) {
+            int index = exit.cells().indexOf(end);
+            if (index > 0) {
+                List<Coordinate> cells = List.copyOf(exit.cells().subList(0, index + 1));
+                int cost = graph.cellCost(graph.idOf(cells.getFirst()));
+                for (int i = 1; i < cells.size(); i++) {
+                    cost += graph.weight(graph.findEdge(graph.idOf(cells.get(i - 1)), graph.idOf(cells.get(i))));
+                }
+                return new Path(cells, cost);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Склеивает участок от начала до развилки, путь между развилками и участок от развилки до конца.
+     */
+    private static Path join(CorridorGraph.Exit startExit, Path middle, CorridorGraph.Exit endExit, int cost) {
+        List<Coordinate> coordinates = new ArrayList<>(startExit.cells());
+        coordinates.addAll(middle.coordinates());
+        for (int i = endExit.cells().size() - 1; i >= 0; i--) {
+            coordinates.add(endExit.cells().get(i));
+        }
+        return new Path(coordinates, cost);
+    }
+}
@@ -1,18 +1,13 @@
 package backend.academy.solver.fs;
 
-import backend.academy.entity.cell.Cell;
 import backend.academy.entity.cell.Coordinate;
-import backend.academy.entity.edge.Edge;
-import backend.academy.entity.maze.Maze;
 import backend.academy.entity.path.Path;
-import backend.academy.mazetype.MazeTypeProvider;
 import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.workspace.SearchWorkspace;
+import backend.academy.solver.workspace.WorkspacePool;
 import backend.academy.utils.ReconstructorPath;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -21,61 +16,68 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public abstract class AbstractSolver implements Solver {
     private final ReconstructorPath reconstructorPath;
+    // Каждый вызов берёт массивы поиска из пула, поэтому решатель можно вызывать из нескольких потоков
+    private final WorkspacePool<SearchWorkspace> workspaces = new WorkspacePool<>(SearchWorkspace::new);
 
     /**
      * Основной метод для поиска пути, который реализует общую логику для DFS и BFS.
      *
-     * @param maze             Лабиринт.
-     * @param startCoord       Начальные координаты.
-     * @param endCoord         Конечные координаты.
-     * @param mazeTypeProvider Поставщик типов для лабиринта.
+     * @param graph      Граф лабиринта.
+     * @param startCoord Начальные координаты.
+     * @param endCoord   Конечные координаты.
      * @return Путь.
      */
     @Override
-    public Path solve(Maze maze, Coordinate startCoord, Coordinate endCoord, MazeTypeProvider mazeTypeProvider) {
-        clearStructure();
-        Map<Cell, Cell> predecessors = new HashMap<>();
-        Set<Cell> visited = new HashSet<>();
-        Map<Cell, Integer> costMap = new HashMap<>();
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
 
-        Cell startCell = maze.getCell(startCoord);
-        Cell endCell = maze.getCell(endCoord);
-
-        if (startCell == null || endCell == null) {
+        if (start < 0 || end < 0) {
             return new Path(Collections.emptyList(), 0);
         }
 
-        if (startCell.equals(endCell)) {
-            return new Path(Collections.singletonList(startCoord), startCell.cellType().movementCost());
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        SearchWorkspace workspace = workspaces.acquire();
+        try {
+            return search(graph, workspace, start, end);
+        } finally {
+            workspaces.release(workspace);
         }
+    }
+
+    /**
+     * Выполняет поиск на рабочем пространстве, взятом из пула.
+     */
+    private Path search(MazeGraph graph, SearchWorkspace workspace, int start, int end) {
+        workspace.prepare(graph.size());
+        int[] predecessors = workspace.parents();
+        int[] costs = workspace.costs();
 
-        // Добавляем начальную ячейку в структуру и отмечаем её как посещённую
-        addToStructure(startCell);
-        visited.add(startCell);
-        costMap.put(startCell, startCell.cellType().movementCost());
+        // Добавляем начальную ячейку во фронт и отмечаем её как посещённую
+        workspace.visit(start);
+        workspace.push(start);
+        costs[start] = graph.cellCost(start);
 
-        while (!isStructureEmpty()) {
-            Cell current = retrieveFromStructure();
+        while (!workspace.isFrontierEmpty()) {
+            int current = retrieveFromFrontier(workspace);
 
             // Если нашли конечную ячейку, восстанавливаем путь
-            if (current.equals(endCell)) {
-                int totalCost = costMap.get(endCell);
-                return reconstructorPath.reconstruct(predecessors, endCell, totalCost);
+            if (current == end) {
+                return reconstructorPath.reconstruct(graph, predecessors, start, end, costs[end]);
             }
 
             // Обработка всех соседей текущей ячейки
-            for (Edge edge : maze.getEdges(current)) {
-                if (mazeTypeProvider.isPassage(edge.type())) {
-                    Cell neighbor = edge.to();
-                    int currentCost = costMap.get(current);
-                    int newCost = currentCost + edge.type().movementCost() + neighbor.cellType().movementCost();
-
-                    // Добавляем соседа в структуру, если он ещё не посещён
-                    if (visited.add(neighbor)) {
-                        addToStructure(neighbor);
-                        predecessors.put(neighbor, current);
-                        costMap.put(neighbor, newCost);
-                    }
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+
+                // Добавляем соседа во фронт, если он ещё не посещён
+                if (workspace.visit(neighbor)) {
+                    workspace.push(neighbor);
+                    predecessors[neighbor] = current;
+                    costs[neighbor] = costs[current] + graph.weight(edge);
                 }
             }
         }
@@ -84,28 +86,11 @@ public abstract class AbstractSolver implements Solver {
     }
 
     /**
-     * Добавляет ячейку в структуру данных.
+     * Извлекает следующую ячейку из фронта рабочего пространства: BFS берёт её из начала, как из очереди,
+     * DFS — из конца, как из стека.
      *
-     * @param cell Ячейка для добавления.
-     */
-    protected abstract void addToStructure(Cell cell);
-
-    /**
-     * Извлекает ячейку из структуры данных.
-     *
-     * @return Извлечённая ячейка.
-     */
-    protected abstract Cell retrieveFromStructure();
-
-    /**
-     * Проверяет, пуста ли структура данных.
-     *
-     * @return true, если структура пуста, иначе false.
-     */
-    protected abstract boolean isStructureEmpty();
-
-    /**
-     * Очищает используемую структуру данных, чтобы удалить все ранее добавленные элементы.
+     * @param workspace Рабочее пространство текущего поиска.
+     * @return Номер извлечённой ячейки.
      */
-    protected abstract void clearStructure();
+    protected abstract int retrieveFromFrontier(SearchWorkspace workspace);
 }
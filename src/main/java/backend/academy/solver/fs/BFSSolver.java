@@ -1,37 +1,19 @@
 package backend.academy.solver.fs;
 
-import backend.academy.entity.cell.Cell;
+import backend.academy.solver.workspace.SearchWorkspace;
 import backend.academy.utils.ReconstructorPath;
-import java.util.LinkedList;
-import java.util.Queue;
 
 /**
- * Реализация BFS с использованием очереди.
+ * Реализация BFS: фронт рабочего пространства используется как очередь.
  */
 public class BFSSolver extends AbstractSolver {
-    private final Queue<Cell> cells = new LinkedList<>();
 
     public BFSSolver(ReconstructorPath reconstructorPath) {
         super(reconstructorPath);
     }
 
     @Override
-    protected void addToStructure(Cell cell) {
-        cells.add(cell);
-    }
-
-    @Override
-    protected Cell retrieveFromStructure() {
-        return cells.poll();
-    }
-
-    @Override
-    protected boolean isStructureEmpty() {
-        return cells.isEmpty();
-    }
-
-    @Override
-    protected void clearStructure() {
-        cells.clear();
+    protected int retrieveFromFrontier(SearchWorkspace workspace) {
+        return workspace.pollFirst();
     }
 }
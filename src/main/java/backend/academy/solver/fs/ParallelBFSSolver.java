@@ -0,0 +1,316 @@
+package backend.academy.solver.fs;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Параллельный поиск в ширину по уровням. Большой фронт обрабатывается параллельным потоком по блокам слов
+ * битовых множеств фронта и посещённых ячеек (общий пул ForkJoin), а между уровнями потоки синхронизируются.
+ * <p>
+ * Поиск переключается между двумя направлениями обхода:
+ * <ul>
+ *     <li>сверху вниз — каждая ячейка фронта захватывает непосещённых соседей атомарной установкой бита;</li>
+ *     <li>снизу вверх — каждая непосещённая ячейка ищет соседа во фронте. Так выгоднее, когда фронт велик:
+ *     ячейка прекращает проверку на первом найденном соседе, а каждый блок пишет только в свои слова.</li>
+ * </ul>
+ * Проход снизу вверх идёт по исходящим рёбрам непосещённой ячейки, поэтому предполагается, что проходы
+ * лабиринта двусторонние, как и в {@link backend.academy.solver.bidirection.BiDirectionalSolver}.
+ */
+public class ParallelBFSSolver implements Solver {
+    /**
+     * Номер уровня для недостижимых ячеек.
+     */
+    public static final int UNREACHED = -1;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int CHUNK_WORDS = 256;
+    // Размер фронта, начиная с которого он хранится битовым множеством и раскрывается параллельно
+    private static final int SPARSE_LIMIT = 4096;
+    // Пороги переключения направления обхода, как в direction-optimizing BFS
+    private static final int BOTTOM_UP_THRESHOLD = 14;
+    private static final int TOP_DOWN_THRESHOLD = 24;
+
+    private final int sparseLimit;
+
+    public ParallelBFSSolver() {
+        this(SPARSE_LIMIT);
+    }
+
+    /**
+     * Создаёт решатель с заданным порогом перехода к битовым множествам.
+     *
+     * @param sparseLimit Размер фронта, начиная с которого он раскрывается параллельно.
+     */
+    ParallelBFSSolver(int sparseLimit) {
+        this.sparseLimit = sparseLimit;
+    }
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
+
+        if (start < 0 || end < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        int[] levels = computeLevels(graph, start, end);
+        if (levels[end] == UNREACHED) {
+            return new Path(Collections.emptyList(), 0);
+        }
+        return reconstructPath(graph, levels, start, end);
+    }
+
+    /**
+     * Вычисляет расстояния в шагах от заданной ячейки до всех ячеек лабиринта.
+     *
+     * @param graph  Граф лабиринта.
+     * @param source Координаты исходной ячейки.
+     * @return Массив расстояний, индексированный номерами ячеек; {@link #UNREACHED} для недостижимых ячеек.
+     */
+    public int[] distances(MazeGraph graph, Coordinate source) {
+        int sourceId = graph.idOf(source);
+        if (sourceId < 0) {
+            int[] levels = new int[graph.size()];
+            Arrays.fill(levels, UNREACHED);
+            return levels;
+        }
+        return computeLevels(graph, sourceId, UNREACHED);
+    }
+
+    /**
+     * Обходит граф по уровням, пока фронт не опустеет или пока не будет достигнута целевая ячейка.
+     * Небольшой фронт хранится списком и раскрывается последовательно: параллельный проход по всем словам
+     * битового множества окупается, только когда фронт занимает заметную часть лабиринта.
+     *
+     * @param graph  Граф лабиринта.
+     * @param source Номер исходной ячейки.
+     * @param target Номер целевой ячейки или {@link #UNREACHED}, чтобы обойти всю компоненту.
+     * @return Массив уровней ячеек.
+     */
+    private int[] computeLevels(MazeGraph graph, int source, int target) {
+        int size = graph.size();
+        int words = (size + Long.SIZE - 1) / Long.SIZE;
+        int chunks = (words + CHUNK_WORDS - 1) / CHUNK_WORDS;
+        int[] levels = new int[size];
+        long[] visited = new long[words];
+        long[] frontier = new long[words];
+        long[] next = new long[words];
+        IntArrayList frontierCells = new IntArrayList();
+        IntArrayList nextCells = new IntArrayList();
+        Arrays.fill(levels, UNREACHED);
+
+        levels[source] = 0;
+        visited[source / Long.SIZE] |= 1L << source;
+        frontierCells.add(source);
+        int frontierSize = 1;
+        int unvisited = size - 1;
+        boolean dense = false;
+        boolean bottomUp = false;
+
+        for (int level = 1; frontierSize > 0 && (target < 0 || levels[target] == UNREACHED); level++) {
+            if (!dense) {
+                nextCells.clear();
+                sparseStep(graph, frontierCells, nextCells, visited, levels, level);
+                IntArrayList swap = frontierCells;
+                frontierCells = nextCells;
+                nextCells = swap;
+                frontierSize = frontierCells.size();
+
+                if (frontierSize > sparseLimit) {
+                    dense = true;
+                    for (int i = 0; i < frontierSize; i++) {
+                        int cell = frontierCells.getInt(i);
+                        frontier[cell / Long.SIZE] |= 1L << cell;
+                    }
+                }
+            } else {
+                if (!bottomUp && (long) frontierSize * BOTTOM_UP_THRESHOLD > unvisited) {
+                    bottomUp = true;
+                } else if (bottomUp && (long) frontierSize * TOP_DOWN_THRESHOLD < size) {
+                    bottomUp = false;
+                }
+
+                long[] current = frontier;
+                long[] following = next;
+                int depth = level;
+                boolean sweepBottomUp = bottomUp;
+                frontierSize = IntStream.range(0, chunks).parallel()
+                    .map(chunk -> sweepBottomUp
+                        ? bottomUpStep(graph, current, following, visited, levels, depth, chunk)
+                        : topDownStep(graph, current, following, visited, levels, depth, chunk))
+                    .sum();
+
+                frontier = following;
+                next = current;
+                Arrays.fill(next, 0L);
+
+                // Фронт снова мал: возвращаемся к списку, чтобы не просматривать все слова на каждом уровне
+                if (frontierSize < sparseLimit / 2) {
+                    dense = false;
+                    bottomUp = false;
+                    frontierCells.clear();
+                    for (int word = 0; word < words; word++) {
+                        for (long bits = frontier[word]; bits != 0; bits &= bits - 1) {
+                            frontierCells.add(word * Long.SIZE + Long.numberOfTrailingZeros(bits));
+                        }
+                    }
+                    Arrays.fill(frontier, 0L);
+                }
+            }
+            unvisited -= frontierSize;
+        }
+        return levels;
+    }
+
+    /**
+     * Последовательно раскрывает фронт, заданный списком ячеек.
+     */
+    private static void sparseStep(
+        MazeGraph graph,
+        IntArrayList frontierCells,
+        IntArrayList nextCells,
+        long[] visited,
+        int[] levels,
+        int level
+    ) {
+        for (int i = 0; i < frontierCells.size(); i++) {
+            int cell = frontierCells.getInt(i);
+            for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+                int neighbor = graph.target(edge);
+                long mask = 1L << neighbor;
+                if ((visited[neighbor / Long.SIZE] & mask) == 0) {
+                    visited[neighbor / Long.SIZE] |= mask;
+                    levels[neighbor] = level;
+                    nextCells.add(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Раскрывает ячейки фронта из блока слов: непосещённые соседи захватываются атомарной установкой бита,
+     * так как соседи ячеек разных блоков могут лежать в одном слове.
+     *
+     * @return Количество ячеек, добавленных в следующий фронт.
+     */
+    private static int topDownStep(
+        MazeGraph graph,
+        long[] frontier,
+        long[] next,
+        long[] visited,
+        int[] levels,
+        int level,
+        int chunk
+    ) {
+        int added = 0;
+        int lastWord = Math.min(frontier.length, (chunk + 1) * CHUNK_WORDS);
+        for (int word = chunk * CHUNK_WORDS; word < lastWord; word++) {
+            for (long bits = frontier[word]; bits != 0; bits &= bits - 1) {
+                int cell = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+                    int neighbor = graph.target(edge);
+                    long mask = 1L << neighbor;
+                    int neighborWord = neighbor / Long.SIZE;
+                    if ((visited[neighborWord] & mask) == 0
+                        && ((long) WORDS.getAndBitwiseOr(visited, neighborWord, mask) & mask) == 0) {
+                        WORDS.getAndBitwiseOr(next, neighborWord, mask);
+                        levels[neighbor] = level;
+                        added++;
+                    }
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Проверяет непосещённые ячейки блока слов: ячейка попадает в следующий фронт, если хотя бы один её
+     * сосед лежит в текущем фронте. Блок пишет только в свои слова, поэтому атомарные операции не нужны.
+     *
+     * @return Количество ячеек, добавленных в следующий фронт.
+     */
+    private static int bottomUpStep(
+        MazeGraph graph,
+        long[] frontier,
+        long[] next,
+        long[] visited,
+        int[] levels,
+        int level,
+        int chunk
+    ) {
+        int added = 0;
+        int lastWord = Math.min(frontier.length, (chunk + 1) * CHUNK_WORDS);
+        for (int word = chunk * CHUNK_WORDS; word < lastWord; word++) {
+            long found = 0;
+            for (long bits = ~visited[word]; bits != 0; bits &= bits - 1) {
+                int cell = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                if (cell >= levels.length) {
+                    break;
+                }
+                for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+                    int neighbor = graph.target(edge);
+                    if ((frontier[neighbor / Long.SIZE] & 1L << neighbor) != 0) {
+                        found |= 1L << cell;
+                        levels[cell] = level;
+                        added++;
+                        break;
+                    }
+                }
+            }
+            visited[word] |= found;
+            next[word] = found;
+        }
+        return added;
+    }
+
+    /**
+     * Восстанавливает путь от конечной ячейки к начальной, переходя к соседу с уровнем на единицу меньше.
+     *
+     * @param graph  Граф лабиринта.
+     * @param levels Уровни ячеек.
+     * @param start  Номер начальной ячейки.
+     * @param end    Номер конечной ячейки.
+     * @return Путь и его стоимость.
+     */
+    private static Path reconstructPath(MazeGraph graph, int[] levels, int start, int end) {
+        List<Coordinate> path = new ArrayList<>();
+        int totalCost = graph.cellCost(start);
+        int current = end;
+        while (current != start) {
+            path.add(graph.coordinate(current));
+            int previous = current;
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                int incoming = graph.findEdge(neighbor, current);
+                if (levels[neighbor] == levels[current] - 1 && incoming >= 0) {
+                    totalCost += graph.weight(incoming);
+                    current = neighbor;
+                    break;
+                }
+            }
+
+            // Без обратного ребра цепочку уровней не восстановить
+            if (current == previous) {
+                return new Path(Collections.emptyList(), 0);
+            }
+        }
+        path.add(graph.coordinate(start));
+        Collections.reverse(path);
+        return new Path(path, totalCost);
+    }
+}
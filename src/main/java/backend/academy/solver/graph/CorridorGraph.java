@@ -0,0 +1,268 @@
+package backend.academy.solver.graph;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Граф развилок: граф лабиринта, в котором каждый коридор — цепочка ячеек ровно с двумя проходимыми соседями —
+ * заменён одним ребром между его концами. Концами служат развилки, тупики и закреплённые ячейки. Вес ребра
+ * равен сумме весов рёбер коридора, то есть стоимостям переходов и ячеек, а внутренние ячейки коридора
+ * сохраняются по порядку, чтобы раскрыть найденный путь обратно в путь по ячейкам.
+ * <p>
+ * Сжатый граф {@link #reduced()} — обычный {@link MazeGraph} с координатами развилок, поэтому на нём работает
+ * любой решатель. Между двумя развилками остаётся только самый дешёвый коридор в каждую сторону: более дорогой
+ * не может входить в кратчайший путь. Петли коридора из развилки в неё же отбрасываются. В совершенных
+ * лабиринтах большинство ячеек лежит внутри коридоров, и сжатый граф в несколько раз меньше исходного.
+ */
+public final class CorridorGraph {
+    private final MazeGraph original;
+    private final MazeGraph reduced;
+    // Для ребра сжатого графа e внутренние ячейки коридора лежат в runCells с runOffsets[e] по runOffsets[e + 1] - 1
+    private final int[] runOffsets;
+    private final int[] runCells;
+
+    private CorridorGraph(MazeGraph original, MazeGraph reduced, int[] runOffsets, int[] runCells) {
+        this.original = original;
+        this.reduced = reduced;
+        this.runOffsets = runOffsets;
+        this.runCells = runCells;
+    }
+
+    /**
+     * Сжимает коридоры графа лабиринта.
+     *
+     * @param graph  Граф лабиринта.
+     * @param pinned Номера ячеек, которые остаются вершинами сжатого графа, даже если лежат внутри коридора,
+     *               например начало и конец пути.
+     * @return Граф развилок.
+     */
+    public static CorridorGraph build(MazeGraph graph, int... pinned) {
+        int size = graph.size();
+        boolean[] junction = new boolean[size];
+        for (int id = 0; id < size; id++) {
+            junction[id] = graph.contains(id) && graph.edgesEnd(id) - graph.edgesStart(id) != 2;
+        }
+        for (int id : pinned) {
+            junction[id] = true;
+        }
+        // Коридор, замкнутый в кольцо без развилок, получает развилку в одной из своих ячеек
+        boolean[] covered = new boolean[size];
+        for (int id = 0; id < size; id++) {
+            if (junction[id]) {
+                markCorridors(graph, junction, covered, id);
+            }
+        }
+        for (int id = 0; id < size; id++) {
+            if (graph.contains(id) && !junction[id] && !covered[id]) {
+                junction[id] = true;
+                markCorridors(graph, junction, covered, id);
+            }
+        }
+
+        int[] reducedIds = new int[size];
+        IntArrayList junctionCells = new IntArrayList();
+        for (int id = 0; id < size; id++) {
+            reducedIds[id] = junction[id] ? junctionCells.size() : -1;
+            if (junction[id]) {
+                junctionCells.add(id);
+            }
+        }
+
+        int junctionCount = junctionCells.size();
+        Coordinate[] coordinates = new Coordinate[junctionCount];
+        byte[] cellCosts = new byte[junctionCount];
+        int[] offsets = new int[junctionCount + 1];
+        IntArrayList targets = new IntArrayList();
+        IntArrayList weights = new IntArrayList();
+        IntArrayList runOffsets = IntArrayList.of(0);
+        IntArrayList runCells = new IntArrayList();
+        IntArrayList run = new IntArrayList();
+        for (int node = 0; node < junctionCount; node++) {
+            int cell = junctionCells.getInt(node);
+            coordinates[node] = graph.coordinate(cell);
+            cellCosts[node] = (byte) graph.cellCost(cell);
+            int firstEdge = targets.size();
+            for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+                run.clear();
+                int previous = cell;
+                int current = graph.target(edge);
+                int weight = graph.weight(edge);
+                while (!junction[current]) {
+                    run.add(current);
+                    int next = nextEdge(graph, current, previous);
+                    weight += graph.weight(next);
+                    previous = current;
+                    current = graph.target(next);
+                }
+                if (current == cell) {
+                    continue;
+                }
+                int target = reducedIds[current];
+                int existing = indexOf(targets, firstEdge, target);
+                if (existing < 0) {
+                    targets.add(target);
+                    weights.add(weight);
+                    runCells.addAll(run);
+                    runOffsets.add(runCells.size());
+                } else if (weight < weights.getInt(existing)) {
+                    // Более дешёвый параллельный коридор заменяет найденный ранее
+                    weights.set(existing, weight);
+                    replaceRun(runOffsets, runCells, existing, run);
+                }
+            }
+            offsets[node + 1] = targets.size();
+        }
+
+        MazeGraph reduced = MazeGraph.of(coordinates, cellCosts, offsets, targets.toIntArray(), weights.toIntArray());
+        return new CorridorGraph(graph, reduced, runOffsets.toIntArray(), runCells.toIntArray());
+    }
+
+    /**
+     * Возвращает исходный граф лабиринта.
+     *
+     * @return Исходный граф.
+     */
+    public MazeGraph original() {
+        return original;
+    }
+
+    /**
+     * Возвращает сжатый граф, вершины которого — развилки, тупики и закреплённые ячейки.
+     *
+     * @return Сжатый граф.
+     */
+    public MazeGraph reduced() {
+        return reduced;
+    }
+
+    /**
+     * Проверяет, является ли ячейка вершиной сжатого графа.
+     *
+     * @param coordinate Координаты ячейки.
+     * @return true, если ячейка не лежит внутри коридора.
+     */
+    public boolean isJunction(Coordinate coordinate) {
+        return reduced.idOf(coordinate) >= 0;
+    }
+
+    /**
+     * Возвращает выходы из ячейки к развилкам: для ячейки внутри коридора — к развилкам на обоих его концах,
+     * для развилки — к ней самой с нулевыми стоимостями. Позволяет присоединить концы пути, лежащие в коридорах,
+     * к сжатому графу без его перестроения. Работает за время, пропорциональное длине коридора.
+     *
+     * @param coordinate Координаты ячейки исходного графа.
+     * @return Выходы из ячейки; для кольца с единственной развилкой оба выхода ведут в неё.
+     */
+    public List<Exit> exits(Coordinate coordinate) {
+        if (isJunction(coordinate)) {
+            return List.of(new Exit(coordinate, 0, 0, Collections.emptyList()));
+        }
+        int cell = original.idOf(coordinate);
+        List<Exit> exits = new ArrayList<>(2);
+        for (int edge = original.edgesStart(cell); edge < original.edgesEnd(cell); edge++) {
+            List<Coordinate> cells = new ArrayList<>();
+            cells.add(coordinate);
+            int previous = cell;
+            int current = original.target(edge);
+            int costToJunction = original.weight(edge);
+            int costFromJunction = original.weight(original.findEdge(current, cell));
+            while (!isJunction(original.coordinate(current))) {
+                cells.add(original.coordinate(current));
+                int next = original.target(nextEdge(original, current, previous));
+                costToJunction += original.weight(original.findEdge(current, next));
+                costFromJunction += original.weight(original.findEdge(next, current));
+                previous = current;
+                current = next;
+            }
+            exits.add(new Exit(original.coordinate(current), costToJunction, costFromJunction, cells));
+        }
+        return exits;
+    }
+
+    /**
+     * Раскрывает путь по сжатому графу в путь по ячейкам лабиринта, вставляя между соседними вершинами
+     * внутренние ячейки соединяющего их коридора. Стоимость пути не меняется.
+     *
+     * @param path Путь по сжатому графу.
+     * @return Путь по исходному графу.
+     */
+    public Path expand(Path path) {
+        List<Coordinate> junctions = path.coordinates();
+        if (junctions.isEmpty()) {
+            return new Path(Collections.emptyList(), 0);
+        }
+        List<Coordinate> coordinates = new ArrayList<>();
+        coordinates.add(junctions.getFirst());
+        for (int i = 1; i < junctions.size(); i++) {
+            int edge = reduced.findEdge(reduced.idOf(junctions.get(i - 1)), reduced.idOf(junctions.get(i)));
+            for (int position = runOffsets[edge]; position < runOffsets[edge + 1]; position++) {
+                coordinates.add(original.coordinate(runCells[position]));
+            }
+            coordinates.add(junctions.get(i));
+        }
+        return new Path(coordinates, path.totalCost());
+    }
+
+    /**
+     * Отмечает внутренние ячейки всех коридоров, выходящих из развилки.
+     */
+    private static void markCorridors(MazeGraph graph, boolean[] junction, boolean[] covered, int cell) {
+        for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+            int previous = cell;
+            int current = graph.target(edge);
+            while (!junction[current] && !covered[current]) {
+                covered[current] = true;
+                int next = nextEdge(graph, current, previous);
+                previous = current;
+                current = graph.target(next);
+            }
+        }
+    }
+
+    /**
+     * Возвращает ребро ячейки коридора, ведущее не в ту ячейку, из которой пришли.
+     */
+    private static int nextEdge(MazeGraph graph, int cell, int previous) {
+        int edge = graph.edgesStart(cell);
+        return graph.target(edge) == previous ? edge + 1 : edge;
+    }
+
+    private static int indexOf(IntArrayList targets, int from, int target) {
+        for (int index = from; index < targets.size(); index++) {
+            if (targets.getInt(index) == target) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static void replaceRun(IntArrayList runOffsets, IntArrayList runCells, int edge, IntArrayList run) {
+        // Коридоры ребра edge и всех следующих рёбер ячейки лежат в конце runCells и сдвигаются целиком
+        int start = runOffsets.getInt(edge);
+        int end = runOffsets.getInt(edge + 1);
+        IntArrayList tail = new IntArrayList(runCells.subList(end, runCells.size()));
+        runCells.size(start);
+        runCells.addAll(run);
+        int shift = run.size() - (end - start);
+        runCells.addAll(tail);
+        for (int index = edge + 1; index < runOffsets.size(); index++) {
+            runOffsets.set(index, runOffsets.getInt(index) + shift);
+        }
+    }
+
+    /**
+     * Выход из ячейки к развилке вдоль коридора.
+     *
+     * @param junction         Координаты развилки.
+     * @param costToJunction   Сумма весов рёбер от ячейки до развилки.
+     * @param costFromJunction Сумма весов рёбер от развилки до ячейки.
+     * @param cells            Ячейки коридора от исходной ячейки до развилки, не включая развилку;
+     *                         пусто, если ячейка сама является развилкой.
+     */
+    public record Exit(Coordinate junction, int costToJunction, int costFromJunction, List<Coordinate> cells) {
+    }
+}
@@ -0,0 +1,391 @@
+package backend.academy.solver.graph;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.maze.NeighborCursor;
+import backend.academy.mazetype.MazeTypeProvider;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.BitSet;
+
+/**
+ * Представление лабиринта для алгоритмов поиска в сжатом построчном формате (CSR). Ячейки пронумерованы
+ * так же, как в лабиринте ({@link Maze#cellId}), числами от 0 до {@link #size()} - 1, а проходимые рёбра
+ * ячейки id лежат в массивах targets и weights на позициях с offsets[id] по offsets[id + 1] - 1. Вес ребра
+ * уже включает стоимость перехода и стоимость ячейки, в которую он ведёт, поэтому цикл поиска читает только
+ * последовательные массивы примитивов.
+ * <p>
+ * Координаты ячеек сетки лабиринта не хранятся: номер такой ячейки равен row * gridWidth + col, и координаты
+ * вычисляются по номеру. Координаты и хеш-таблица номеров хранятся только для ячеек вне сетки. Веса рёбер
+ * лабиринта не превышают суммы стоимостей ребра и ячейки и хранятся в байтах; массив int используется, только
+ * если вес не помещается в байт, как у рёбер {@link CorridorGraph}, соединяющих концы коридоров.
+ * <p>
+ * Граф строится один раз для лабиринта и провайдера типов и после построения не изменяется.
+ */
+public final class MazeGraph {
+    private final int gridHeight;
+    private final int gridWidth;
+    private final int gridSize;
+    // Ячейки сетки, которые есть в лабиринте
+    private final BitSet gridCells;
+    // Ячейки вне сетки: их номера начинаются с gridSize
+    private final Coordinate[] overflowCoordinates;
+    private final Object2IntOpenHashMap<Coordinate> overflowIds;
+    private final byte[] cellCosts;
+    private final int[] offsets;
+    private final int[] targets;
+    // Заполнен ровно один из массивов весов
+    private final byte[] byteWeights;
+    private final int[] intWeights;
+    private final int minWeight;
+    private final int minStepWeight;
+    private final int maxWeight;
+    private final boolean uniformGrid;
+    // Отпечаток содержимого графа; вычисляется при первом обращении, 0 означает «ещё не вычислен»
+    private long fingerprint;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private MazeGraph(
+        int gridWidth,
+        BitSet gridCells,
+        Coordinate[] overflowCoordinates,
+        byte[] cellCosts,
+        int[] offsets,
+        int[] targets,
+        byte[] byteWeights,
+        int[] intWeights
+    ) {
+        this.gridSize = cellCosts.length - overflowCoordinates.length;
+        this.gridHeight = gridWidth == 0 ? 0 : gridSize / gridWidth;
+        this.gridWidth = gridWidth;
+        this.gridCells = gridCells;
+        this.overflowCoordinates = overflowCoordinates;
+        this.overflowIds = new Object2IntOpenHashMap<>(overflowCoordinates.length);
+        overflowIds.defaultReturnValue(Cell.NO_ID);
+        for (int i = 0; i < overflowCoordinates.length; i++) {
+            if (overflowCoordinates[i] != null) {
+                overflowIds.put(overflowCoordinates[i], gridSize + i);
+            }
+        }
+        this.cellCosts = cellCosts;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.byteWeights = byteWeights;
+        this.intWeights = intWeights;
+        int min = Integer.MAX_VALUE;
+        int minStep = Integer.MAX_VALUE;
+        int max = 0;
+        boolean uniform = true;
+        int edgeCount = targets.length;
+        int firstWeight = edgeCount == 0 ? 0 : weight(0);
+        for (int id = 0; id < cellCosts.length; id++) {
+            for (int edge = offsets[id]; edge < offsets[id + 1]; edge++) {
+                int weight = weight(edge);
+                int distance = distance(id, targets[edge]);
+                min = Math.min(min, weight);
+                minStep = Math.min(minStep, weight / Math.max(1, distance));
+                max = Math.max(max, weight);
+                uniform &= weight == firstWeight && distance == 1;
+            }
+        }
+        this.minWeight = edgeCount == 0 ? 0 : min;
+        this.minStepWeight = edgeCount == 0 ? 0 : minStep;
+        this.maxWeight = max;
+        this.uniformGrid = uniform;
+    }
+
+    /**
+     * Строит граф по лабиринту, оставляя только рёбра, проходимые для заданного провайдера типов.
+     *
+     * @param maze             Лабиринт.
+     * @param mazeTypeProvider Провайдер типов, определяющий проходимость рёбер.
+     * @return Граф лабиринта.
+     */
+    public static MazeGraph of(Maze maze, MazeTypeProvider mazeTypeProvider) {
+        EdgeType[] edgeTypes = EdgeType.values();
+        boolean[] passable = new boolean[edgeTypes.length];
+        for (EdgeType edgeType : edgeTypes) {
+            passable[edgeType.ordinal()] = mazeTypeProvider.isPassage(edgeType);
+        }
+
+        // Номера ячеек графа совпадают с номерами ячеек лабиринта
+        int size = maze.cellIdBound();
+        int gridHeight = maze.gridHeight();
+        int gridWidth = maze.gridWidth();
+        int gridSize = gridHeight * gridWidth;
+        BitSet gridCells = new BitSet(gridSize);
+        Coordinate[] overflowCoordinates = new Coordinate[size - gridSize];
+        byte[] cellCosts = new byte[size];
+        for (int id = 0; id < size; id++) {
+            CellType cellType = maze.getCellType(id);
+            if (cellType != null) {
+                cellCosts[id] = (byte) cellType.movementCost();
+                if (id < gridSize) {
+                    gridCells.set(id);
+                } else {
+                    overflowCoordinates[id - gridSize] = maze.getCell(id).coordinate();
+                }
+            }
+        }
+
+        int[] offsets = new int[size + 1];
+        IntArrayList targets = new IntArrayList(size * 2);
+        ByteArrayList weights = new ByteArrayList(size * 2);
+        NeighborCursor cursor = maze.neighborCursor();
+        for (int id = 0; id < size; id++) {
+            cursor.reset(id);
+            while (cursor.next()) {
+                int target = cursor.id();
+                if (passable[cursor.edgeType().ordinal()] && target != Cell.NO_ID) {
+                    targets.add(target);
+                    weights.add((byte) (cursor.edgeType().movementCost() + cellCosts[target]));
+                }
+            }
+            offsets[id + 1] = targets.size();
+        }
+
+        return new MazeGraph(gridWidth, gridCells, overflowCoordinates, cellCosts, offsets,
+            targets.toIntArray(), weights.toByteArray(), null);
+    }
+
+    /**
+     * Строит граф по готовым массивам CSR. Рёбра могут соединять несоседние ячейки, например концы коридора
+     * в {@link CorridorGraph}, поэтому координаты всех ячеек задаются явно.
+     */
+    static MazeGraph of(Coordinate[] coordinates, byte[] cellCosts, int[] offsets, int[] targets, int[] weights) {
+        boolean fitsInBytes = true;
+        for (int weight : weights) {
+            fitsInBytes &= weight <= Byte.MAX_VALUE;
+        }
+        byte[] byteWeights = null;
+        if (fitsInBytes) {
+            byteWeights = new byte[weights.length];
+            for (int edge = 0; edge < weights.length; edge++) {
+                byteWeights[edge] = (byte) weights[edge];
+            }
+        }
+        return new MazeGraph(0, new BitSet(), coordinates, cellCosts, offsets, targets, byteWeights,
+            fitsInBytes ? null : weights);
+    }
+
+    /**
+     * Возвращает количество номеров ячеек графа. Номера ячеек, отсутствующих в лабиринте, не имеют рёбер.
+     *
+     * @return Количество номеров.
+     */
+    public int size() {
+        return cellCosts.length;
+    }
+
+    /**
+     * Возвращает номер ячейки по координатам.
+     *
+     * @param coordinate Координаты ячейки.
+     * @return Номер ячейки или {@link Cell#NO_ID}, если такой ячейки нет.
+     */
+    public int idOf(Coordinate coordinate) {
+        int row = coordinate.row();
+        int col = coordinate.col();
+        if (row >= 0 && row < gridHeight && col >= 0 && col < gridWidth) {
+            int id = row * gridWidth + col;
+            return gridCells.get(id) ? id : Cell.NO_ID;
+        }
+        return overflowIds.getInt(coordinate);
+    }
+
+    /**
+     * Возвращает координаты ячейки по её номеру.
+     *
+     * @param id Номер ячейки.
+     * @return Координаты ячейки или null, если номер свободен.
+     */
+    public Coordinate coordinate(int id) {
+        if (id >= gridSize) {
+            return overflowCoordinates[id - gridSize];
+        }
+        return gridCells.get(id) ? new Coordinate(id / gridWidth, id % gridWidth) : null;
+    }
+
+    /**
+     * Проверяет, что номер занят ячейкой лабиринта.
+     *
+     * @param id Номер ячейки.
+     * @return true, если ячейка с таким номером есть.
+     */
+    public boolean contains(int id) {
+        return id < gridSize ? gridCells.get(id) : overflowCoordinates[id - gridSize] != null;
+    }
+
+    /**
+     * Возвращает строку ячейки, не создавая объект координат. Удобно для эвристик, которые вызываются
+     * для каждого ребра.
+     *
+     * @param id Номер существующей ячейки.
+     * @return Номер строки.
+     */
+    public int row(int id) {
+        return id < gridSize ? id / gridWidth : overflowCoordinates[id - gridSize].row();
+    }
+
+    /**
+     * Возвращает столбец ячейки, не создавая объект координат.
+     *
+     * @param id Номер существующей ячейки.
+     * @return Номер столбца.
+     */
+    public int col(int id) {
+        return id < gridSize ? id % gridWidth : overflowCoordinates[id - gridSize].col();
+    }
+
+    /**
+     * Возвращает стоимость прохождения ячейки.
+     *
+     * @param id Номер ячейки.
+     * @return Стоимость ячейки.
+     */
+    public int cellCost(int id) {
+        return cellCosts[id];
+    }
+
+    /**
+     * Возвращает позицию первого ребра ячейки.
+     *
+     * @param id Номер ячейки.
+     * @return Позиция первого ребра.
+     */
+    public int edgesStart(int id) {
+        return offsets[id];
+    }
+
+    /**
+     * Возвращает позицию, следующую за последним ребром ячейки.
+     *
+     * @param id Номер ячейки.
+     * @return Позиция после последнего ребра.
+     */
+    public int edgesEnd(int id) {
+        return offsets[id + 1];
+    }
+
+    /**
+     * Возвращает номер ячейки, в которую ведёт ребро.
+     *
+     * @param edge Позиция ребра.
+     * @return Номер целевой ячейки.
+     */
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * Возвращает вес ребра: стоимость перехода плюс стоимость целевой ячейки.
+     *
+     * @param edge Позиция ребра.
+     * @return Вес ребра.
+     */
+    public int weight(int edge) {
+        return byteWeights != null ? byteWeights[edge] : intWeights[edge];
+    }
+
+    /**
+     * Возвращает наименьший вес ребра графа.
+     *
+     * @return Наименьший вес или 0, если рёбер нет.
+     */
+    public int minWeight() {
+        return minWeight;
+    }
+
+    /**
+     * Возвращает нижнюю границу стоимости единицы манхэттенского расстояния: для любого ребра вес не меньше
+     * этого значения, умноженного на манхэттенское расстояние между его концами. В графе лабиринта рёбра
+     * соединяют соседние ячейки, и значение совпадает с {@link #minWeight()}.
+     *
+     * @return Наименьший вес на единицу расстояния или 0, если рёбер нет.
+     */
+    public int minStepWeight() {
+        return minStepWeight;
+    }
+
+    /**
+     * Возвращает наибольший вес ребра графа.
+     *
+     * @return Наибольший вес или 0, если рёбер нет.
+     */
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Проверяет, что граф является решёткой с единичной стоимостью шага: каждое ребро соединяет соседние
+     * по стороне ячейки, и все рёбра имеют одинаковый вес.
+     *
+     * @return true, если граф — решётка с одинаковыми весами рёбер.
+     */
+    public boolean isUniformGrid() {
+        return uniformGrid;
+    }
+
+    /**
+     * Ищет ребро между двумя ячейками.
+     *
+     * @param from Номер начальной ячейки.
+     * @param to   Номер конечной ячейки.
+     * @return Позиция ребра или -1, если проходимого ребра нет.
+     */
+    public int findEdge(int from, int to) {
+        for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+            if (targets[edge] == to) {
+                return edge;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает 64-битный отпечаток содержимого графа: координат, стоимостей ячеек и рёбер с весами.
+     * Графы, построенные по лабиринтам с одинаковым содержимым, имеют одинаковый отпечаток, поэтому его можно
+     * использовать как ключ кеша результатов поиска. Отпечаток вычисляется за один проход при первом вызове.
+     *
+     * @return Отпечаток графа.
+     */
+    public long fingerprint() {
+        long hash = fingerprint;
+        if (hash == 0) {
+            hash = computeFingerprint();
+            fingerprint = hash;
+        }
+        return hash;
+    }
+
+    private long computeFingerprint() {
+        long hash = mix(cellCosts.length);
+        for (int id = 0; id < cellCosts.length; id++) {
+            long position = contains(id) ? (long) row(id) << 32 | (col(id) & 0xffffffffL) : -1;
+            hash = mix(hash ^ position);
+            hash = mix(hash ^ cellCosts[id] ^ (long) offsets[id + 1] << 8);
+            for (int edge = offsets[id]; edge < offsets[id + 1]; edge++) {
+                hash = mix(hash ^ targets[edge] ^ (long) weight(edge) << 32);
+            }
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Перемешивает биты значения (финализатор MurmurHash3).
+     */
+    private static long mix(long value) {
+        long hash = value;
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private int distance(int from, int to) {
+        return Math.abs(row(from) - row(to)) + Math.abs(col(from) - col(to));
+    }
+}
@@ -0,0 +1,301 @@
+package backend.academy.solver.hierarchy;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.solver.graph.MazeGraph;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Абстракция графа лабиринта для иерархического поиска (HPA*). Лабиринт делится на квадратные кластеры
+ * заданного размера; входными называются ячейки, у которых есть ребро в другой кластер. Абстрактный граф состоит
+ * из входных ячеек и двух видов рёбер: рёбер исходного графа между кластерами и внутренних рёбер между входными
+ * ячейками одного кластера со стоимостью кратчайшего пути, не выходящего из кластера.
+ * <p>
+ * Внутреннее ребро сохраняется, только если никакой кратчайший путь внутри кластера не проходит через третью
+ * входную ячейку: такой путь и так складывается из двух более коротких рёбер. Поскольку входными считаются все
+ * ячейки границы, а не представители участков, поиск по абстрактному графу находит оптимальную стоимость.
+ * <p>
+ * Внутренние рёбра каждого кластера вычисляются независимо, поэтому построение выполняется параллельно.
+ * После построения абстракция не изменяется и может использоваться из нескольких потоков.
+ */
+public final class ClusterGraph {
+    private static final Logger LOGGER = Logger.getLogger(ClusterGraph.class.getName());
+    private static final int NO_NODE = -1;
+
+    private final MazeGraph graph;
+    private final int clusterSize;
+    private final int minRow;
+    private final int minCol;
+    private final int clusterColumns;
+    private final int clusterCount;
+    // Кластер и локальный номер каждой ячейки; -1 для номеров без ячейки
+    private final int[] clusterOf;
+    private final int[] localIndex;
+    // Количество ячеек каждого кластера и наибольшее из них
+    private final int[] clusterCellCounts;
+    private final int maxClusterCells;
+    // Входные ячейки: узел по номеру ячейки, ячейка по узлу и диапазон узлов каждого кластера
+    private final int[] nodeOf;
+    private final int[] nodeCells;
+    private final int[] clusterNodeOffsets;
+    // Рёбра абстрактного графа в формате CSR
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final int[] edgeWeights;
+
+    private ClusterGraph(MazeGraph graph, int clusterSize) {
+        this.graph = graph;
+        this.clusterSize = clusterSize;
+
+        int minR = Integer.MAX_VALUE;
+        int minC = Integer.MAX_VALUE;
+        int maxR = Integer.MIN_VALUE;
+        int maxC = Integer.MIN_VALUE;
+        for (int id = 0; id < graph.size(); id++) {
+            Coordinate coordinate = graph.coordinate(id);
+            if (coordinate != null) {
+                minR = Math.min(minR, coordinate.row());
+                minC = Math.min(minC, coordinate.col());
+                maxR = Math.max(maxR, coordinate.row());
+                maxC = Math.max(maxC, coordinate.col());
+            }
+        }
+        boolean empty = minR > maxR;
+        this.minRow = empty ? 0 : minR;
+        this.minCol = empty ? 0 : minC;
+        int clusterRows = empty ? 0 : (maxR - minR) / clusterSize + 1;
+        this.clusterColumns = empty ? 0 : (maxC - minC) / clusterSize + 1;
+        this.clusterCount = Math.multiplyExact(clusterRows, clusterColumns);
+
+        // Раскладываем ячейки по кластерам и нумеруем их внутри кластера
+        this.clusterOf = new int[graph.size()];
+        this.localIndex = new int[graph.size()];
+        this.clusterCellCounts = new int[clusterCount];
+        int maxCells = 0;
+        for (int id = 0; id < graph.size(); id++) {
+            Coordinate coordinate = graph.coordinate(id);
+            if (coordinate == null) {
+                clusterOf[id] = NO_NODE;
+                localIndex[id] = NO_NODE;
+            } else {
+                int cluster = clusterIndex(coordinate);
+                clusterOf[id] = cluster;
+                localIndex[id] = clusterCellCounts[cluster]++;
+                maxCells = Math.max(maxCells, clusterCellCounts[cluster]);
+            }
+        }
+        this.maxClusterCells = maxCells;
+
+        // Входные ячейки — концы рёбер между кластерами; узлы одного кластера идут подряд
+        boolean[] entrance = new boolean[graph.size()];
+        for (int id = 0; id < graph.size(); id++) {
+            for (int edge = graph.edgesStart(id); edge < graph.edgesEnd(id); edge++) {
+                int target = graph.target(edge);
+                if (clusterOf[target] != clusterOf[id]) {
+                    entrance[id] = true;
+                    entrance[target] = true;
+                }
+            }
+        }
+        this.clusterNodeOffsets = new int[clusterCount + 1];
+        for (int id = 0; id < graph.size(); id++) {
+            if (entrance[id]) {
+                clusterNodeOffsets[clusterOf[id] + 1]++;
+            }
+        }
+        for (int cluster = 0; cluster < clusterCount; cluster++) {
+            clusterNodeOffsets[cluster + 1] += clusterNodeOffsets[cluster];
+        }
+        this.nodeOf = new int[graph.size()];
+        this.nodeCells = new int[clusterNodeOffsets[clusterCount]];
+        int[] nextNode = Arrays.copyOf(clusterNodeOffsets, clusterCount);
+        for (int id = 0; id < graph.size(); id++) {
+            if (entrance[id]) {
+                int node = nextNode[clusterOf[id]]++;
+                nodeOf[id] = node;
+                nodeCells[node] = id;
+            } else {
+                nodeOf[id] = NO_NODE;
+            }
+        }
+
+        // Внутренние рёбра кластеров независимы и считаются параллельно
+        IntArrayList[] intraEdges = IntStream.range(0, clusterCount)
+            .parallel()
+            .mapToObj(this::intraClusterEdges)
+            .toArray(IntArrayList[]::new);
+
+        int nodeCount = nodeCells.length;
+        this.edgeOffsets = new int[nodeCount + 1];
+        IntArrayList targets = new IntArrayList();
+        IntArrayList weights = new IntArrayList();
+        for (int cluster = 0; cluster < clusterCount; cluster++) {
+            IntArrayList intra = intraEdges[cluster];
+            int position = 0;
+            for (int node = clusterNodeOffsets[cluster]; node < clusterNodeOffsets[cluster + 1]; node++) {
+                // Внутренние рёбра кластера записаны тройками (узел, цель, вес) в порядке узлов
+                while (position < intra.size() && intra.getInt(position) == node) {
+                    targets.add(intra.getInt(position + 1));
+                    weights.add(intra.getInt(position + 2));
+                    position += 3;
+                }
+                int cell = nodeCells[node];
+                for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+                    int target = graph.target(edge);
+                    if (clusterOf[target] != cluster) {
+                        targets.add(nodeOf[target]);
+                        weights.add(graph.weight(edge));
+                    }
+                }
+                edgeOffsets[node + 1] = targets.size();
+            }
+        }
+        this.edgeTargets = targets.toIntArray();
+        this.edgeWeights = weights.toIntArray();
+    }
+
+    /**
+     * Строит абстракцию графа лабиринта.
+     *
+     * @param graph       Граф лабиринта.
+     * @param clusterSize Сторона кластера в ячейках.
+     * @return Абстракция графа.
+     */
+    public static ClusterGraph build(MazeGraph graph, int clusterSize) {
+        if (clusterSize <= 0) {
+            LOGGER.warning("Cluster size must be positive.");
+            throw new IllegalArgumentException("Cluster size must be positive");
+        }
+        return new ClusterGraph(graph, clusterSize);
+    }
+
+    /**
+     * Возвращает граф лабиринта, по которому построена абстракция.
+     *
+     * @return Граф лабиринта.
+     */
+    public MazeGraph graph() {
+        return graph;
+    }
+
+    /**
+     * Возвращает сторону кластера в ячейках.
+     *
+     * @return Размер кластера.
+     */
+    public int clusterSize() {
+        return clusterSize;
+    }
+
+    /**
+     * Возвращает количество кластеров.
+     *
+     * @return Количество кластеров.
+     */
+    public int clusterCount() {
+        return clusterCount;
+    }
+
+    /**
+     * Возвращает количество узлов абстрактного графа, то есть входных ячеек.
+     *
+     * @return Количество узлов.
+     */
+    public int nodeCount() {
+        return nodeCells.length;
+    }
+
+    /**
+     * Возвращает количество рёбер абстрактного графа.
+     *
+     * @return Количество рёбер.
+     */
+    public int edgeCount() {
+        return edgeTargets.length;
+    }
+
+    int clusterOf(int cell) {
+        return clusterOf[cell];
+    }
+
+    int localIndex(int cell) {
+        return localIndex[cell];
+    }
+
+    int clusterCellCount(int cluster) {
+        return clusterCellCounts[cluster];
+    }
+
+    int maxClusterCells() {
+        return maxClusterCells;
+    }
+
+    boolean isEntrance(int cell) {
+        return nodeOf[cell] != NO_NODE;
+    }
+
+    int nodeOf(int cell) {
+        return nodeOf[cell];
+    }
+
+    int nodeCell(int node) {
+        return nodeCells[node];
+    }
+
+    int clusterNodesStart(int cluster) {
+        return clusterNodeOffsets[cluster];
+    }
+
+    int clusterNodesEnd(int cluster) {
+        return clusterNodeOffsets[cluster + 1];
+    }
+
+    int edgesStart(int node) {
+        return edgeOffsets[node];
+    }
+
+    int edgesEnd(int node) {
+        return edgeOffsets[node + 1];
+    }
+
+    int target(int edge) {
+        return edgeTargets[edge];
+    }
+
+    int weight(int edge) {
+        return edgeWeights[edge];
+    }
+
+    /**
+     * Вычисляет внутренние рёбра кластера поиском Дейкстры из каждой его входной ячейки.
+     */
+    private IntArrayList intraClusterEdges(int cluster) {
+        IntArrayList edges = new IntArrayList();
+        int first = clusterNodeOffsets[cluster];
+        int last = clusterNodeOffsets[cluster + 1];
+        if (last - first < 2) {
+            return edges;
+        }
+        ClusterSearch search = new ClusterSearch(this);
+        for (int node = first; node < last; node++) {
+            search.forward(nodeCells[node], NO_NODE);
+            for (int other = first; other < last; other++) {
+                int cell = nodeCells[other];
+                if (other != node && search.distance(cell) != Integer.MAX_VALUE && !search.isViaEntrance(cell)) {
+                    edges.add(node);
+                    edges.add(other);
+                    edges.add(search.distance(cell));
+                }
+            }
+        }
+        return edges;
+    }
+
+    private int clusterIndex(Coordinate coordinate) {
+        int row = (coordinate.row() - minRow) / clusterSize;
+        int col = (coordinate.col() - minCol) / clusterSize;
+        return row * clusterColumns + col;
+    }
+}
@@ -0,0 +1,156 @@
+package backend.academy.solver.hierarchy;
+
+import backend.academy.solver.graph.MazeGraph;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import java.util.Arrays;
+
+/**
+ * Алгоритм Дейкстры, ограниченный ячейками одного кластера. Массивы индексируются локальными номерами ячеек
+ * кластера, поэтому их размер не превышает площади кластера и они переиспользуются между поисками.
+ * <p>
+ * Прямой поиск считает стоимости путей от источника, обратный — стоимости путей до цели, проходя рёбра
+ * в обратную сторону. Стоимость пути не включает стоимость его первой ячейки.
+ */
+final class ClusterSearch {
+    private static final int NO_CELL = -1;
+
+    private final ClusterGraph clusters;
+    private final MazeGraph graph;
+    private final LongHeapPriorityQueue heap = new LongHeapPriorityQueue();
+    private final int[] distances;
+    private final int[] parents;
+    private final boolean[] viaEntrance;
+    private int cluster = -1;
+
+    ClusterSearch(ClusterGraph clusters) {
+        this.clusters = clusters;
+        this.graph = clusters.graph();
+        int capacity = clusters.maxClusterCells();
+        this.distances = new int[capacity];
+        this.parents = new int[capacity];
+        this.viaEntrance = new boolean[capacity];
+    }
+
+    /**
+     * Считает стоимости путей от источника до ячеек его кластера. Для каждой ячейки дополнительно отмечается,
+     * существует ли кратчайший путь до неё, проходящий через другую входную ячейку кластера.
+     *
+     * @param source Номер ячейки-источника.
+     * @param stop   Номер ячейки, после извлечения которой поиск можно прекратить, или -1.
+     */
+    void forward(int source, int stop) {
+        reset(source);
+        distances[clusters.localIndex(source)] = 0;
+        heap.enqueue(pack(0, source));
+
+        while (!heap.isEmpty()) {
+            long entry = heap.dequeueLong();
+            int current = (int) entry;
+            int local = clusters.localIndex(current);
+            int cost = (int) (entry >>> Integer.SIZE);
+            if (cost > distances[local]) {
+                continue;
+            }
+            if (current == stop) {
+                return;
+            }
+            boolean via = viaEntrance[local] || current != source && clusters.isEntrance(current);
+
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                relax(current, graph.target(edge), cost + graph.weight(edge), via);
+            }
+        }
+    }
+
+    /**
+     * Считает стоимости путей от ячеек кластера до цели. Предшественником ячейки становится следующая ячейка
+     * на пути к цели. Рёбра предполагаются симметричными, как в лабиринтах: обратное ребро ищется среди рёбер
+     * соседа.
+     *
+     * @param target Номер целевой ячейки.
+     */
+    void backward(int target) {
+        reset(target);
+        distances[clusters.localIndex(target)] = 0;
+        heap.enqueue(pack(0, target));
+
+        while (!heap.isEmpty()) {
+            long entry = heap.dequeueLong();
+            int current = (int) entry;
+            int cost = (int) (entry >>> Integer.SIZE);
+            if (cost > distances[clusters.localIndex(current)]) {
+                continue;
+            }
+
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                int reverse = graph.findEdge(neighbor, current);
+                if (reverse >= 0) {
+                    relax(current, neighbor, cost + graph.weight(reverse), false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Возвращает стоимость пути, найденную последним поиском.
+     *
+     * @param cell Номер ячейки.
+     * @return Стоимость или {@link Integer#MAX_VALUE}, если ячейка вне кластера или недостижима.
+     */
+    int distance(int cell) {
+        if (clusters.clusterOf(cell) != cluster) {
+            return Integer.MAX_VALUE;
+        }
+        return distances[clusters.localIndex(cell)];
+    }
+
+    /**
+     * Возвращает предшественника ячейки в последнем поиске.
+     *
+     * @param cell Номер ячейки кластера.
+     * @return Номер предшественника или -1 для начальной ячейки поиска.
+     */
+    int parent(int cell) {
+        return parents[clusters.localIndex(cell)];
+    }
+
+    /**
+     * Проверяет, проходит ли какой-нибудь кратчайший путь прямого поиска до ячейки через другую входную ячейку.
+     *
+     * @param cell Номер ячейки кластера.
+     * @return true, если такой путь есть.
+     */
+    boolean isViaEntrance(int cell) {
+        return viaEntrance[clusters.localIndex(cell)];
+    }
+
+    private void relax(int current, int neighbor, int cost, boolean via) {
+        if (clusters.clusterOf(neighbor) != cluster) {
+            return;
+        }
+        int local = clusters.localIndex(neighbor);
+        if (cost < distances[local]) {
+            distances[local] = cost;
+            parents[local] = current;
+            viaEntrance[local] = via;
+            heap.enqueue(pack(cost, neighbor));
+        } else if (cost == distances[local]) {
+            // Достаточно, чтобы через входную ячейку проходил хотя бы один из кратчайших путей
+            viaEntrance[local] |= via;
+        }
+    }
+
+    private void reset(int source) {
+        cluster = clusters.clusterOf(source);
+        int size = clusters.clusterCellCount(cluster);
+        Arrays.fill(distances, 0, size, Integer.MAX_VALUE);
+        Arrays.fill(parents, 0, size, NO_CELL);
+        Arrays.fill(viaEntrance, 0, size, false);
+        heap.clear();
+    }
+
+    private static long pack(int cost, int cell) {
+        return (long) cost << Integer.SIZE | cell;
+    }
+}
@@ -0,0 +1,220 @@
+package backend.academy.solver.hierarchy;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Иерархический поиск пути (HPA*). Для графа лабиринта один раз строится {@link ClusterGraph}; запрос ищет
+ * путь от начальной ячейки до входных ячеек её кластера, затем алгоритмом Дейкстры по абстрактному графу
+ * до входных ячеек кластера цели, после чего уточняет найденный маршрут поиском только внутри кластеров,
+ * через которые он проходит. Так поиск затрагивает малую часть ячеек большого лабиринта.
+ * <p>
+ * Абстракции кешируются по ссылке на граф, поэтому выгода появляется при повторных запросах к одному графу:
+ * первый запрос оплачивает построение абстракции. Найденный путь оптимален.
+ */
+public class HierarchicalSolver implements Solver {
+    public static final int DEFAULT_CLUSTER_SIZE = 32;
+    private static final int MAXIMUM_CACHED_GRAPHS = 4;
+    private static final Logger LOGGER = Logger.getLogger(HierarchicalSolver.class.getName());
+
+    private final int clusterSize;
+    private final Cache<MazeGraph, ClusterGraph> abstractions = Caffeine.newBuilder()
+        .weakKeys()
+        .maximumSize(MAXIMUM_CACHED_GRAPHS)
+        .build();
+
+    public HierarchicalSolver() {
+        this(DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * Создаёт решатель с заданным размером кластера.
+     *
+     * @param clusterSize Сторона кластера в ячейках.
+     */
+    public HierarchicalSolver(int clusterSize) {
+        if (clusterSize <= 0) {
+            LOGGER.warning("Cluster size must be positive.");
+            throw new IllegalArgumentException("Cluster size must be positive");
+        }
+        this.clusterSize = clusterSize;
+    }
+
+    /**
+     * Возвращает абстракцию графа, строя её при первом обращении. Позволяет выполнить предварительную обработку
+     * заранее, до первого запроса.
+     *
+     * @param graph Граф лабиринта.
+     * @return Абстракция графа.
+     */
+    public ClusterGraph abstraction(MazeGraph graph) {
+        return abstractions.get(graph, g -> ClusterGraph.build(g, clusterSize));
+    }
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
+
+        if (start < 0 || end < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        ClusterGraph clusters = abstraction(graph);
+        ClusterSearch fromStart = new ClusterSearch(clusters);
+        ClusterSearch toEnd = new ClusterSearch(clusters);
+        fromStart.forward(start, -1);
+        toEnd.backward(end);
+
+        // Путь, не выходящий из кластера, возможен, только если начало и конец лежат в одном кластере
+        int startCost = graph.cellCost(start);
+        int direct = fromStart.distance(end);
+        int directCost = direct == Integer.MAX_VALUE ? Integer.MAX_VALUE : startCost + direct;
+
+        int nodeCount = clusters.nodeCount();
+        int goal = nodeCount;
+        int[] costs = new int[nodeCount + 1];
+        int[] parents = new int[nodeCount + 1];
+        Arrays.fill(costs, Integer.MAX_VALUE);
+        LongHeapPriorityQueue openSet = new LongHeapPriorityQueue();
+
+        int startCluster = clusters.clusterOf(start);
+        int lastStartNode = clusters.clusterNodesEnd(startCluster);
+        for (int node = clusters.clusterNodesStart(startCluster); node < lastStartNode; node++) {
+            int distance = fromStart.distance(clusters.nodeCell(node));
+            if (distance != Integer.MAX_VALUE) {
+                costs[node] = startCost + distance;
+                parents[node] = -1;
+                openSet.enqueue(pack(costs[node], node));
+            }
+        }
+
+        int endCluster = clusters.clusterOf(end);
+        while (!openSet.isEmpty()) {
+            long entry = openSet.dequeueLong();
+            int current = (int) entry;
+            int cost = (int) (entry >>> Integer.SIZE);
+            if (cost > costs[current]) {
+                continue;
+            }
+            if (current == goal || cost >= directCost) {
+                break;
+            }
+
+            if (clusters.clusterOf(clusters.nodeCell(current)) == endCluster) {
+                int remaining = toEnd.distance(clusters.nodeCell(current));
+                if (remaining != Integer.MAX_VALUE && cost + remaining < costs[goal]) {
+                    costs[goal] = cost + remaining;
+                    parents[goal] = current;
+                    openSet.enqueue(pack(costs[goal], goal));
+                }
+            }
+
+            for (int edge = clusters.edgesStart(current); edge < clusters.edgesEnd(current); edge++) {
+                int neighbor = clusters.target(edge);
+                int tentative = cost + clusters.weight(edge);
+                if (tentative < costs[neighbor]) {
+                    costs[neighbor] = tentative;
+                    parents[neighbor] = current;
+                    openSet.enqueue(pack(tentative, neighbor));
+                }
+            }
+        }
+
+        if (directCost <= costs[goal]) {
+            if (directCost == Integer.MAX_VALUE) {
+                return new Path(Collections.emptyList(), 0);
+            }
+            IntArrayList cells = new IntArrayList();
+            appendForward(cells, fromStart, start, end);
+            return toPath(graph, cells, directCost);
+        }
+
+        return toPath(graph, refine(clusters, fromStart, toEnd, parents, start), costs[goal]);
+    }
+
+    /**
+     * Разворачивает маршрут по абстрактному графу в последовательность ячеек.
+     */
+    private static IntArrayList refine(
+        ClusterGraph clusters,
+        ClusterSearch fromStart,
+        ClusterSearch toEnd,
+        int[] parents,
+        int start
+    ) {
+        // Узлы маршрута собираются от цели к началу, поэтому обходим их с конца
+        IntArrayList route = new IntArrayList();
+        for (int node = parents[clusters.nodeCount()]; node != -1; node = parents[node]) {
+            route.add(node);
+        }
+
+        IntArrayList cells = new IntArrayList();
+        int first = clusters.nodeCell(route.getInt(route.size() - 1));
+        appendForward(cells, fromStart, start, first);
+
+        ClusterSearch segment = new ClusterSearch(clusters);
+        for (int i = route.size() - 2; i >= 0; i--) {
+            int from = clusters.nodeCell(route.getInt(i + 1));
+            int to = clusters.nodeCell(route.getInt(i));
+            if (clusters.clusterOf(from) == clusters.clusterOf(to)) {
+                // Внутреннее ребро: восстанавливаем путь поиском внутри кластера
+                segment.forward(from, to);
+                appendForward(cells, segment, from, to);
+            } else {
+                // Ребро между кластерами соответствует ребру исходного графа
+                cells.add(to);
+            }
+        }
+
+        int last = clusters.nodeCell(route.getInt(0));
+        for (int cell = toEnd.parent(last); cell != -1; cell = toEnd.parent(cell)) {
+            cells.add(cell);
+        }
+        return cells;
+    }
+
+    /**
+     * Добавляет к списку путь прямого поиска от его источника до ячейки. Если список не пуст, источник
+     * уже в нём и повторно не добавляется.
+     */
+    private static void appendForward(IntArrayList cells, ClusterSearch search, int source, int target) {
+        IntArrayList segment = new IntArrayList();
+        for (int cell = target; cell != source; cell = search.parent(cell)) {
+            segment.add(cell);
+        }
+        if (cells.isEmpty()) {
+            segment.add(source);
+        }
+        for (int i = segment.size() - 1; i >= 0; i--) {
+            cells.add(segment.getInt(i));
+        }
+    }
+
+    private static Path toPath(MazeGraph graph, IntArrayList cells, int cost) {
+        List<Coordinate> coordinates = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            coordinates.add(graph.coordinate(cells.getInt(i)));
+        }
+        return new Path(coordinates, cost);
+    }
+
+    private static long pack(int cost, int node) {
+        return (long) cost << Integer.SIZE | node;
+    }
+}
@@ -0,0 +1,357 @@
+package backend.academy.solver.incremental;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.maze.MazeChangeListener;
+import backend.academy.entity.path.Path;
+import backend.academy.mazetype.MazeTypeProvider;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Решатель с инкрементальным перепланированием по алгоритму D* Lite. В отличие от решателей {@code Solver},
+ * которые ищут путь в неизменяемом {@code MazeGraph} заново для каждого запроса, этот решатель хранит состояние
+ * поиска между запросами и подписан на изменения рёбер лабиринта ({@link MazeChangeListener}). Когда стена
+ * открывается или закрывается, пересчитываются только ячейки, чьи расстояния до цели действительно изменились,
+ * поэтому после нескольких правок повторный запрос обходит лишь малую часть лабиринта.
+ * <p>
+ * Поиск идёт от цели к началу: g — известное расстояние от ячейки до цели, rhs — его оценка на шаг вперёд
+ * по соседям. Ячейка с g ≠ rhs лежит в очереди с ключом (min(g, rhs) + h + km, min(g, rhs)), где h — нижняя
+ * оценка расстояния от начала, а km накапливает сдвиги начала, чтобы ключи в очереди не пересчитывать. Пока
+ * цель остаётся прежней, начало можно менять. Смена цели сбрасывает состояние.
+ * <p>
+ * Граф решателя содержит все рёбра лабиринта, включая стены с бесконечным весом, поэтому открытие стены
+ * меняет только вес. Если изменение затрагивает ребро или ячейку, которых при построении не было, граф
+ * перестраивается при следующем запросе. Изменения типов ячеек не отслеживаются. Решатель не потокобезопасен
+ * и должен использоваться в потоке, изменяющем лабиринт; после использования его нужно закрыть, чтобы
+ * отписаться от лабиринта.
+ */
+public final class IncrementalSolver implements MazeChangeListener, AutoCloseable {
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int NO_CELL = -1;
+
+    private final Maze maze;
+    private final boolean[] passable;
+    private final int minEdgeCost;
+
+    private Coordinate[] coordinates;
+    private int[] cellCosts;
+    private int[] offsets;
+    private int[] targets;
+    // Номер обратного ребра для каждого ребра; рёбра лабиринта всегда парные
+    private int[] reverseEdges;
+    private int[] weights;
+    private int minStepWeight;
+    // Граф устарел: изменение затронуло ребро или ячейку, которых в нём нет
+    private boolean stale;
+
+    private int[] gScores;
+    private int[] rhsScores;
+    private IndexedKeyHeap openSet;
+    private int keyModifier;
+    private int start = NO_CELL;
+    private int goal = NO_CELL;
+    private int expandedCells;
+
+    /**
+     * Создаёт решатель и подписывает его на изменения лабиринта.
+     *
+     * @param maze             Лабиринт.
+     * @param mazeTypeProvider Провайдер типов, определяющий проходимость рёбер.
+     */
+    public IncrementalSolver(Maze maze, MazeTypeProvider mazeTypeProvider) {
+        this.maze = maze;
+        EdgeType[] edgeTypes = EdgeType.values();
+        this.passable = new boolean[edgeTypes.length];
+        int minCost = INFINITY;
+        for (EdgeType edgeType : edgeTypes) {
+            passable[edgeType.ordinal()] = mazeTypeProvider.isPassage(edgeType);
+            if (passable[edgeType.ordinal()]) {
+                minCost = Math.min(minCost, edgeType.movementCost());
+            }
+        }
+        this.minEdgeCost = minCost == INFINITY ? 0 : minCost;
+        buildGraph();
+        maze.addChangeListener(this);
+    }
+
+    /**
+     * Ищет путь с минимальной стоимостью, переиспользуя результаты предыдущего поиска к той же цели.
+     *
+     * @param startCoord Координаты начала.
+     * @param endCoord   Координаты конца.
+     * @return Путь или пустой путь, если конец недостижим.
+     */
+    public Path solve(Coordinate startCoord, Coordinate endCoord) {
+        if (stale) {
+            buildGraph();
+        }
+        int newStart = idOf(startCoord);
+        int newGoal = idOf(endCoord);
+        expandedCells = 0;
+        if (newStart == NO_CELL || newGoal == NO_CELL) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        if (newGoal != goal) {
+            initialize(newStart, newGoal);
+        } else if (newStart != start) {
+            keyModifier += heuristic(start, newStart);
+            start = newStart;
+        }
+        computeShortestPath();
+
+        if (rhsScores[start] == INFINITY) {
+            return new Path(Collections.emptyList(), 0);
+        }
+        return extractPath();
+    }
+
+    /**
+     * Возвращает количество ячеек, раскрытых последним вызовом {@link #solve}.
+     *
+     * @return Количество раскрытых ячеек.
+     */
+    public int expandedCells() {
+        return expandedCells;
+    }
+
+    @Override
+    public void edgeChanged(Maze changedMaze, Cell from, Cell to) {
+        if (stale) {
+            return;
+        }
+        int first = idOf(from.coordinate());
+        int second = idOf(to.coordinate());
+        int edge = first == NO_CELL || second == NO_CELL ? NO_CELL : findEdge(first, second);
+        if (edge == NO_CELL) {
+            // Новое ребро или ячейка: граф будет перестроен при следующем запросе
+            stale = true;
+            goal = NO_CELL;
+            return;
+        }
+        updateEdge(first, edge, weightOf(maze.getEdgeType(from, to), second));
+        updateEdge(second, reverseEdges[edge], weightOf(maze.getEdgeType(to, from), first));
+    }
+
+    /**
+     * Отписывает решатель от изменений лабиринта.
+     */
+    @Override
+    public void close() {
+        maze.removeChangeListener(this);
+    }
+
+    private void initialize(int newStart, int newGoal) {
+        Arrays.fill(gScores, INFINITY);
+        Arrays.fill(rhsScores, INFINITY);
+        openSet = new IndexedKeyHeap(coordinates.length);
+        keyModifier = 0;
+        start = newStart;
+        goal = newGoal;
+        rhsScores[goal] = 0;
+        openSet.insertOrUpdate(goal, key(goal));
+    }
+
+    private void computeShortestPath() {
+        while (openSet.peekKey() < key(start) || rhsScores[start] > gScores[start]) {
+            long oldKey = openSet.peekKey();
+            if (oldKey == Long.MAX_VALUE) {
+                break;
+            }
+            int current = openSet.peek();
+            long newKey = key(current);
+            if (oldKey < newKey) {
+                // Ключ устарел из-за сдвига начала
+                openSet.insertOrUpdate(current, newKey);
+                continue;
+            }
+
+            expandedCells++;
+            if (gScores[current] > rhsScores[current]) {
+                gScores[current] = rhsScores[current];
+                openSet.remove(current);
+                for (int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+                    int predecessor = targets[edge];
+                    if (predecessor != goal) {
+                        int candidate = add(weights[reverseEdges[edge]], gScores[current]);
+                        rhsScores[predecessor] = Math.min(rhsScores[predecessor], candidate);
+                        updateVertex(predecessor);
+                    }
+                }
+            } else {
+                int oldScore = gScores[current];
+                gScores[current] = INFINITY;
+                for (int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+                    int predecessor = targets[edge];
+                    if (predecessor != goal && rhsScores[predecessor] == add(weights[reverseEdges[edge]], oldScore)) {
+                        rhsScores[predecessor] = bestSuccessorScore(predecessor);
+                    }
+                    updateVertex(predecessor);
+                }
+                if (current != goal) {
+                    rhsScores[current] = bestSuccessorScore(current);
+                }
+                updateVertex(current);
+            }
+        }
+    }
+
+    /**
+     * Меняет вес ребра from -> target(edge) и исправляет оценку rhs ячейки from.
+     */
+    private void updateEdge(int from, int edge, int weight) {
+        int oldWeight = weights[edge];
+        if (oldWeight == weight) {
+            return;
+        }
+        weights[edge] = weight;
+        if (goal == NO_CELL || from == goal) {
+            return;
+        }
+        int to = targets[edge];
+        if (weight < oldWeight) {
+            rhsScores[from] = Math.min(rhsScores[from], add(weight, gScores[to]));
+        } else if (rhsScores[from] == add(oldWeight, gScores[to])) {
+            rhsScores[from] = bestSuccessorScore(from);
+        }
+        updateVertex(from);
+    }
+
+    private void updateVertex(int cell) {
+        if (gScores[cell] != rhsScores[cell]) {
+            openSet.insertOrUpdate(cell, key(cell));
+        } else {
+            openSet.remove(cell);
+        }
+    }
+
+    private int bestSuccessorScore(int cell) {
+        int best = INFINITY;
+        for (int edge = offsets[cell]; edge < offsets[cell + 1]; edge++) {
+            best = Math.min(best, add(weights[edge], gScores[targets[edge]]));
+        }
+        return best;
+    }
+
+    private long key(int cell) {
+        int score = Math.min(gScores[cell], rhsScores[cell]);
+        if (score == INFINITY) {
+            return Long.MAX_VALUE;
+        }
+        return IndexedKeyHeap.key(score + heuristic(start, cell) + keyModifier, score);
+    }
+
+    /**
+     * Нижняя оценка стоимости пути между ячейками при любых будущих типах рёбер.
+     */
+    private int heuristic(int from, int to) {
+        return distance(coordinates[from], coordinates[to]) * minStepWeight;
+    }
+
+    /**
+     * Восстанавливает путь, на каждом шаге переходя к соседу с наименьшей суммой веса ребра и расстояния до цели.
+     */
+    private Path extractPath() {
+        List<Coordinate> path = new ArrayList<>();
+        path.add(coordinates[start]);
+        int current = start;
+        while (current != goal) {
+            int next = NO_CELL;
+            int best = INFINITY;
+            for (int edge = offsets[current]; edge < offsets[current + 1]; edge++) {
+                int score = add(weights[edge], gScores[targets[edge]]);
+                if (score < best) {
+                    best = score;
+                    next = targets[edge];
+                }
+            }
+            current = next;
+            path.add(coordinates[current]);
+        }
+        return new Path(path, cellCosts[start] + rhsScores[start]);
+    }
+
+    /**
+     * Строит граф из всех рёбер лабиринта; непроходимые рёбра получают бесконечный вес.
+     */
+    private void buildGraph() {
+        int size = maze.cellIdBound();
+        coordinates = new Coordinate[size];
+        cellCosts = new int[size];
+        offsets = new int[size + 1];
+        IntArrayList targetList = new IntArrayList(size * 4);
+        IntArrayList typeList = new IntArrayList(size * 4);
+        for (int id = 0; id < size; id++) {
+            Cell cell = maze.getCell(id);
+            if (cell != null) {
+                coordinates[id] = cell.coordinate();
+                cellCosts[id] = cell.cellType().movementCost();
+                for (Edge edge : maze.getEdges(cell)) {
+                    int target = maze.cellId(edge.to().coordinate());
+                    if (target != Cell.NO_ID) {
+                        targetList.add(target);
+                        typeList.add(edge.type().ordinal());
+                    }
+                }
+            }
+            offsets[id + 1] = targetList.size();
+        }
+        targets = targetList.toIntArray();
+
+        EdgeType[] edgeTypes = EdgeType.values();
+        weights = new int[targets.length];
+        reverseEdges = new int[targets.length];
+        minStepWeight = INFINITY;
+        for (int id = 0; id < size; id++) {
+            for (int edge = offsets[id]; edge < offsets[id + 1]; edge++) {
+                weights[edge] = weightOf(edgeTypes[typeList.getInt(edge)], targets[edge]);
+                reverseEdges[edge] = findEdge(targets[edge], id);
+                int lowerBound = (minEdgeCost + cellCosts[targets[edge]])
+                    / Math.max(1, distance(coordinates[id], coordinates[targets[edge]]));
+                minStepWeight = Math.min(minStepWeight, lowerBound);
+            }
+        }
+        minStepWeight = minStepWeight == INFINITY ? 0 : minStepWeight;
+
+        gScores = new int[size];
+        rhsScores = new int[size];
+        goal = NO_CELL;
+        stale = false;
+    }
+
+    private int weightOf(EdgeType edgeType, int target) {
+        if (edgeType == null || !passable[edgeType.ordinal()]) {
+            return INFINITY;
+        }
+        return edgeType.movementCost() + cellCosts[target];
+    }
+
+    private int findEdge(int from, int to) {
+        for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+            if (targets[edge] == to) {
+                return edge;
+            }
+        }
+        return NO_CELL;
+    }
+
+    private int idOf(Coordinate coordinate) {
+        int id = maze.cellId(coordinate);
+        return id == Cell.NO_ID || id >= coordinates.length || coordinates[id] == null ? NO_CELL : id;
+    }
+
+    private static int add(int weight, int score) {
+        return weight == INFINITY || score == INFINITY ? INFINITY : weight + score;
+    }
+
+    private static int distance(Coordinate a, Coordinate b) {
+        return Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col());
+    }
+}
@@ -0,0 +1,148 @@
+package backend.academy.solver.incremental;
+
+import java.util.Arrays;
+
+/**
+ * Индексированная двоичная min-куча номеров ячеек с ключами типа long. В отличие от кучи поиска Дейкстры,
+ * ключ ячейки в куче можно как уменьшить, так и увеличить, а саму ячейку — удалить, что нужно D* Lite.
+ * Пара ключей (k1, k2) D* Lite упаковывается в один long как k1 &lt;&lt; 32 | k2, и для неотрицательных k1 и k2
+ * порядок чисел совпадает с лексикографическим порядком пар.
+ */
+final class IndexedKeyHeap {
+    private static final int NOT_IN_HEAP = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int[] positions;
+    private int[] heap = new int[INITIAL_CAPACITY];
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Создаёт пустую кучу для ячеек с номерами от 0 до cellCount - 1.
+     *
+     * @param cellCount Количество номеров ячеек.
+     */
+    IndexedKeyHeap(int cellCount) {
+        this.positions = new int[cellCount];
+        Arrays.fill(positions, NOT_IN_HEAP);
+    }
+
+    /**
+     * Упаковывает пару ключей D* Lite в одно число.
+     *
+     * @param primary   Первый ключ, неотрицательный.
+     * @param secondary Второй ключ, неотрицательный.
+     * @return Упакованный ключ.
+     */
+    static long key(int primary, int secondary) {
+        return (long) primary << Integer.SIZE | secondary;
+    }
+
+    /**
+     * Добавляет ячейку с ключом или меняет ключ ячейки, уже лежащей в куче.
+     *
+     * @param cell Номер ячейки.
+     * @param key  Новый ключ.
+     */
+    void insertOrUpdate(int cell, long key) {
+        int position = positions[cell];
+        if (position == NOT_IN_HEAP) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            siftUp(size++, cell, key);
+        } else if (key < keys[position]) {
+            siftUp(position, cell, key);
+        } else {
+            siftDown(position, cell, key);
+        }
+    }
+
+    /**
+     * Удаляет ячейку из кучи, если она там есть.
+     *
+     * @param cell Номер ячейки.
+     */
+    void remove(int cell) {
+        int position = positions[cell];
+        if (position == NOT_IN_HEAP) {
+            return;
+        }
+        positions[cell] = NOT_IN_HEAP;
+        size--;
+        if (position < size) {
+            int last = heap[size];
+            long lastKey = keys[size];
+            if (lastKey < keys[position]) {
+                siftUp(position, last, lastKey);
+            } else {
+                siftDown(position, last, lastKey);
+            }
+        }
+    }
+
+    /**
+     * Проверяет, лежит ли ячейка в куче.
+     *
+     * @param cell Номер ячейки.
+     * @return true, если ячейка в куче.
+     */
+    boolean contains(int cell) {
+        return positions[cell] != NOT_IN_HEAP;
+    }
+
+    /**
+     * Возвращает ячейку с наименьшим ключом, не извлекая её. Куча не должна быть пустой.
+     *
+     * @return Номер ячейки.
+     */
+    int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Возвращает наименьший ключ или {@link Long#MAX_VALUE}, если куча пуста.
+     *
+     * @return Наименьший ключ.
+     */
+    long peekKey() {
+        return size == 0 ? Long.MAX_VALUE : keys[0];
+    }
+
+    private void siftUp(int position, int cell, long key) {
+        while (position > 0) {
+            int parentPosition = (position - 1) / 2;
+            if (keys[parentPosition] <= key) {
+                break;
+            }
+            place(position, heap[parentPosition], keys[parentPosition]);
+            position = parentPosition;
+        }
+        place(position, cell, key);
+    }
+
+    private void siftDown(int position, int cell, long key) {
+        while (true) {
+            int child = position * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (keys[child] >= key) {
+                break;
+            }
+            place(position, heap[child], keys[child]);
+            position = child;
+        }
+        place(position, cell, key);
+    }
+
+    private void place(int position, int cell, long key) {
+        heap[position] = cell;
+        keys[position] = key;
+        positions[cell] = position;
+    }
+}
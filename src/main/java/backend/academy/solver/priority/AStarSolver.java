@@ -1,6 +1,6 @@
 package backend.academy.solver.priority;
 
-import backend.academy.entity.cell.Cell;
+import backend.academy.solver.graph.MazeGraph;
 import backend.academy.utils.ReconstructorPath;
 
 /**
@@ -13,22 +13,23 @@ public class AStarSolver extends AbstractPrioritySolver {
     }
 
     @Override
-    protected int calculatePriority(Cell cell, Cell endCell, int gScore) {
+    protected int calculatePriority(MazeGraph graph, int cell, int end, int gScore) {
         // Для A* приоритетом является сумма g-счёта и эвристики (манхэттенское расстояние)
-        int hScore = heuristic(cell, endCell);
+        int hScore = heuristic(graph, cell, end);
         return gScore + hScore;
     }
 
     /**
      * Эвристика: манхэттенское расстояние между двумя ячейками.
      *
-     * @param a Первая ячейка.
-     * @param b Вторая ячейка.
+     * @param graph Граф лабиринта.
+     * @param a     Номер первой ячейки.
+     * @param b     Номер второй ячейки.
      * @return Манхэттенское расстояние.
      */
-    private int heuristic(Cell a, Cell b) {
-        int dx = Math.abs(a.coordinate().row() - b.coordinate().row());
-        int dy = Math.abs(a.coordinate().col() - b.coordinate().col());
+    private int heuristic(MazeGraph graph, int a, int b) {
+        int dx = Math.abs(graph.row(a) - graph.row(b));
+        int dy = Math.abs(graph.col(a) - graph.col(b));
         return dx + dy;
     }
 }
@@ -1,20 +1,12 @@
 package backend.academy.solver.priority;
 
-import backend.academy.entity.cell.Cell;
 import backend.academy.entity.cell.Coordinate;
-import backend.academy.entity.edge.Edge;
-import backend.academy.entity.maze.Maze;
 import backend.academy.entity.path.Path;
-import backend.academy.mazetype.MazeTypeProvider;
 import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
 import backend.academy.utils.ReconstructorPath;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -22,89 +14,115 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 public abstract class AbstractPrioritySolver implements Solver {
-    private static final float LOAD_FACTOR = 0.75f;
-
     private final ReconstructorPath reconstructorPath;
 
     @Override
-    public Path solve(Maze maze, Coordinate startCoord, Coordinate endCoord, MazeTypeProvider mazeTypeProvider) {
-        int expectedSize = maze.getAllCells().size();
-
-        // Инициализация мэп для предшественников, стоимостей и множества посещённых ячеек
-        Map<Cell, Cell> predecessors = new HashMap<>((int) (expectedSize / LOAD_FACTOR) + 1);
-        Map<Cell, Integer> gScores = new HashMap<>((int) (expectedSize / LOAD_FACTOR) + 1);
-        Set<Cell> closedSet = new HashSet<>((int) (expectedSize / LOAD_FACTOR) + 1);
-        PriorityQueue<CellScore> openSet = new PriorityQueue<>(Comparator.comparingInt(cs -> cs.priority));
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        return search(graph, startCoord, endCoord).path();
+    }
 
-        Cell startCell = maze.getCell(startCoord);
-        Cell endCell = maze.getCell(endCoord);
+    /**
+     * Ищет путь и считает ячейки, раскрытые этим запросом.
+     *
+     * @param graph      Граф лабиринта.
+     * @param startCoord Начальная координата.
+     * @param endCoord   Конечная координата.
+     * @return Путь и количество раскрытых ячеек.
+     */
+    SearchResult search(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
 
-        if (startCell == null || endCell == null) {
-            return new Path(Collections.emptyList(), 0);
+        if (start < 0 || end < 0) {
+            return new SearchResult(new Path(Collections.emptyList(), 0), 0);
         }
 
-        if (startCell.equals(endCell)) {
-            return new Path(Collections.singletonList(startCoord), startCell.cellType().movementCost());
+        if (start == end) {
+            return new SearchResult(new Path(Collections.singletonList(startCoord), graph.cellCost(start)), 0);
         }
 
-        gScores.put(startCell, startCell.cellType().movementCost());
-        openSet.add(
-            new CellScore(startCell, calculatePriority(startCell, endCell, startCell.cellType().movementCost())));
+        // Инициализация массивов для предшественников, стоимостей и множества посещённых ячеек
+        int[] predecessors = new int[graph.size()];
+        int[] gScores = new int[graph.size()];
+        boolean[] closedSet = new boolean[graph.size()];
+        IndexedDaryHeap openSet = new IndexedDaryHeap(graph.size());
+        Arrays.fill(gScores, Integer.MAX_VALUE);
 
-        while (!openSet.isEmpty()) {
-            CellScore cs = openSet.poll();
-            Cell current = cs.cell;
+        Priority priority = priority(graph, end);
+        gScores[start] = graph.cellCost(start);
+        openSet.insertOrDecrease(start, priority.of(start, gScores[start]));
 
-            // Если ячейка уже посещена, пропускаем её
-            if (closedSet.contains(current)) {
-                continue;
-            }
-            closedSet.add(current);
+        int expanded = 0;
+        while (!openSet.isEmpty()) {
+            // Каждая ячейка лежит в куче не более одного раза, поэтому устаревших записей нет
+            int current = openSet.poll();
+            closedSet[current] = true;
+            expanded++;
 
             // Если достигли конечной ячейки, восстанавливаем путь
-            if (current.equals(endCell)) {
-                return reconstructorPath.reconstruct(predecessors, endCell, gScores.get(endCell));
+            if (current == end) {
+                Path path = reconstructorPath.reconstruct(graph, predecessors, start, end, gScores[end]);
+                return new SearchResult(path, expanded);
             }
 
             // Обработка соседей текущей ячейки
-            for (Edge edge : maze.getEdges(current)) {
-                if (mazeTypeProvider.isPassage(edge.type())) {
-                    Cell neighbor = edge.to();
-                    if (closedSet.contains(neighbor)) {
-                        continue;
-                    }
-
-                    int weight = edge.type().movementCost() + neighbor.cellType().movementCost();
-                    int tentativeGScore = gScores.get(current) + weight;
-
-                    Integer neighborGScore = gScores.get(neighbor);
-                    // Обновляем стоимость и предшественника, если нашли более короткий путь
-                    if (neighborGScore == null || tentativeGScore < neighborGScore) {
-                        gScores.put(neighbor, tentativeGScore);
-                        predecessors.put(neighbor, current);
-                        int fScore = calculatePriority(neighbor, endCell, tentativeGScore);
-                        openSet.add(new CellScore(neighbor, fScore));
-                    }
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                if (closedSet[neighbor]) {
+                    continue;
+                }
+
+                int tentativeGScore = gScores[current] + graph.weight(edge);
+
+                // Обновляем стоимость и предшественника, если нашли более короткий путь
+                if (tentativeGScore < gScores[neighbor]) {
+                    gScores[neighbor] = tentativeGScore;
+                    predecessors[neighbor] = current;
+                    int fScore = priority.of(neighbor, tentativeGScore);
+                    openSet.insertOrDecrease(neighbor, fScore);
                 }
             }
         }
 
-        return new Path(Collections.emptyList(), 0);
+        return new SearchResult(new Path(Collections.emptyList(), 0), expanded);
     }
 
     /**
      * Абстрактный метод для вычисления приоритета ячейки.
      *
-     * @param cell    Текущая ячейка.
-     * @param endCell Конечная ячейка.
-     * @param gScore  Стоимость пути до текущей ячейки.
+     * @param graph  Граф лабиринта.
+     * @param cell   Номер текущей ячейки.
+     * @param end    Номер конечной ячейки.
+     * @param gScore Стоимость пути до текущей ячейки.
      * @return Приоритет для очереди.
      */
-    protected abstract int calculatePriority(Cell cell, Cell endCell, int gScore);
+    protected abstract int calculatePriority(MazeGraph graph, int cell, int end, int gScore);
+
+    /**
+     * Возвращает функцию приоритета для одного запроса. По умолчанию она вызывает {@link #calculatePriority};
+     * наследники переопределяют метод, чтобы один раз на запрос подготовить данные эвристики и передать их
+     * в замыкании, не храня состояние запроса в общем решателе.
+     *
+     * @param graph Граф лабиринта.
+     * @param end   Номер конечной ячейки.
+     * @return Функция приоритета.
+     */
+    protected Priority priority(MazeGraph graph, int end) {
+        return (cell, gScore) -> calculatePriority(graph, cell, end, gScore);
+    }
 
     /**
-     * Вспомогательный класс для хранения ячейки и её приоритета.
+     * Приоритет ячейки в очереди в рамках одного запроса.
      */
-    private record CellScore(Cell cell, int priority) {
+    @FunctionalInterface
+    protected interface Priority {
+        /**
+         * Вычисляет приоритет ячейки.
+         *
+         * @param cell   Номер ячейки.
+         * @param gScore Стоимость пути до ячейки.
+         * @return Приоритет для очереди.
+         */
+        int of(int cell, int gScore);
     }
 }
@@ -0,0 +1,33 @@
+package backend.academy.solver.priority;
+
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.utils.ReconstructorPath;
+
+/**
+ * Двунаправленный A*, где потенциал ячейки — разность манхэттенских оценок расстояния до конца и до начала.
+ * Каждая оценка согласована, так как вес ребра не меньше {@link MazeGraph#minStepWeight()}, умноженного
+ * на изменение манхэттенского расстояния вдоль ребра; поэтому и полуразность согласована для обоих фронтов.
+ */
+public class BiDirectionalAStarSolver extends BiDirectionalDijkstraSolver {
+
+    public BiDirectionalAStarSolver(ReconstructorPath reconstructorPath) {
+        super(reconstructorPath);
+    }
+
+    @Override
+    protected int potential(MazeGraph graph, int cell, int start, int end) {
+        return (distance(graph, cell, end) - distance(graph, cell, start)) * graph.minStepWeight();
+    }
+
+    /**
+     * Манхэттенское расстояние между двумя ячейками.
+     *
+     * @param graph Граф лабиринта.
+     * @param a     Номер первой ячейки.
+     * @param b     Номер второй ячейки.
+     * @return Манхэттенское расстояние.
+     */
+    private int distance(MazeGraph graph, int a, int b) {
+        return Math.abs(graph.row(a) - graph.row(b)) + Math.abs(graph.col(a) - graph.col(b));
+    }
+}
@@ -0,0 +1,143 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.utils.ReconstructorPath;
+import java.util.Arrays;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Двунаправленный алгоритм Дейкстры с учётом весов ячеек и рёбер.
+ * <p>
+ * Прямой поиск идёт от начальной ячейки по рёбрам графа, обратный — от конечной против рёбер. На каждом шаге
+ * раскрывается фронт с меньшим ключом, а при каждой релаксации обновляется лучшая стоимость пути через уже
+ * найденные ячейки обоих фронтов. Поиск останавливается, когда сумма наименьших ключей фронтов не меньше
+ * лучшей стоимости: ни один ещё не найденный путь не может быть дешевле, поэтому результат оптимален.
+ * <p>
+ * Ключи строятся с потенциалом {@link #potential}: прямой фронт использует его со знаком плюс, обратный —
+ * со знаком минус, поэтому сумма ключей ячейки всегда равна удвоенной стоимости пути через неё.
+ */
+@RequiredArgsConstructor
+public class BiDirectionalDijkstraSolver implements Solver {
+    private final ReconstructorPath reconstructorPath;
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
+
+        if (start < 0 || end < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        // Прямой поиск хранит стоимость пути от начала, обратный — стоимость пути до конца без учёта ячейки
+        int[] forwardPredecessors = new int[graph.size()];
+        int[] backwardPredecessors = new int[graph.size()];
+        int[] forwardCosts = new int[graph.size()];
+        int[] backwardCosts = new int[graph.size()];
+        boolean[] forwardClosed = new boolean[graph.size()];
+        boolean[] backwardClosed = new boolean[graph.size()];
+        IndexedDaryHeap forwardOpen = new IndexedDaryHeap(graph.size());
+        IndexedDaryHeap backwardOpen = new IndexedDaryHeap(graph.size());
+        Arrays.fill(forwardCosts, Integer.MAX_VALUE);
+        Arrays.fill(backwardCosts, Integer.MAX_VALUE);
+
+        forwardCosts[start] = graph.cellCost(start);
+        forwardOpen.insertOrDecrease(start, 2 * forwardCosts[start] + potential(graph, start, start, end));
+        backwardCosts[end] = 0;
+        backwardOpen.insertOrDecrease(end, -potential(graph, end, start, end));
+
+        int bestCost = Integer.MAX_VALUE;
+        int meetingCell = -1;
+
+        while (!forwardOpen.isEmpty() && !backwardOpen.isEmpty()) {
+            // Критерий остановки: сумма ключей равна удвоенной стоимости наилучшего возможного пути
+            if ((long) forwardOpen.peekPriority() + backwardOpen.peekPriority() >= 2L * bestCost) {
+                break;
+            }
+
+            if (forwardOpen.peekPriority() <= backwardOpen.peekPriority()) {
+                int current = forwardOpen.poll();
+                forwardClosed[current] = true;
+                for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                    int neighbor = graph.target(edge);
+                    if (forwardClosed[neighbor]) {
+                        continue;
+                    }
+
+                    int tentativeCost = forwardCosts[current] + graph.weight(edge);
+                    if (tentativeCost < forwardCosts[neighbor]) {
+                        forwardCosts[neighbor] = tentativeCost;
+                        forwardPredecessors[neighbor] = current;
+                        forwardOpen.insertOrDecrease(neighbor,
+                            2 * tentativeCost + potential(graph, neighbor, start, end));
+                    }
+                    if (backwardCosts[neighbor] != Integer.MAX_VALUE
+                        && forwardCosts[neighbor] + backwardCosts[neighbor] < bestCost) {
+                        bestCost = forwardCosts[neighbor] + backwardCosts[neighbor];
+                        meetingCell = neighbor;
+                    }
+                }
+            } else {
+                int current = backwardOpen.poll();
+                backwardClosed[current] = true;
+                for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                    int neighbor = graph.target(edge);
+
+                    // Обратный поиск идёт по ребру из соседа в текущую ячейку
+                    int reverseEdge = graph.findEdge(neighbor, current);
+                    if (backwardClosed[neighbor] || reverseEdge < 0) {
+                        continue;
+                    }
+
+                    int tentativeCost = backwardCosts[current] + graph.weight(reverseEdge);
+                    if (tentativeCost < backwardCosts[neighbor]) {
+                        backwardCosts[neighbor] = tentativeCost;
+                        backwardPredecessors[neighbor] = current;
+                        backwardOpen.insertOrDecrease(neighbor,
+                            2 * tentativeCost - potential(graph, neighbor, start, end));
+                    }
+                    if (forwardCosts[neighbor] != Integer.MAX_VALUE
+                        && forwardCosts[neighbor] + backwardCosts[neighbor] < bestCost) {
+                        bestCost = forwardCosts[neighbor] + backwardCosts[neighbor];
+                        meetingCell = neighbor;
+                    }
+                }
+            }
+        }
+
+        if (meetingCell < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        // Продолжаем цепочку прямого поиска цепочкой обратного от точки встречи до конца
+        int current = meetingCell;
+        while (current != end) {
+            int next = backwardPredecessors[current];
+            forwardPredecessors[next] = current;
+            current = next;
+        }
+        return reconstructorPath.reconstruct(graph, forwardPredecessors, start, end, bestCost);
+    }
+
+    /**
+     * Потенциал ячейки для ключей очередей. Разность потенциалов соседних ячеек не должна превышать
+     * удвоенного веса ребра между ними, иначе критерий остановки перестаёт гарантировать оптимальность.
+     *
+     * @param graph Граф лабиринта.
+     * @param cell  Номер ячейки.
+     * @param start Номер начальной ячейки.
+     * @param end   Номер конечной ячейки.
+     * @return Потенциал; для алгоритма Дейкстры всегда 0.
+     */
+    protected int potential(MazeGraph graph, int cell, int start, int end) {
+        return 0;
+    }
+}
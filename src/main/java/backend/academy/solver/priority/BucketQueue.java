@@ -0,0 +1,73 @@
+package backend.academy.solver.priority;
+
+import java.util.Arrays;
+
+/**
+ * Циклическая очередь с корзинами (очередь Дайала) для целочисленных приоритетов с ограниченным разбросом.
+ * <p>
+ * Корзина с индексом priority % bucketCount хранит номера ячеек с этим приоритетом в массиве int.
+ * Если приоритеты добавляемых ячеек не меньше последнего извлечённого и превышают его не более чем на
+ * bucketCount - 1, в одной корзине никогда не оказываются разные приоритеты, поэтому добавление выполняется
+ * за O(1), а извлечение — за O(1) плюс число пропущенных пустых корзин.
+ */
+final class BucketQueue {
+    private static final int INITIAL_BUCKET_CAPACITY = 16;
+
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+    private int currentPriority;
+    private int size;
+
+    /**
+     * Создаёт очередь.
+     *
+     * @param bucketCount     Количество корзин: наибольший шаг приоритета плюс один.
+     * @param initialPriority Наименьший приоритет, который будет добавлен в очередь.
+     */
+    BucketQueue(int bucketCount, int initialPriority) {
+        this.buckets = new int[bucketCount][INITIAL_BUCKET_CAPACITY];
+        this.bucketSizes = new int[bucketCount];
+        this.currentPriority = initialPriority;
+    }
+
+    /**
+     * Добавляет ячейку с приоритетом из диапазона от текущего до текущего плюс bucketCount - 1.
+     *
+     * @param cell     Номер ячейки.
+     * @param priority Приоритет.
+     */
+    void push(int cell, int priority) {
+        int bucket = priority % buckets.length;
+        int bucketSize = bucketSizes[bucket];
+        if (bucketSize == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], bucketSize * 2);
+        }
+        buckets[bucket][bucketSize] = cell;
+        bucketSizes[bucket] = bucketSize + 1;
+        size++;
+    }
+
+    /**
+     * Извлекает ячейку с наименьшим приоритетом. Очередь не должна быть пустой.
+     *
+     * @return Номер ячейки.
+     */
+    int pop() {
+        int bucket = currentPriority % buckets.length;
+        while (bucketSizes[bucket] == 0) {
+            currentPriority++;
+            bucket = currentPriority % buckets.length;
+        }
+        size--;
+        return buckets[bucket][--bucketSizes[bucket]];
+    }
+
+    /**
+     * Проверяет, пуста ли очередь.
+     *
+     * @return true, если в очереди нет ячеек.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,235 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Параллельный поиск кратчайших путей методом delta-stepping.
+ * <p>
+ * Предварительные стоимости раскладываются по корзинам шириной delta. Корзины обрабатываются по порядку:
+ * лёгкие рёбра (вес не больше delta) ячеек текущей корзины релаксируются параллельно в общем пуле ForkJoin,
+ * пока корзина не опустеет, после чего один раз релаксируются тяжёлые рёбра всех её ячеек. Когда корзина
+ * опустела, стоимости её ячеек окончательны, поэтому результат совпадает с алгоритмом Дейкстры.
+ * <p>
+ * Стоимость и предшественник ячейки хранятся в одном long и уменьшаются одной операцией compareAndSet,
+ * чтобы параллельные релаксации не могли записать предшественника от более дорогого пути.
+ */
+public class DeltaSteppingSolver implements Solver {
+    /**
+     * Ширина корзины по умолчанию: веса шага в лабиринте лежат в диапазоне от 1 до 5.
+     */
+    public static final int DEFAULT_DELTA = 3;
+
+    private static final Logger LOGGER = Logger.getLogger(DeltaSteppingSolver.class.getName());
+    private static final VarHandle LABELS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long UNREACHED = Long.MAX_VALUE;
+    // Количество ячеек, которые одна задача пула релаксирует последовательно
+    private static final int RELAX_CHUNK = 1024;
+
+    private final int delta;
+
+    public DeltaSteppingSolver() {
+        this(DEFAULT_DELTA);
+    }
+
+    /**
+     * Создаёт решатель с заданной шириной корзины.
+     *
+     * @param delta Ширина корзины, положительное число.
+     */
+    public DeltaSteppingSolver(int delta) {
+        if (delta < 1) {
+            LOGGER.warning("The bucket width must be positive.");
+            throw new IllegalArgumentException("The bucket width must be positive");
+        }
+        this.delta = delta;
+    }
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
+
+        if (start < 0 || end < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        long[] labels = new long[graph.size()];
+        int[] relaxedCosts = new int[graph.size()];
+        Arrays.fill(labels, UNREACHED);
+        Arrays.fill(relaxedCosts, Integer.MAX_VALUE);
+
+        // Релаксация увеличивает стоимость не больше чем на maxWeight, поэтому все непустые корзины лежат
+        // в окне из ceil(maxWeight / delta) + 1 корзин, и корзины можно переиспользовать по кругу
+        IntArrayList[] buckets = new IntArrayList[Math.ceilDiv(graph.maxWeight(), delta) + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new IntArrayList();
+        }
+        IntArrayList requests = new IntArrayList();
+        IntArrayList settled = new IntArrayList();
+
+        labels[start] = label(graph.cellCost(start), start);
+        int bucket = graph.cellCost(start) / delta;
+        addToBucket(buckets, bucket, start);
+
+        // Поиск заканчивается, когда подряд пусты все корзины окна
+        for (int emptyBuckets = 0; emptyBuckets < buckets.length; bucket++) {
+            IntArrayList current = buckets[bucket % buckets.length];
+            if (current.isEmpty()) {
+                emptyBuckets++;
+                continue;
+            }
+            emptyBuckets = 0;
+            settled.clear();
+            while (!current.isEmpty()) {
+                takeRequests(current, labels, relaxedCosts, bucket, settled, requests);
+                relax(graph, requests, labels, buckets, true);
+            }
+
+            // Тяжёлые рёбра ведут в следующие корзины, поэтому стоимость конечной ячейки уже окончательна
+            if (cost(labels[end]) / delta <= bucket) {
+                break;
+            }
+            relax(graph, settled, labels, buckets, false);
+        }
+
+        if (labels[end] == UNREACHED) {
+            return new Path(Collections.emptyList(), 0);
+        }
+        return reconstructPath(graph, labels, start, end);
+    }
+
+    /**
+     * Забирает ячейки из корзины для релаксации, пропуская устаревшие записи и ячейки, чьи рёбра уже
+     * релаксировались с той же стоимостью.
+     *
+     * @param requests     Корзина; очищается.
+     * @param labels       Упакованные стоимости и предшественники ячеек.
+     * @param relaxedCosts Стоимости, с которыми рёбра ячеек релаксировались в последний раз.
+     * @param bucket       Номер текущей корзины.
+     * @param settled      Ячейки текущей корзины для релаксации тяжёлых рёбер; дополняется.
+     * @param cells        Ячейки для релаксации; заполняется заново.
+     */
+    private void takeRequests(
+        IntArrayList requests,
+        long[] labels,
+        int[] relaxedCosts,
+        int bucket,
+        IntArrayList settled,
+        IntArrayList cells
+    ) {
+        cells.clear();
+        for (int i = 0; i < requests.size(); i++) {
+            int cell = requests.getInt(i);
+            int cost = cost(labels[cell]);
+            if (cost / delta != bucket || relaxedCosts[cell] == cost) {
+                continue;
+            }
+            if (relaxedCosts[cell] == Integer.MAX_VALUE) {
+                settled.add(cell);
+            }
+            relaxedCosts[cell] = cost;
+            cells.add(cell);
+        }
+        requests.clear();
+    }
+
+    /**
+     * Параллельно релаксирует лёгкие или тяжёлые рёбра ячеек и раскладывает улучшенные ячейки по корзинам.
+     *
+     * @param graph   Граф лабиринта.
+     * @param cells   Ячейки, рёбра которых релаксируются.
+     * @param labels  Упакованные стоимости и предшественники ячеек.
+     * @param buckets Циклический массив корзин.
+     * @param light   true для рёбер с весом не больше delta, false для остальных.
+     */
+    private void relax(MazeGraph graph, IntArrayList cells, long[] labels, IntArrayList[] buckets, boolean light) {
+        int chunks = (cells.size() + RELAX_CHUNK - 1) / RELAX_CHUNK;
+        IntStream chunkStream = IntStream.range(0, chunks);
+        List<IntArrayList> improved = (chunks > 1 ? chunkStream.parallel() : chunkStream)
+            .mapToObj(chunk -> relaxChunk(graph, cells, labels, light, chunk))
+            .toList();
+
+        for (IntArrayList chunkImproved : improved) {
+            for (int i = 0; i < chunkImproved.size(); i++) {
+                int cell = chunkImproved.getInt(i);
+                addToBucket(buckets, cost(labels[cell]) / delta, cell);
+            }
+        }
+    }
+
+    private IntArrayList relaxChunk(MazeGraph graph, IntArrayList cells, long[] labels, boolean light, int chunk) {
+        IntArrayList improved = new IntArrayList();
+        int last = Math.min(cells.size(), (chunk + 1) * RELAX_CHUNK);
+        for (int i = chunk * RELAX_CHUNK; i < last; i++) {
+            int cell = cells.getInt(i);
+            int cellCost = cost((long) LABELS.getVolatile(labels, cell));
+            for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+                if ((graph.weight(edge) <= delta) == light
+                    && lowerLabel(labels, graph.target(edge), cellCost + graph.weight(edge), cell)) {
+                    improved.add(graph.target(edge));
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Атомарно уменьшает стоимость ячейки, если новая стоимость меньше текущей.
+     *
+     * @return true, если стоимость уменьшилась.
+     */
+    private static boolean lowerLabel(long[] labels, int cell, int cost, int predecessor) {
+        long candidate = label(cost, predecessor);
+        long current = (long) LABELS.getVolatile(labels, cell);
+        while (cost < cost(current)) {
+            if (LABELS.compareAndSet(labels, cell, current, candidate)) {
+                return true;
+            }
+            current = (long) LABELS.getVolatile(labels, cell);
+        }
+        return false;
+    }
+
+    private static void addToBucket(IntArrayList[] buckets, int bucket, int cell) {
+        buckets[bucket % buckets.length].add(cell);
+    }
+
+    private static Path reconstructPath(MazeGraph graph, long[] labels, int start, int end) {
+        List<Coordinate> path = new ArrayList<>();
+        int current = end;
+        while (current != start) {
+            path.add(graph.coordinate(current));
+            current = (int) labels[current];
+        }
+        path.add(graph.coordinate(start));
+        Collections.reverse(path);
+        return new Path(path, cost(labels[end]));
+    }
+
+    /**
+     * Упаковывает стоимость в старшие 32 бита, а номер предшественника в младшие.
+     */
+    private static long label(int cost, int predecessor) {
+        return (long) cost << Integer.SIZE | predecessor;
+    }
+
+    private static int cost(long label) {
+        return (int) (label >>> Integer.SIZE);
+    }
+}
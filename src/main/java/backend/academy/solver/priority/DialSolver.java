@@ -0,0 +1,73 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.utils.ReconstructorPath;
+import java.util.Arrays;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Реализация алгоритма Дейкстры с очередью Дайала. Веса рёбер лабиринта — небольшие целые числа,
+ * поэтому вместо двоичной кучи используется циклическая очередь из {@link MazeGraph#maxWeight()} + 1 корзин:
+ * добавление и извлечение выполняются за O(1), а найденные стоимости совпадают с {@link DijkstraSolver}.
+ */
+@RequiredArgsConstructor
+public class DialSolver implements Solver {
+    private final ReconstructorPath reconstructorPath;
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
+
+        if (start < 0 || end < 0) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        if (start == end) {
+            return new Path(Collections.singletonList(startCoord), graph.cellCost(start));
+        }
+
+        int[] predecessors = new int[graph.size()];
+        int[] gScores = new int[graph.size()];
+        boolean[] closedSet = new boolean[graph.size()];
+        Arrays.fill(gScores, Integer.MAX_VALUE);
+
+        gScores[start] = graph.cellCost(start);
+        BucketQueue openSet = new BucketQueue(graph.maxWeight() + 1, gScores[start]);
+        openSet.push(start, gScores[start]);
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.pop();
+
+            // Устаревшие записи остаются в корзинах и пропускаются при извлечении
+            if (closedSet[current]) {
+                continue;
+            }
+            closedSet[current] = true;
+
+            if (current == end) {
+                return reconstructorPath.reconstruct(graph, predecessors, start, end, gScores[end]);
+            }
+
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                if (closedSet[neighbor]) {
+                    continue;
+                }
+
+                int tentativeGScore = gScores[current] + graph.weight(edge);
+                if (tentativeGScore < gScores[neighbor]) {
+                    gScores[neighbor] = tentativeGScore;
+                    predecessors[neighbor] = current;
+                    openSet.push(neighbor, tentativeGScore);
+                }
+            }
+        }
+
+        return new Path(Collections.emptyList(), 0);
+    }
+}
@@ -1,6 +1,6 @@
 package backend.academy.solver.priority;
 
-import backend.academy.entity.cell.Cell;
+import backend.academy.solver.graph.MazeGraph;
 import backend.academy.utils.ReconstructorPath;
 
 /**
@@ -13,7 +13,7 @@ public class DijkstraSolver extends AbstractPrioritySolver {
     }
 
     @Override
-    protected int calculatePriority(Cell cell, Cell endCell, int gScore) {
+    protected int calculatePriority(MazeGraph graph, int cell, int end, int gScore) {
         return gScore;
     }
 }
@@ -0,0 +1,161 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.direction.Direction;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.graph.MazeGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Поле расстояний от одной ячейки-источника: результат полного прохода алгоритма Дейкстры по графу.
+ * Для каждой ячейки хранятся стоимость кратчайшего пути от источника и направление шага к предшественнику
+ * в дереве кратчайших путей, упакованное в один байт. После построения поле отвечает на запрос пути
+ * до любой ячейки за время, пропорциональное длине пути, без повторного поиска.
+ * <p>
+ * Поле неизменяемо и может использоваться из нескольких потоков одновременно.
+ */
+public final class DistanceField {
+    private static final Logger LOGGER = Logger.getLogger(DistanceField.class.getName());
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final byte NO_PARENT = -1;
+
+    private final MazeGraph graph;
+    private final int source;
+    private final int[] distances;
+    private final byte[] parentDirections;
+
+    private DistanceField(MazeGraph graph, int source, int[] distances, byte[] parentDirections) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.parentDirections = parentDirections;
+    }
+
+    /**
+     * Строит поле расстояний от заданной ячейки. Рёбра дерева кратчайших путей должны соединять соседние
+     * по стороне ячейки, иначе направление к предшественнику нельзя записать одним байтом.
+     *
+     * @param graph        Граф лабиринта.
+     * @param sourceCoord  Координаты источника.
+     * @return Поле расстояний.
+     * @throws IllegalArgumentException если источник отсутствует в графе или ребро соединяет несоседние ячейки.
+     */
+    public static DistanceField compute(MazeGraph graph, Coordinate sourceCoord) {
+        int source = graph.idOf(sourceCoord);
+        if (source < 0) {
+            LOGGER.warning("The source cell must belong to the graph.");
+            throw new IllegalArgumentException("The source cell must belong to the graph: " + sourceCoord);
+        }
+
+        int[] distances = new int[graph.size()];
+        byte[] parentDirections = new byte[graph.size()];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(parentDirections, NO_PARENT);
+        boolean[] settled = new boolean[graph.size()];
+        IndexedDaryHeap openSet = new IndexedDaryHeap(graph.size());
+
+        distances[source] = graph.cellCost(source);
+        openSet.insertOrDecrease(source, distances[source]);
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+            settled[current] = true;
+
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                int tentative = distances[current] + graph.weight(edge);
+                if (!settled[neighbor] && tentative < distances[neighbor]) {
+                    distances[neighbor] = tentative;
+                    parentDirections[neighbor] = directionTo(graph, neighbor, current);
+                    openSet.insertOrDecrease(neighbor, tentative);
+                }
+            }
+        }
+
+        return new DistanceField(graph, source, distances, parentDirections);
+    }
+
+    /**
+     * Возвращает координаты источника поля.
+     *
+     * @return Координаты источника.
+     */
+    public Coordinate source() {
+        return graph.coordinate(source);
+    }
+
+    /**
+     * Возвращает граф, по которому построено поле.
+     *
+     * @return Граф лабиринта.
+     */
+    public MazeGraph graph() {
+        return graph;
+    }
+
+    /**
+     * Проверяет, достижима ли ячейка из источника.
+     *
+     * @param target Координаты ячейки.
+     * @return true, если путь от источника до ячейки существует.
+     */
+    public boolean isReachable(Coordinate target) {
+        int id = graph.idOf(target);
+        return id >= 0 && distances[id] != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Возвращает стоимость кратчайшего пути от источника до ячейки, включая стоимость самого источника.
+     *
+     * @param target Координаты ячейки.
+     * @return Стоимость пути или {@link Integer#MAX_VALUE}, если ячейка недостижима.
+     */
+    public int cost(Coordinate target) {
+        int id = graph.idOf(target);
+        return id < 0 ? Integer.MAX_VALUE : distances[id];
+    }
+
+    /**
+     * Восстанавливает кратчайший путь от источника до ячейки, следуя направлениям к предшественникам.
+     *
+     * @param target Координаты ячейки.
+     * @return Путь от источника до ячейки или пустой путь, если ячейка недостижима.
+     */
+    public Path pathTo(Coordinate target) {
+        if (!isReachable(target)) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        List<Coordinate> coordinates = new ArrayList<>();
+        Coordinate current = target;
+        int id = graph.idOf(current);
+        while (id != source) {
+            coordinates.add(current);
+            Direction direction = DIRECTIONS[parentDirections[id]];
+            current = new Coordinate(current.row() + direction.rowOffset(), current.col() + direction.colOffset());
+            id = graph.idOf(current);
+        }
+        coordinates.add(current);
+        Collections.reverse(coordinates);
+        return new Path(coordinates, distances[graph.idOf(target)]);
+    }
+
+    /**
+     * Определяет направление шага от ячейки к её предшественнику.
+     */
+    private static byte directionTo(MazeGraph graph, int from, int to) {
+        int rowStep = graph.row(to) - graph.row(from);
+        int colStep = graph.col(to) - graph.col(from);
+        for (Direction direction : DIRECTIONS) {
+            if (direction.rowOffset() == rowStep && direction.colOffset() == colStep) {
+                return (byte) direction.ordinal();
+            }
+        }
+        LOGGER.warning("The distance field supports only edges between adjacent cells.");
+        throw new IllegalArgumentException("The distance field supports only edges between adjacent cells");
+    }
+}
@@ -0,0 +1,109 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.maze.Maze;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.solver.graph.MazeGraph;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.logging.Logger;
+
+/**
+ * Кеш полей расстояний для повторных запросов из одной и той же ячейки. Ключ поля — лабиринт, провайдер типов,
+ * версия лабиринта ({@link Maze#version()}) и источник, поэтому после изменения лабиринта старые поля
+ * перестают находиться и вытесняются из кеша по мере заполнения. Графы лабиринтов кешируются отдельно,
+ * чтобы поля разных источников одной версии лабиринта разделяли один граф.
+ * <p>
+ * Лабиринты и провайдеры в ключах сравниваются по ссылке. Кеш потокобезопасен.
+ */
+public final class DistanceFieldCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 64;
+    private static final Logger LOGGER = Logger.getLogger(DistanceFieldCache.class.getName());
+
+    private final Cache<GraphKey, MazeGraph> graphs;
+    private final Cache<FieldKey, DistanceField> fields;
+
+    public DistanceFieldCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Создаёт кеш с ограничением на количество хранимых полей.
+     *
+     * @param maximumSize Максимальное количество полей в кеше.
+     */
+    public DistanceFieldCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            LOGGER.warning("Maximum size must be positive.");
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.graphs = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.fields = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Возвращает поле расстояний от заданной ячейки для текущей версии лабиринта, вычисляя его при промахе.
+     *
+     * @param maze             Лабиринт.
+     * @param mazeTypeProvider Провайдер типов, определяющий стоимости и проходимость.
+     * @param source           Координаты источника.
+     * @return Поле расстояний.
+     * @throws IllegalArgumentException если источник отсутствует в лабиринте.
+     */
+    public DistanceField get(Maze maze, MazeTypeProvider mazeTypeProvider, Coordinate source) {
+        GraphKey graphKey = new GraphKey(maze, mazeTypeProvider, maze.version());
+        return fields.get(
+            new FieldKey(graphKey, source),
+            key -> DistanceField.compute(graph(graphKey), source)
+        );
+    }
+
+    /**
+     * Возвращает граф лабиринта для текущей версии, строя его при промахе.
+     *
+     * @param maze             Лабиринт.
+     * @param mazeTypeProvider Провайдер типов.
+     * @return Граф лабиринта.
+     */
+    public MazeGraph graph(Maze maze, MazeTypeProvider mazeTypeProvider) {
+        return graph(new GraphKey(maze, mazeTypeProvider, maze.version()));
+    }
+
+    /**
+     * Удаляет все закешированные поля и графы.
+     */
+    public void invalidateAll() {
+        fields.invalidateAll();
+        graphs.invalidateAll();
+    }
+
+    private MazeGraph graph(GraphKey key) {
+        return graphs.get(key, k -> MazeGraph.of(k.maze(), k.mazeTypeProvider()));
+    }
+
+    /**
+     * Ключ графа: лабиринт и провайдер сравниваются по ссылке, версия — по значению.
+     */
+    private record GraphKey(Maze maze, MazeTypeProvider mazeTypeProvider, long version) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GraphKey that
+                && maze == that.maze
+                && mazeTypeProvider == that.mazeTypeProvider
+                && version == that.version;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(maze);
+            result = 31 * result + System.identityHashCode(mazeTypeProvider);
+            return 31 * result + Long.hashCode(version);
+        }
+    }
+
+    /**
+     * Ключ поля: версия лабиринта и источник.
+     */
+    private record FieldKey(GraphKey graphKey, Coordinate source) {
+    }
+}
@@ -0,0 +1,131 @@
+package backend.academy.solver.priority;
+
+import java.util.Arrays;
+
+/**
+ * Индексированная 4-арная min-куча номеров ячеек с операцией уменьшения ключа.
+ * <p>
+ * Куча хранит каждую ячейку не более одного раза: для ячейки запоминается её позиция в массиве кучи,
+ * поэтому при нахождении более дешёвого пути приоритет уменьшается на месте, а не добавляется новая запись.
+ * Массивы кучи растут по числу открытых ячеек, а четыре потомка узла лежат рядом в памяти, что уменьшает
+ * высоту кучи и число промахов кэша по сравнению с двоичной кучей.
+ * <p>
+ * Массив позиций не очищается: позиция ячейки действительна, только если по ней в куче лежит эта же ячейка.
+ */
+final class IndexedDaryHeap {
+    private static final int ARITY = 4;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int[] positions;
+    private int[] heap = new int[INITIAL_CAPACITY];
+    private int[] priorities = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Создаёт пустую кучу для ячеек с номерами от 0 до cellCount - 1.
+     *
+     * @param cellCount Количество номеров ячеек.
+     */
+    IndexedDaryHeap(int cellCount) {
+        this.positions = new int[cellCount];
+    }
+
+    /**
+     * Добавляет ячейку в кучу или уменьшает её приоритет, если она уже в куче.
+     * Больший приоритет для ячейки в куче игнорируется.
+     *
+     * @param cell     Номер ячейки.
+     * @param priority Приоритет.
+     */
+    void insertOrDecrease(int cell, int priority) {
+        int position = positions[cell];
+        if (position < size && heap[position] == cell) {
+            if (priority >= priorities[position]) {
+                return;
+            }
+        } else {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+                priorities = Arrays.copyOf(priorities, size * 2);
+            }
+            position = size++;
+        }
+        siftUp(position, cell, priority);
+    }
+
+    /**
+     * Извлекает ячейку с наименьшим приоритетом. Куча не должна быть пустой.
+     *
+     * @return Номер ячейки.
+     */
+    int poll() {
+        int top = heap[0];
+        size--;
+        if (size > 0) {
+            siftDown(heap[size], priorities[size]);
+        }
+        return top;
+    }
+
+    /**
+     * Возвращает наименьший приоритет в куче, не извлекая ячейку. Куча не должна быть пустой.
+     *
+     * @return Наименьший приоритет.
+     */
+    int peekPriority() {
+        return priorities[0];
+    }
+
+    /**
+     * Проверяет, пуста ли куча.
+     *
+     * @return true, если в куче нет ячеек.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void siftUp(int position, int cell, int priority) {
+        while (position > 0) {
+            int parentPosition = (position - 1) / ARITY;
+            if (priorities[parentPosition] <= priority) {
+                break;
+            }
+            place(position, heap[parentPosition], priorities[parentPosition]);
+            position = parentPosition;
+        }
+        place(position, cell, priority);
+    }
+
+    private void siftDown(int cell, int priority) {
+        int position = 0;
+        while (true) {
+            int firstChild = position * ARITY + 1;
+            if (firstChild >= size) {
+                break;
+            }
+
+            // Ищем потомка с наименьшим приоритетом
+            int bestPosition = firstChild;
+            int lastChild = Math.min(firstChild + ARITY, size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (priorities[child] < priorities[bestPosition]) {
+                    bestPosition = child;
+                }
+            }
+
+            if (priorities[bestPosition] >= priority) {
+                break;
+            }
+            place(position, heap[bestPosition], priorities[bestPosition]);
+            position = bestPosition;
+        }
+        place(position, cell, priority);
+    }
+
+    private void place(int position, int cell, int priority) {
+        heap[position] = cell;
+        priorities[position] = priority;
+        positions[cell] = position;
+    }
+}
@@ -0,0 +1,169 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.utils.ReconstructorPath;
+import java.util.Arrays;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Реализация поиска с точками прыжка (JPS) для лабиринтов с одинаковой стоимостью шага.
+ * <p>
+ * Из каждой раскрываемой ячейки поиск «прыгает» по прямой в каждом из четырёх направлений, пока не встретит
+ * конечную ячейку или ячейку с проходом в сторону. Промежуточные ячейки прямого коридора не имеют других
+ * выходов, поэтому любой путь через них идёт по той же прямой, и в очередь A* попадают только точки прыжка.
+ * Если граф не является решёткой с одинаковыми весами ({@link MazeGraph#isUniformGrid()}), поиск
+ * передаётся запасному решателю.
+ */
+@RequiredArgsConstructor
+public class JumpPointSolver implements Solver {
+    private static final int[] DIRECTION_ROWS = {-1, 1, 0, 0};
+    private static final int[] DIRECTION_COLS = {0, 0, -1, 1};
+    private static final int NO_CELL = -1;
+
+    private final ReconstructorPath reconstructorPath;
+    private final Solver fallbackSolver;
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        if (!graph.isUniformGrid()) {
+            return fallbackSolver.solve(graph, startCoord, endCoord);
+        }
+        return search(graph, startCoord, endCoord).path();
+    }
+
+    /**
+     * Ищет путь прыжками по однородной решётке и считает точки прыжка, раскрытые этим запросом.
+     *
+     * @param graph      Граф лабиринта, решётка с одинаковыми весами рёбер.
+     * @param startCoord Начальная координата.
+     * @param endCoord   Конечная координата.
+     * @return Путь и количество раскрытых точек прыжка.
+     */
+    SearchResult search(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        int start = graph.idOf(startCoord);
+        int end = graph.idOf(endCoord);
+
+        if (start < 0 || end < 0) {
+            return new SearchResult(new Path(Collections.emptyList(), 0), 0);
+        }
+
+        if (start == end) {
+            return new SearchResult(new Path(Collections.singletonList(startCoord), graph.cellCost(start)), 0);
+        }
+
+        // Предшественником точки прыжка считается точка, из которой в неё прыгнули
+        int[] predecessors = new int[graph.size()];
+        int[] gScores = new int[graph.size()];
+        boolean[] closedSet = new boolean[graph.size()];
+        IndexedDaryHeap openSet = new IndexedDaryHeap(graph.size());
+        Arrays.fill(gScores, Integer.MAX_VALUE);
+        int stepCost = graph.maxWeight();
+
+        gScores[start] = graph.cellCost(start);
+        openSet.insertOrDecrease(start, gScores[start] + heuristic(graph, start, end, stepCost));
+
+        int expanded = 0;
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+            closedSet[current] = true;
+            expanded++;
+
+            if (current == end) {
+                expandJumps(graph, predecessors, start, end);
+                Path path = reconstructorPath.reconstruct(graph, predecessors, start, end, gScores[end]);
+                return new SearchResult(path, expanded);
+            }
+
+            for (int direction = 0; direction < DIRECTION_ROWS.length; direction++) {
+                int jumpPoint = current;
+                int steps = 0;
+                do {
+                    jumpPoint = neighbor(graph, jumpPoint, DIRECTION_ROWS[direction], DIRECTION_COLS[direction]);
+                    steps++;
+                } while (jumpPoint != NO_CELL && jumpPoint != end && !hasTurn(graph, jumpPoint, direction));
+
+                // Прямой тупик без боковых проходов не содержит точек прыжка
+                if (jumpPoint == NO_CELL || closedSet[jumpPoint]) {
+                    continue;
+                }
+
+                int tentativeGScore = gScores[current] + steps * stepCost;
+                if (tentativeGScore < gScores[jumpPoint]) {
+                    gScores[jumpPoint] = tentativeGScore;
+                    predecessors[jumpPoint] = current;
+                    openSet.insertOrDecrease(jumpPoint,
+                        tentativeGScore + heuristic(graph, jumpPoint, end, stepCost));
+                }
+            }
+        }
+
+        return new SearchResult(new Path(Collections.emptyList(), 0), expanded);
+    }
+
+    /**
+     * Заменяет цепочку точек прыжка от конечной ячейки до начальной на цепочку соседних ячеек,
+     * проходя каждый прыжок заново от его начала.
+     *
+     * @param graph        Граф лабиринта.
+     * @param predecessors Предшественники точек прыжка; дополняются промежуточными ячейками.
+     * @param start        Номер начальной ячейки.
+     * @param end          Номер конечной ячейки.
+     */
+    private static void expandJumps(MazeGraph graph, int[] predecessors, int start, int end) {
+        int jumpPoint = end;
+        while (jumpPoint != start) {
+            int from = predecessors[jumpPoint];
+            int rowStep = Integer.signum(graph.row(jumpPoint) - graph.row(from));
+            int colStep = Integer.signum(graph.col(jumpPoint) - graph.col(from));
+
+            int current = from;
+            while (current != jumpPoint) {
+                int next = neighbor(graph, current, rowStep, colStep);
+                predecessors[next] = current;
+                current = next;
+            }
+            jumpPoint = from;
+        }
+    }
+
+    /**
+     * Ищет соседа ячейки в заданном направлении среди проходимых рёбер. Возвращает NO_CELL, если прохода нет.
+     */
+    private static int neighbor(MazeGraph graph, int cell, int rowStep, int colStep) {
+        int row = graph.row(cell);
+        int col = graph.col(cell);
+        for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+            int target = graph.target(edge);
+            if (graph.row(target) - row == rowStep && graph.col(target) - col == colStep) {
+                return graph.target(edge);
+            }
+        }
+        return NO_CELL;
+    }
+
+    /**
+     * Проверяет, есть ли у ячейки проход, перпендикулярный направлению движения.
+     */
+    private static boolean hasTurn(MazeGraph graph, int cell, int direction) {
+        boolean horizontal = DIRECTION_ROWS[direction] == 0;
+        int row = graph.row(cell);
+        for (int edge = graph.edgesStart(cell); edge < graph.edgesEnd(cell); edge++) {
+            boolean vertical = graph.row(graph.target(edge)) != row;
+            if (vertical == horizontal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Эвристика: манхэттенское расстояние, умноженное на стоимость шага.
+     */
+    private static int heuristic(MazeGraph graph, int cell, int end, int stepCost) {
+        return (Math.abs(graph.row(cell) - graph.row(end)) + Math.abs(graph.col(cell) - graph.col(end))) * stepCost;
+    }
+}
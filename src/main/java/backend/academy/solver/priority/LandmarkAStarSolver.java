@@ -0,0 +1,80 @@
+package backend.academy.solver.priority;
+
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.utils.ReconstructorPath;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.logging.Logger;
+
+/**
+ * Алгоритм A* с эвристикой ALT (A*, landmarks, triangle inequality). Вместо одного манхэттенского расстояния
+ * эвристика берёт максимум из него и оценок по ориентирам {@link Landmarks}, которые учитывают стены: в лабиринте
+ * настоящий маршрут далеко уходит от прямой, и манхэттенская оценка почти не отсекает ячейки.
+ * <p>
+ * Ориентиры кешируются по ссылке на граф, поэтому первый запрос к графу оплачивает их вычисление. Память
+ * настраивается количеством ориентиров: каждый занимает 8 байт на ячейку графа. Путь оптимален.
+ */
+public class LandmarkAStarSolver extends AbstractPrioritySolver {
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+    private static final int MAXIMUM_CACHED_GRAPHS = 4;
+    private static final Logger LOGGER = Logger.getLogger(LandmarkAStarSolver.class.getName());
+
+    private final int landmarkCount;
+    private final LandmarkSelection selection;
+    private final Cache<MazeGraph, Landmarks> landmarks = Caffeine.newBuilder()
+        .weakKeys()
+        .maximumSize(MAXIMUM_CACHED_GRAPHS)
+        .build();
+
+    public LandmarkAStarSolver(ReconstructorPath reconstructorPath) {
+        this(reconstructorPath, DEFAULT_LANDMARK_COUNT, LandmarkSelection.BOUNDARY);
+    }
+
+    /**
+     * Создаёт решатель с заданными ориентирами.
+     *
+     * @param reconstructorPath Восстановитель пути.
+     * @param landmarkCount     Количество ориентиров.
+     * @param selection         Способ выбора ориентиров.
+     */
+    public LandmarkAStarSolver(ReconstructorPath reconstructorPath, int landmarkCount, LandmarkSelection selection) {
+        super(reconstructorPath);
+        if (landmarkCount <= 0) {
+            LOGGER.warning("Landmark count must be positive.");
+            throw new IllegalArgumentException("Landmark count must be positive");
+        }
+        this.landmarkCount = landmarkCount;
+        this.selection = selection;
+    }
+
+    /**
+     * Возвращает ориентиры графа, вычисляя их при первом обращении. Позволяет выполнить предварительную
+     * обработку заранее, до первого запроса.
+     *
+     * @param graph Граф лабиринта.
+     * @return Ориентиры графа.
+     */
+    public Landmarks landmarks(MazeGraph graph) {
+        return landmarks.get(graph, key -> Landmarks.compute(key, landmarkCount, selection));
+    }
+
+    /**
+     * Получает ориентиры графа один раз на запрос: приоритет считается для каждого ребра, и обращение к кешу
+     * там было бы дорогим.
+     */
+    @Override
+    protected Priority priority(MazeGraph graph, int end) {
+        Landmarks graphLandmarks = landmarks(graph);
+        int endRow = graph.row(end);
+        int endCol = graph.col(end);
+        return (cell, gScore) -> {
+            int manhattan = Math.abs(graph.row(cell) - endRow) + Math.abs(graph.col(cell) - endCol);
+            return gScore + Math.max(manhattan, graphLandmarks.lowerBound(cell, end));
+        };
+    }
+
+    @Override
+    protected int calculatePriority(MazeGraph graph, int cell, int end, int gScore) {
+        return priority(graph, end).of(cell, gScore);
+    }
+}
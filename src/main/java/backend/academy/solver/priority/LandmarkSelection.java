@@ -0,0 +1,17 @@
+package backend.academy.solver.priority;
+
+/**
+ * Enum для способов выбора ориентиров эвристики ALT.
+ */
+public enum LandmarkSelection {
+    /**
+     * Каждый следующий ориентир — ячейка, самая дальняя от уже выбранных по стоимости пути. Выбор требует
+     * последовательного поиска от каждого ориентира.
+     */
+    FARTHEST,
+    /**
+     * Ориентиры — самые удалённые от центра лабиринта ячейки в равных угловых секторах, то есть точки на его
+     * границе. Выбор не требует поиска, и все расстояния считаются параллельно.
+     */
+    BOUNDARY
+}
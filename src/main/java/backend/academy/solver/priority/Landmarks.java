@@ -0,0 +1,254 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.solver.graph.MazeGraph;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Ориентиры (landmarks) эвристики ALT: несколько выбранных ячеек с заранее посчитанными стоимостями путей
+ * от каждого ориентира до всех ячеек и от всех ячеек до ориентира. По неравенству треугольника для любого
+ * ориентира L стоимость пути из v в t не меньше d(L, t) - d(L, v) и d(v, L) - d(t, L); максимум этих оценок
+ * по ориентирам — допустимая и согласованная эвристика, которая учитывает стены лабиринта, в отличие
+ * от манхэттенского расстояния.
+ * <p>
+ * Расстояния хранятся в одном массиве int, по 2 * count чисел на ячейку подряд, чтобы оценка одной ячейки
+ * читала соседние элементы памяти. Каждый ориентир занимает 8 байт на ячейку графа. Стоимости здесь —
+ * суммы весов рёбер без стоимости начальной ячейки. Объект неизменяем и может использоваться из нескольких
+ * потоков одновременно.
+ */
+public final class Landmarks {
+    private static final Logger LOGGER = Logger.getLogger(Landmarks.class.getName());
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final MazeGraph graph;
+    private final int[] cells;
+    // Для ячейки id и ориентира i: [id * stride + 2 * i] = d(L_i, id), [id * stride + 2 * i + 1] = d(id, L_i)
+    private final int[] distances;
+    private final int stride;
+
+    private Landmarks(MazeGraph graph, int[] cells, int[] distances) {
+        this.graph = graph;
+        this.cells = cells;
+        this.distances = distances;
+        this.stride = 2 * cells.length;
+    }
+
+    /**
+     * Выбирает ориентиры и считает расстояния от них и до них. Поиски от разных ориентиров независимы
+     * и выполняются параллельно в общем пуле ForkJoin.
+     *
+     * @param graph     Граф лабиринта.
+     * @param count     Количество ориентиров; если ячеек меньше, ориентиров будет столько, сколько ячеек.
+     * @param selection Способ выбора ориентиров.
+     * @return Ориентиры графа.
+     * @throws IllegalArgumentException если количество ориентиров не положительно.
+     */
+    public static Landmarks compute(MazeGraph graph, int count, LandmarkSelection selection) {
+        if (count <= 0) {
+            LOGGER.warning("Landmark count must be positive.");
+            throw new IllegalArgumentException("Landmark count must be positive");
+        }
+
+        int[][] forward;
+        int[] cells;
+        if (selection == LandmarkSelection.FARTHEST) {
+            forward = new int[Math.min(count, cellCount(graph))][];
+            cells = selectFarthest(graph, forward);
+        } else {
+            cells = selectBoundary(graph, count);
+            forward = IntStream.range(0, cells.length)
+                .parallel()
+                .mapToObj(i -> shortestDistances(graph, cells[i], false))
+                .toArray(int[][]::new);
+        }
+        int[][] backward = IntStream.range(0, cells.length)
+            .parallel()
+            .mapToObj(i -> shortestDistances(graph, cells[i], true))
+            .toArray(int[][]::new);
+
+        int stride = 2 * cells.length;
+        int[] distances = new int[graph.size() * stride];
+        for (int i = 0; i < cells.length; i++) {
+            for (int id = 0; id < graph.size(); id++) {
+                distances[id * stride + 2 * i] = forward[i][id];
+                distances[id * stride + 2 * i + 1] = backward[i][id];
+            }
+        }
+        return new Landmarks(graph, cells, distances);
+    }
+
+    /**
+     * Возвращает нижнюю оценку стоимости пути из ячейки в цель без стоимости самой ячейки.
+     *
+     * @param cell Номер ячейки.
+     * @param end  Номер цели.
+     * @return Нижняя оценка стоимости; 0, если ни один ориентир не даёт оценки.
+     */
+    public int lowerBound(int cell, int end) {
+        int cellBase = cell * stride;
+        int endBase = end * stride;
+        int bound = 0;
+        for (int i = 0; i < stride; i += 2) {
+            int fromLandmarkToCell = distances[cellBase + i];
+            int fromLandmarkToEnd = distances[endBase + i];
+            if (fromLandmarkToCell != UNREACHABLE && fromLandmarkToEnd != UNREACHABLE) {
+                bound = Math.max(bound, fromLandmarkToEnd - fromLandmarkToCell);
+            }
+            int fromCellToLandmark = distances[cellBase + i + 1];
+            int fromEndToLandmark = distances[endBase + i + 1];
+            if (fromCellToLandmark != UNREACHABLE && fromEndToLandmark != UNREACHABLE) {
+                bound = Math.max(bound, fromCellToLandmark - fromEndToLandmark);
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Возвращает граф, для которого выбраны ориентиры.
+     *
+     * @return Граф лабиринта.
+     */
+    public MazeGraph graph() {
+        return graph;
+    }
+
+    /**
+     * Возвращает количество ориентиров.
+     *
+     * @return Количество ориентиров.
+     */
+    public int count() {
+        return cells.length;
+    }
+
+    /**
+     * Возвращает координаты ориентира.
+     *
+     * @param index Номер ориентира.
+     * @return Координаты ячейки-ориентира.
+     */
+    public Coordinate landmark(int index) {
+        return graph.coordinate(cells[index]);
+    }
+
+    /**
+     * Выбирает ориентиры по наибольшему удалению: первый — самая дальняя ячейка от первой ячейки графа,
+     * каждый следующий — ячейка с наибольшим расстоянием до ближайшего уже выбранного ориентира. Расстояния
+     * от выбранных ориентиров записываются в forward.
+     */
+    private static int[] selectFarthest(MazeGraph graph, int[][] forward) {
+        int[] cells = new int[forward.length];
+        if (cells.length == 0) {
+            return cells;
+        }
+        int seed = 0;
+        while (!graph.contains(seed)) {
+            seed++;
+        }
+        int[] nearest = shortestDistances(graph, seed, false);
+        for (int i = 0; i < cells.length; i++) {
+            int farthest = seed;
+            for (int id = 0; id < graph.size(); id++) {
+                if (nearest[id] != UNREACHABLE && nearest[id] > nearest[farthest]) {
+                    farthest = id;
+                }
+            }
+            cells[i] = farthest;
+            forward[i] = shortestDistances(graph, farthest, false);
+            if (i == 0) {
+                // Расстояния от первой ячейки нужны только для выбора первого ориентира
+                nearest = forward[0].clone();
+            } else {
+                for (int id = 0; id < graph.size(); id++) {
+                    nearest[id] = Math.min(nearest[id], forward[i][id]);
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Делит плоскость вокруг центра лабиринта на count равных угловых секторов и в каждом выбирает ячейку,
+     * самую удалённую от центра. Пустые секторы пропускаются.
+     */
+    private static int[] selectBoundary(MazeGraph graph, int count) {
+        // Номера без ячейки в лабиринте не имеют координат и пропускаются
+        double centerRow = 0;
+        double centerCol = 0;
+        for (int id = 0; id < graph.size(); id++) {
+            if (graph.contains(id)) {
+                centerRow += graph.row(id);
+                centerCol += graph.col(id);
+            }
+        }
+        int cellCount = cellCount(graph);
+        centerRow /= Math.max(1, cellCount);
+        centerCol /= Math.max(1, cellCount);
+
+        int[] best = new int[count];
+        double[] bestDistance = new double[count];
+        Arrays.fill(best, -1);
+        for (int id = 0; id < graph.size(); id++) {
+            if (!graph.contains(id)) {
+                continue;
+            }
+            double row = graph.row(id) - centerRow;
+            double col = graph.col(id) - centerCol;
+            double angle = Math.atan2(row, col) + Math.PI;
+            int sector = Math.min(count - 1, (int) (angle / (2 * Math.PI) * count));
+            double distance = row * row + col * col;
+            if (best[sector] < 0 || distance > bestDistance[sector]) {
+                best[sector] = id;
+                bestDistance[sector] = distance;
+            }
+        }
+        return Arrays.stream(best).filter(id -> id >= 0).toArray();
+    }
+
+    private static int cellCount(MazeGraph graph) {
+        int count = 0;
+        for (int id = 0; id < graph.size(); id++) {
+            if (graph.contains(id)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Алгоритм Дейкстры от ячейки source. Если reverse равен true, считаются стоимости путей до source:
+     * рёбра проходятся в обратную сторону со своими весами, поэтому учитывается несимметричность весов.
+     */
+    private static int[] shortestDistances(MazeGraph graph, int source, boolean reverse) {
+        int[] distances = new int[graph.size()];
+        boolean[] settled = new boolean[graph.size()];
+        IndexedDaryHeap openSet = new IndexedDaryHeap(graph.size());
+        Arrays.fill(distances, UNREACHABLE);
+        distances[source] = 0;
+        openSet.insertOrDecrease(source, 0);
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+            settled[current] = true;
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                if (settled[neighbor]) {
+                    continue;
+                }
+                // Лабиринт связывает ячейки рёбрами в обе стороны, но веса в разные стороны могут отличаться
+                int weightEdge = reverse ? graph.findEdge(neighbor, current) : edge;
+                if (weightEdge < 0) {
+                    continue;
+                }
+                int tentative = distances[current] + graph.weight(weightEdge);
+                if (tentative < distances[neighbor]) {
+                    distances[neighbor] = tentative;
+                    openSet.insertOrDecrease(neighbor, tentative);
+                }
+            }
+        }
+        return distances;
+    }
+}
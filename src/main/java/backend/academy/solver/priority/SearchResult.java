@@ -0,0 +1,13 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.path.Path;
+
+/**
+ * Результат одного поиска вместе с количеством ячеек, извлечённых из очереди. Количество позволяет сравнить,
+ * насколько эвристика или прыжки сужают поиск, и относится только к этому запросу.
+ *
+ * @param path          Найденный путь или пустой путь, если его нет.
+ * @param expandedCells Количество раскрытых ячеек.
+ */
+record SearchResult(Path path, int expandedCells) {
+}
@@ -0,0 +1,238 @@
+package backend.academy.solver.tree;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.graph.MazeGraph;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Индекс путей в лабиринте без циклов. Совершенный лабиринт — остовное дерево решётки, поэтому путь между
+ * любыми двумя ячейками единственен и проходит через их наименьшего общего предка (LCA) в подвешенном дереве.
+ * Для каждой ячейки хранятся родитель, глубина и префиксные стоимости пути от корня и к корню, поэтому
+ * стоимость пути считается за O(1) после поиска LCA, а сам путь восстанавливается за O(L) подъёмом к LCA.
+ * <p>
+ * LCA ищется минимумом глубины на отрезке порядка обхода в глубину: для ячеек u и v с tin[u] &lt; tin[v] ячейка
+ * наименьшей глубины на отрезке (tin[u], tin[v]] — ребёнок их LCA. Минимум на отрезке находится по разреженной
+ * таблице минимумов блоков из {@value #BLOCK_SIZE} позиций и просмотру неполных блоков на краях, то есть
+ * за O(1) с постоянной не больше двух блоков; таблица занимает O(n / BLOCK_SIZE * log n) памяти вместо
+ * O(n log n) у таблицы по всем позициям.
+ * <p>
+ * Несвязный лес тоже поддерживается: ячейки разных деревьев недостижимы друг из друга. Индекс неизменяем
+ * и может использоваться из нескольких потоков одновременно.
+ */
+public final class TreeMazeIndex {
+    public static final int BLOCK_SIZE = 32;
+    private static final int NO_PARENT = -1;
+    private static final int NOT_VISITED = -1;
+
+    private final MazeGraph graph;
+    private final int[] parents;
+    private final int[] roots;
+    // Стоимость пути от корня до ячейки и от ячейки до корня без стоимости корня
+    private final int[] costsFromRoot;
+    private final int[] costsToRoot;
+    private final int[] entryTimes;
+    // Ячейки в порядке обхода в глубину, упакованные как глубина << 32 | номер, чтобы минимум давал самую мелкую
+    private final long[] order;
+    private final long[][] blockMinima;
+
+    private TreeMazeIndex(
+        MazeGraph graph,
+        int[] parents,
+        int[] roots,
+        int[] costsFromRoot,
+        int[] costsToRoot,
+        int[] entryTimes,
+        long[] order
+    ) {
+        this.graph = graph;
+        this.parents = parents;
+        this.roots = roots;
+        this.costsFromRoot = costsFromRoot;
+        this.costsToRoot = costsToRoot;
+        this.entryTimes = entryTimes;
+        this.order = order;
+        this.blockMinima = sparseTable(order);
+    }
+
+    /**
+     * Строит индекс, если граф лабиринта не содержит циклов. Каждое ребро графа должно иметь обратное ребро,
+     * как в лабиринтах, где проходимость не зависит от направления.
+     *
+     * @param graph Граф лабиринта.
+     * @return Индекс или пустой Optional, если в графе есть цикл или ребро без обратного.
+     */
+    public static Optional<TreeMazeIndex> of(MazeGraph graph) {
+        int size = graph.size();
+        int[] parents = new int[size];
+        int[] roots = new int[size];
+        int[] depths = new int[size];
+        int[] costsFromRoot = new int[size];
+        int[] costsToRoot = new int[size];
+        int[] entryTimes = new int[size];
+        long[] order = new long[size];
+        Arrays.fill(entryTimes, NOT_VISITED);
+        Arrays.fill(roots, NOT_VISITED);
+
+        int time = 0;
+        IntArrayList stack = new IntArrayList();
+        for (int root = 0; root < size; root++) {
+            if (!graph.contains(root) || roots[root] != NOT_VISITED) {
+                continue;
+            }
+            parents[root] = NO_PARENT;
+            roots[root] = root;
+            stack.add(root);
+            while (!stack.isEmpty()) {
+                int current = stack.removeInt(stack.size() - 1);
+                entryTimes[current] = time;
+                order[time++] = (long) depths[current] << Integer.SIZE | current;
+                for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                    int child = graph.target(edge);
+                    if (child == parents[current]) {
+                        continue;
+                    }
+                    int backEdge = graph.findEdge(child, current);
+                    if (roots[child] != NOT_VISITED || backEdge < 0) {
+                        // Ячейка уже достигнута другим путём, значит, в графе есть цикл
+                        return Optional.empty();
+                    }
+                    parents[child] = current;
+                    roots[child] = root;
+                    depths[child] = depths[current] + 1;
+                    costsFromRoot[child] = costsFromRoot[current] + graph.weight(edge);
+                    costsToRoot[child] = costsToRoot[current] + graph.weight(backEdge);
+                    stack.add(child);
+                }
+            }
+        }
+
+        return Optional.of(new TreeMazeIndex(graph, parents, roots, costsFromRoot, costsToRoot, entryTimes,
+            Arrays.copyOf(order, time)));
+    }
+
+    /**
+     * Возвращает граф, по которому построен индекс.
+     *
+     * @return Граф лабиринта.
+     */
+    public MazeGraph graph() {
+        return graph;
+    }
+
+    /**
+     * Возвращает стоимость единственного пути между ячейками, включая стоимость начальной ячейки.
+     *
+     * @param start Координаты начала.
+     * @param end   Координаты конца.
+     * @return Стоимость пути или {@link Integer#MAX_VALUE}, если путь не существует.
+     */
+    public int cost(Coordinate start, Coordinate end) {
+        int from = graph.idOf(start);
+        int to = graph.idOf(end);
+        if (from < 0 || to < 0 || roots[from] != roots[to]) {
+            return Integer.MAX_VALUE;
+        }
+        return cost(from, to, lowestCommonAncestor(from, to));
+    }
+
+    /**
+     * Восстанавливает единственный путь между ячейками.
+     *
+     * @param start Координаты начала.
+     * @param end   Координаты конца.
+     * @return Путь или пустой путь, если ячейки недостижимы друг из друга.
+     */
+    public Path path(Coordinate start, Coordinate end) {
+        int from = graph.idOf(start);
+        int to = graph.idOf(end);
+        if (from < 0 || to < 0 || roots[from] != roots[to]) {
+            return new Path(Collections.emptyList(), 0);
+        }
+
+        int ancestor = lowestCommonAncestor(from, to);
+        List<Coordinate> coordinates = new ArrayList<>();
+        for (int cell = from; cell != ancestor; cell = parents[cell]) {
+            coordinates.add(graph.coordinate(cell));
+        }
+        int ascent = coordinates.size();
+        for (int cell = to; cell != ancestor; cell = parents[cell]) {
+            coordinates.add(graph.coordinate(cell));
+        }
+        coordinates.add(graph.coordinate(ancestor));
+        // Спуск от LCA к концу записан в обратном порядке вместе с самим LCA
+        Collections.reverse(coordinates.subList(ascent, coordinates.size()));
+        return new Path(coordinates, cost(from, to, ancestor));
+    }
+
+    /**
+     * Находит наименьшего общего предка двух ячеек одного дерева.
+     */
+    private int lowestCommonAncestor(int from, int to) {
+        if (from == to) {
+            return from;
+        }
+        int left = Math.min(entryTimes[from], entryTimes[to]) + 1;
+        int right = Math.max(entryTimes[from], entryTimes[to]);
+        return parents[(int) minimum(left, right)];
+    }
+
+    private int cost(int from, int to, int ancestor) {
+        return graph.cellCost(from) + costsToRoot[from] - costsToRoot[ancestor]
+            + costsFromRoot[to] - costsFromRoot[ancestor];
+    }
+
+    /**
+     * Минимум order на отрезке [left, right].
+     */
+    private long minimum(int left, int right) {
+        int leftBlock = left / BLOCK_SIZE;
+        int rightBlock = right / BLOCK_SIZE;
+        if (leftBlock == rightBlock) {
+            return scan(left, right);
+        }
+        long result = Math.min(scan(left, (leftBlock + 1) * BLOCK_SIZE - 1), scan(rightBlock * BLOCK_SIZE, right));
+        if (leftBlock + 1 < rightBlock) {
+            int first = leftBlock + 1;
+            int level = 31 - Integer.numberOfLeadingZeros(rightBlock - first);
+            result = Math.min(result, Math.min(blockMinima[level][first],
+                blockMinima[level][rightBlock - (1 << level)]));
+        }
+        return result;
+    }
+
+    private long scan(int left, int right) {
+        long result = Long.MAX_VALUE;
+        for (int position = left; position <= right; position++) {
+            result = Math.min(result, order[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Строит разреженную таблицу: blockMinima[k][b] — минимум блоков с b по b + 2^k - 1.
+     */
+    private static long[][] sparseTable(long[] order) {
+        int blocks = (order.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int levels = blocks == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(blocks);
+        long[][] table = new long[levels][];
+        table[0] = new long[blocks];
+        Arrays.fill(table[0], Long.MAX_VALUE);
+        for (int position = 0; position < order.length; position++) {
+            table[0][position / BLOCK_SIZE] = Math.min(table[0][position / BLOCK_SIZE], order[position]);
+        }
+        for (int level = 1; level < levels; level++) {
+            int span = 1 << (level - 1);
+            table[level] = new long[blocks - (1 << level) + 1];
+            for (int block = 0; block < table[level].length; block++) {
+                table[level][block] = Math.min(table[level - 1][block], table[level - 1][block + span]);
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,49 @@
+package backend.academy.solver.tree;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.solver.Solver;
+import backend.academy.solver.graph.MazeGraph;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Решатель для совершенных лабиринтов. Лабиринт без циклов — дерево, путь между ячейками в нём единственен,
+ * и поиск не нужен: путь восстанавливается подъёмом к наименьшему общему предку в {@link TreeMazeIndex}.
+ * <p>
+ * Индекс строится один раз за O(n) и кешируется по ссылке на граф, после чего запрос стоит O(L), где L — длина
+ * пути. Если в графе есть цикл, например после {@code CycleAdder}, поиск передаётся запасному решателю,
+ * а результат проверки тоже кешируется.
+ */
+@RequiredArgsConstructor
+public class TreeSolver implements Solver {
+    private static final int MAXIMUM_CACHED_GRAPHS = 4;
+
+    private final Solver fallbackSolver;
+    private final Cache<MazeGraph, Optional<TreeMazeIndex>> indexes = Caffeine.newBuilder()
+        .weakKeys()
+        .maximumSize(MAXIMUM_CACHED_GRAPHS)
+        .build();
+
+    /**
+     * Возвращает индекс дерева для графа, строя его при первом обращении. Позволяет выполнить предварительную
+     * обработку заранее, до первого запроса.
+     *
+     * @param graph Граф лабиринта.
+     * @return Индекс или пустой Optional, если граф содержит цикл.
+     */
+    public Optional<TreeMazeIndex> index(MazeGraph graph) {
+        return indexes.get(graph, TreeMazeIndex::of);
+    }
+
+    @Override
+    public Path solve(MazeGraph graph, Coordinate startCoord, Coordinate endCoord) {
+        Optional<TreeMazeIndex> index = index(graph);
+        if (index.isEmpty()) {
+            return fallbackSolver.solve(graph, startCoord, endCoord);
+        }
+        return index.get().path(startCoord, endCoord);
+    }
+}
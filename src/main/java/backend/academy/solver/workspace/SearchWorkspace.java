@@ -0,0 +1,125 @@
+package backend.academy.solver.workspace;
+
+import java.util.Arrays;
+
+/**
+ * Переиспользуемое рабочее пространство поиска по номерам ячеек графа. Хранит массивы предшественников
+ * и стоимостей, очередь или стек фронта на массиве и отметки посещения с номером поколения.
+ * <p>
+ * Отметка ячейки считается установленной, только если в ней записан номер текущего поколения, поэтому
+ * {@link #prepare(int)} начинает новый поиск простым увеличением номера, не очищая массивы. Массивы
+ * пересоздаются только при росте графа, так что повторные запросы на графе того же размера не выделяют память.
+ * Рабочее пространство не потокобезопасно: одновременно его может использовать только один поиск.
+ */
+public final class SearchWorkspace {
+    private int[] visitedEpochs = new int[0];
+    private int[] parents = new int[0];
+    private int[] costs = new int[0];
+    private int[] frontier = new int[0];
+    private int epoch;
+    private int head;
+    private int tail;
+
+    /**
+     * Готовит рабочее пространство к новому поиску на графе заданного размера: сбрасывает отметки посещения
+     * и очищает фронт.
+     *
+     * @param size Количество номеров ячеек графа.
+     */
+    public void prepare(int size) {
+        if (visitedEpochs.length < size) {
+            visitedEpochs = new int[size];
+            parents = new int[size];
+            costs = new int[size];
+            frontier = new int[size];
+            epoch = 0;
+        }
+        epoch++;
+        if (epoch == 0) {
+            // Номер поколения переполнился: старые отметки могли бы совпасть с новыми
+            Arrays.fill(visitedEpochs, 0);
+            epoch = 1;
+        }
+        head = 0;
+        tail = 0;
+    }
+
+    /**
+     * Отмечает ячейку посещённой в текущем поиске.
+     *
+     * @param id Номер ячейки.
+     * @return true, если ячейка не была посещена раньше, иначе false.
+     */
+    public boolean visit(int id) {
+        if (visitedEpochs[id] == epoch) {
+            return false;
+        }
+        visitedEpochs[id] = epoch;
+        return true;
+    }
+
+    /**
+     * Проверяет, посещена ли ячейка в текущем поиске.
+     *
+     * @param id Номер ячейки.
+     * @return true, если ячейка посещена.
+     */
+    public boolean isVisited(int id) {
+        return visitedEpochs[id] == epoch;
+    }
+
+    /**
+     * Возвращает массив предшественников. Значения действительны только для посещённых ячеек.
+     *
+     * @return Массив предшественников, индексированный номерами ячеек.
+     */
+    public int[] parents() {
+        return parents;
+    }
+
+    /**
+     * Возвращает массив стоимостей. Значения действительны только для посещённых ячеек.
+     *
+     * @return Массив стоимостей, индексированный номерами ячеек.
+     */
+    public int[] costs() {
+        return costs;
+    }
+
+    /**
+     * Добавляет ячейку в конец фронта. Каждая ячейка добавляется не более одного раза за поиск,
+     * поэтому фронт размером с граф никогда не переполняется.
+     *
+     * @param id Номер ячейки.
+     */
+    public void push(int id) {
+        frontier[tail++] = id;
+    }
+
+    /**
+     * Извлекает ячейку из начала фронта, как из очереди.
+     *
+     * @return Номер ячейки.
+     */
+    public int pollFirst() {
+        return frontier[head++];
+    }
+
+    /**
+     * Извлекает ячейку из конца фронта, как из стека.
+     *
+     * @return Номер ячейки.
+     */
+    public int pollLast() {
+        return frontier[--tail];
+    }
+
+    /**
+     * Проверяет, пуст ли фронт.
+     *
+     * @return true, если во фронте нет ячеек.
+     */
+    public boolean isFrontierEmpty() {
+        return head == tail;
+    }
+}
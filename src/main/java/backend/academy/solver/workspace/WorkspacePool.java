@@ -0,0 +1,65 @@
+package backend.academy.solver.workspace;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Ограниченный пул рабочих пространств поиска.
+ * <p>
+ * Решатель берёт рабочее пространство на время одного вызова и возвращает его после, поэтому сам решатель
+ * не хранит состояния поиска и может вызываться из любого числа потоков, в том числе виртуальных. Если
+ * свободных рабочих пространств нет, создаётся новое; при возврате в заполненный пул оно отбрасывается,
+ * так что в пуле хранится не больше capacity рабочих пространств, каждое размером с последний лабиринт.
+ *
+ * @param <T> Тип рабочего пространства.
+ */
+public final class WorkspacePool<T> {
+    /**
+     * Размер пула по умолчанию: одновременно ищут не больше потоков-носителей, чем ядер.
+     */
+    public static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors();
+
+    private static final Logger LOGGER = Logger.getLogger(WorkspacePool.class.getName());
+
+    private final Supplier<T> factory;
+    private final ArrayBlockingQueue<T> idle;
+
+    public WorkspacePool(Supplier<T> factory) {
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создаёт пул.
+     *
+     * @param factory  Фабрика новых рабочих пространств.
+     * @param capacity Наибольшее число свободных рабочих пространств в пуле.
+     */
+    public WorkspacePool(Supplier<T> factory, int capacity) {
+        if (capacity < 1) {
+            LOGGER.warning("The pool capacity must be positive.");
+            throw new IllegalArgumentException("The pool capacity must be positive");
+        }
+        this.factory = factory;
+        this.idle = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Берёт свободное рабочее пространство или создаёт новое.
+     *
+     * @return Рабочее пространство, которым владеет только вызывающий поток до вызова {@link #release}.
+     */
+    public T acquire() {
+        T workspace = idle.poll();
+        return workspace != null ? workspace : factory.get();
+    }
+
+    /**
+     * Возвращает рабочее пространство в пул. После возврата его нельзя использовать.
+     *
+     * @param workspace Рабочее пространство.
+     */
+    public void release(T workspace) {
+        idle.offer(workspace);
+    }
+}
@@ -0,0 +1,78 @@
+package backend.academy.storage;
+
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.maze.OffHeapMaze;
+import java.lang.foreign.MemorySegment;
+import java.util.logging.Logger;
+import lombok.Getter;
+
+/**
+ * Лабиринт только для чтения, плоскости которого отображены из файла без копирования. Память остаётся
+ * в страничном кэше операционной системы, поэтому один и тот же файл могут одновременно читать несколько JVM.
+ * Любая попытка изменить лабиринт завершится {@link UnsupportedOperationException}.
+ * <p>
+ * Чтобы открытие оставалось быстрым, плоскость ячеек не проверяется при загрузке: код ячейки проверяется
+ * при её чтении, а количество ячеек из заголовка сверяется с плоскостью при первом запросе количества.
+ * Повреждённые данные приводят к {@link IllegalStateException}.
+ */
+public class MappedMaze extends OffHeapMaze {
+    private static final Logger LOGGER = Logger.getLogger(MappedMaze.class.getName());
+
+    @Getter
+    private final MazeFileHeader header;
+    // Количество ячеек из заголовка сверяется с плоскостью ячеек один раз
+    private volatile boolean cellCountVerified;
+
+    MappedMaze(MazeFileHeader header, MemorySegment cellTypes, MemorySegment edgeTypes, int cellCount) {
+        super(header.height(), header.width(), cellTypes, edgeTypes, cellCount);
+        this.header = header;
+    }
+
+    /**
+     * Отображённый лабиринт уже неизменяем, поэтому копия не создаётся. Снимок доступен, пока открыта арена.
+     *
+     * @return Этот же лабиринт.
+     */
+    @Override
+    public Maze freeze() {
+        return this;
+    }
+
+    @Override
+    protected int cellCount() {
+        int cellCount = super.cellCount();
+        if (!cellCountVerified) {
+            verifyCellCount(cellCount);
+            cellCountVerified = true;
+        }
+        return cellCount;
+    }
+
+    private void verifyCellCount(int expected) {
+        int size = height() * width();
+        int actual = 0;
+        for (int id = 0; id < size; id++) {
+            byte code = cellCode(id);
+            if (code != NO_CELL) {
+                decode(id, code);
+                actual++;
+            }
+        }
+        if (actual != expected) {
+            String message = "The cell count in the header (" + expected + ") does not match the cell plane ("
+                + actual + ")";
+            LOGGER.warning(message);
+            throw new IllegalStateException(message);
+        }
+    }
+
+    @Override
+    protected void cellCode(int id, byte code) {
+        throw new UnsupportedOperationException("The mapped maze is read-only");
+    }
+
+    @Override
+    protected void edgeWord(int word, long value) {
+        throw new UnsupportedOperationException("The mapped maze is read-only");
+    }
+}
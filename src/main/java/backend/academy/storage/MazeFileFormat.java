@@ -0,0 +1,73 @@
+package backend.academy.storage;
+
+import backend.academy.entity.maze.OffHeapMaze;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Описание двоичного формата файла лабиринта. Все числа записаны в little-endian.
+ *
+ * <pre>
+ * смещение  размер  поле
+ *  0        4       сигнатура "MAZE"
+ *  4        4       версия формата
+ *  8        4       высота
+ * 12        4       ширина
+ * 16        4       ordinal провайдера типов
+ * 20        4       количество добавленных ячеек
+ * 24        8       зерно генератора
+ * 32        h * w   коды ячеек (0 — ячейки нет, иначе ordinal типа + 1)
+ * ...               выравнивание до 8 байт
+ * ...               слова рёбер по 64 бита, по два 2-битных поля на ячейку (вправо и вниз)
+ * </pre>
+ */
+@UtilityClass
+public class MazeFileFormat {
+    public static final int MAGIC = 0x4D415A45;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    static final long MAGIC_OFFSET = 0;
+    static final long VERSION_OFFSET = 4;
+    static final long HEIGHT_OFFSET = 8;
+    static final long WIDTH_OFFSET = 12;
+    static final long PROVIDER_OFFSET = 16;
+    static final long CELL_COUNT_OFFSET = 20;
+    static final long SEED_OFFSET = 24;
+
+    /**
+     * Возвращает смещение плоскости кодов ячеек.
+     *
+     * @return Смещение в байтах от начала файла.
+     */
+    public static long cellPlaneOffset() {
+        return HEADER_SIZE;
+    }
+
+    /**
+     * Возвращает смещение плоскости слов рёбер, выровненное по 8 байтам.
+     *
+     * @param height Высота лабиринта.
+     * @param width  Ширина лабиринта.
+     * @return Смещение в байтах от начала файла.
+     */
+    public static long edgePlaneOffset(int height, int width) {
+        long cellPlaneEnd = cellPlaneOffset() + OffHeapMaze.cellPlaneSize(height, width);
+        return (cellPlaneEnd + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+
+    /**
+     * Возвращает полный размер файла для лабиринта заданного размера.
+     *
+     * @param height Высота лабиринта.
+     * @param width  Ширина лабиринта.
+     * @return Размер файла в байтах.
+     */
+    public static long fileSize(int height, int width) {
+        return edgePlaneOffset(height, width) + OffHeapMaze.edgePlaneSize(height, width);
+    }
+}
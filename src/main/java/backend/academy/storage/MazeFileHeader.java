@@ -0,0 +1,10 @@
+package backend.academy.storage;
+
+import backend.academy.mazetype.MazeTypeProviderType;
+
+/**
+ * Заголовок файла лабиринта: размеры, провайдер типов, которым лабиринт был сгенерирован,
+ * и зерно генератора случайных чисел (0, если генерация не воспроизводима).
+ */
+public record MazeFileHeader(int height, int width, MazeTypeProviderType providerType, long seed) {
+}
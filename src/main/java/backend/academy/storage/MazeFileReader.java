@@ -0,0 +1,79 @@
+package backend.academy.storage;
+
+import backend.academy.entity.maze.OffHeapMaze;
+import backend.academy.mazetype.MazeTypeProviderType;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+/**
+ * Открывает файл формата {@link MazeFileFormat} как лабиринт только для чтения. Файл отображается в память
+ * целиком, данные не копируются, поэтому открытие не зависит от размера лабиринта.
+ */
+public class MazeFileReader {
+
+    private static final Logger LOGGER = Logger.getLogger(MazeFileReader.class.getName());
+
+    private static final MazeTypeProviderType[] PROVIDER_TYPES = MazeTypeProviderType.values();
+
+    /**
+     * Отображает файл в память и возвращает лабиринт поверх него.
+     *
+     * @param file  Путь к файлу.
+     * @param arena Арена, определяющая время жизни отображения. После её закрытия лабиринт недоступен.
+     * @return Лабиринт только для чтения.
+     * @throws IOException              если файл не удалось открыть.
+     * @throws IllegalArgumentException если файл не является файлом лабиринта поддерживаемой версии.
+     *                                  Плоскость ячеек проверяется лениво, см. {@link MappedMaze}.
+     */
+    public MappedMaze read(Path file, Arena arena) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MazeFileFormat.HEADER_SIZE) {
+                throw invalidFile("The file is too small to be a maze file: " + file);
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+
+            if (segment.get(MazeFileFormat.INT, MazeFileFormat.MAGIC_OFFSET) != MazeFileFormat.MAGIC) {
+                throw invalidFile("The file is not a maze file: " + file);
+            }
+            int version = segment.get(MazeFileFormat.INT, MazeFileFormat.VERSION_OFFSET);
+            if (version != MazeFileFormat.VERSION) {
+                throw invalidFile("Unsupported maze file version: " + version);
+            }
+
+            int height = segment.get(MazeFileFormat.INT, MazeFileFormat.HEIGHT_OFFSET);
+            int width = segment.get(MazeFileFormat.INT, MazeFileFormat.WIDTH_OFFSET);
+            int provider = segment.get(MazeFileFormat.INT, MazeFileFormat.PROVIDER_OFFSET);
+            int cellCount = segment.get(MazeFileFormat.INT, MazeFileFormat.CELL_COUNT_OFFSET);
+            long seed = segment.get(MazeFileFormat.LONG, MazeFileFormat.SEED_OFFSET);
+
+            if (height < 1 || width < 1 || (long) height * width > Integer.MAX_VALUE
+                || size != MazeFileFormat.fileSize(height, width)) {
+                throw invalidFile("The maze file size does not match its dimensions: " + file);
+            }
+            if (provider < 0 || provider >= PROVIDER_TYPES.length) {
+                throw invalidFile("Unknown maze type provider: " + provider);
+            }
+            if (cellCount < 0 || cellCount > height * width) {
+                throw invalidFile("Invalid cell count in the maze file header: " + cellCount);
+            }
+
+            MazeFileHeader header = new MazeFileHeader(height, width, PROVIDER_TYPES[provider], seed);
+            MemorySegment cellTypes =
+                segment.asSlice(MazeFileFormat.cellPlaneOffset(), OffHeapMaze.cellPlaneSize(height, width));
+            long edgeOffset = MazeFileFormat.edgePlaneOffset(height, width);
+            MemorySegment edgeTypes = segment.asSlice(edgeOffset, OffHeapMaze.edgePlaneSize(height, width));
+            return new MappedMaze(header, cellTypes, edgeTypes, cellCount);
+        }
+    }
+
+    private IllegalArgumentException invalidFile(String message) {
+        LOGGER.warning(message);
+        return new IllegalArgumentException(message);
+    }
+}
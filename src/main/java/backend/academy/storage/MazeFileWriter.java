@@ -0,0 +1,68 @@
+package backend.academy.storage;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.maze.OffHeapMaze;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Записывает лабиринт в файл формата {@link MazeFileFormat}. Файл отображается в память, и лабиринт
+ * копируется прямо в его плоскости, поэтому упаковка ячеек и рёбер совпадает с {@link OffHeapMaze}.
+ */
+public class MazeFileWriter {
+
+    /**
+     * Записывает лабиринт в файл, перезаписывая его, если он существует. Сохраняются только ячейки
+     * внутри размеров из заголовка и рёбра между соседними по сетке ячейками.
+     *
+     * @param file   Путь к файлу.
+     * @param maze   Лабиринт для записи.
+     * @param header Заголовок файла с размерами лабиринта.
+     * @throws IOException              если файл не удалось записать.
+     * @throws IllegalArgumentException если ячейка лабиринта лежит за пределами размеров из заголовка.
+     */
+    public void write(Path file, Maze maze, MazeFileHeader header) throws IOException {
+        int height = header.height();
+        int width = header.width();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment segment =
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, MazeFileFormat.fileSize(height, width), arena);
+
+            MemorySegment cellTypes =
+                segment.asSlice(MazeFileFormat.cellPlaneOffset(), OffHeapMaze.cellPlaneSize(height, width));
+            long edgeOffset = MazeFileFormat.edgePlaneOffset(height, width);
+            MemorySegment edgeTypes = segment.asSlice(edgeOffset, OffHeapMaze.edgePlaneSize(height, width));
+            OffHeapMaze target = new OffHeapMaze(height, width, cellTypes, edgeTypes, 0);
+            copy(maze, target);
+
+            segment.set(MazeFileFormat.INT, MazeFileFormat.MAGIC_OFFSET, MazeFileFormat.MAGIC);
+            segment.set(MazeFileFormat.INT, MazeFileFormat.VERSION_OFFSET, MazeFileFormat.VERSION);
+            segment.set(MazeFileFormat.INT, MazeFileFormat.HEIGHT_OFFSET, height);
+            segment.set(MazeFileFormat.INT, MazeFileFormat.WIDTH_OFFSET, width);
+            segment.set(MazeFileFormat.INT, MazeFileFormat.PROVIDER_OFFSET, header.providerType().ordinal());
+            segment.set(MazeFileFormat.INT, MazeFileFormat.CELL_COUNT_OFFSET, target.getAllCells().size());
+            segment.set(MazeFileFormat.LONG, MazeFileFormat.SEED_OFFSET, header.seed());
+            segment.force();
+        }
+    }
+
+    private void copy(Maze source, Maze target) {
+        for (Cell cell : source.getAllCells()) {
+            target.addCell(cell);
+        }
+        for (Cell cell : source.getAllCells()) {
+            for (Edge edge : source.getEdges(cell)) {
+                target.updateEdgeType(cell, edge.to(), edge.type());
+            }
+        }
+    }
+}
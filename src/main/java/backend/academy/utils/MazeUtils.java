@@ -1,151 +1,184 @@
 package backend.academy.utils;
 
-import backend.academy.entity.cell.Cell;
-import backend.academy.entity.direction.Direction;
-import backend.academy.entity.edge.Edge;
-import backend.academy.entity.maze.Maze;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.AbstractGridMaze;
+import backend.academy.entity.maze.GridMaze;
+import backend.academy.entity.maze.NeighborCursor;
+import backend.academy.entity.maze.OffHeapMaze;
 import backend.academy.mazetype.MazeTypeProvider;
-import java.util.ArrayList;
-import java.util.List;
+import backend.academy.random.RandomGenerator;
+import java.lang.foreign.Arena;
+import java.util.BitSet;
 
 public class MazeUtils {
+    // Арена для лабиринтов вне кучи; null, если лабиринты создаются в куче.
+    private final Arena arena;
+
+    public MazeUtils() {
+        this(null);
+    }
+
+    /**
+     * Создаёт утилиты, которые размещают новые лабиринты вне кучи в памяти из переданной арены.
+     *
+     * @param arena Арена, определяющая время жизни создаваемых лабиринтов.
+     */
+    public MazeUtils(Arena arena) {
+        this.arena = arena;
+    }
+
+    /**
+     * Создаёт пустой лабиринт на прямоугольной сетке с компактным хранением ячеек и рёбер.
+     * Если утилиты созданы с ареной, лабиринт размещается вне кучи.
+     *
+     * @param height Высота лабиринта.
+     * @param width  Ширина лабиринта.
+     * @return Пустой лабиринт заданного размера.
+     */
+    public AbstractGridMaze createMaze(int height, int width) {
+        if (arena != null) {
+            return new OffHeapMaze(height, width, arena);
+        }
+        return new GridMaze(height, width);
+    }
 
     /**
-     * Инициализирует сетку ячеек и добавляет их в лабиринт.
+     * Добавляет в лабиринт все ячейки сетки по их row-major номерам. Объекты ячеек при этом не создаются.
      *
-     * @param height       Высота лабиринта.
-     * @param width        Ширина лабиринта.
-     * @param grid         Двумерный массив для хранения ячеек.
      * @param maze         Лабиринт.
      * @param typeProvider Провайдер типов для ячеек.
      */
-    public void initializeGrid(int height, int width, Cell[][] grid, Maze maze, MazeTypeProvider typeProvider) {
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                Cell cell = new Cell(row, col, typeProvider.getCellType());
-                grid[row][col] = cell;
-                maze.addCell(cell);
-            }
+    public void initializeGrid(AbstractGridMaze maze, MazeTypeProvider typeProvider) {
+        int size = maze.height() * maze.width();
+        for (int id = 0; id < size; id++) {
+            maze.setCellType(id, typeProvider.getCellType());
         }
     }
 
     /**
-     * Инициализирует сетку ячеек и устанавливает все рёбра между соседними ячейками как стены.
+     * Добавляет в лабиринт все ячейки сетки и устанавливает все рёбра между соседними ячейками заданного типа.
      *
-     * @param height       Высота лабиринта.
-     * @param width        Ширина лабиринта.
-     * @param grid         Сетка ячеек.
      * @param maze         Лабиринт.
-     * @param typeProvider Провайдер типов лабиринта.
+     * @param typeProvider Провайдер типов для ячеек.
+     * @param edgeType     Тип всех рёбер сетки.
      */
-    public void initializeGridAndWalls(
-        int height, int width, Cell[][] grid, Maze maze, MazeTypeProvider typeProvider
-    ) {
-        initializeGrid(height, width, grid, maze, typeProvider);
+    public void initializeGrid(AbstractGridMaze maze, MazeTypeProvider typeProvider, EdgeType edgeType) {
+        initializeGrid(maze, typeProvider);
 
-        // Установка всех возможных рёбер как стен
+        int height = maze.height();
+        int width = maze.width();
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
-                Cell cell = grid[row][col];
-
-                for (Direction direction : Direction.values()) {
-                    int nRow = row + direction.rowOffset();
-                    int nCol = col + direction.colOffset();
-
-                    if (nRow >= 0 && nRow < height && nCol >= 0 && nCol < width) {
-                        Cell neighbor = grid[nRow][nCol];
-                        maze.addOrUpdateEdge(cell, neighbor, typeProvider.getUnPassableEdgeType());
-                    }
+                int id = row * width + col;
+                if (col + 1 < width) {
+                    maze.setEdgeType(id, id + 1, edgeType);
+                }
+                if (row + 1 < height) {
+                    maze.setEdgeType(id, id + width, edgeType);
                 }
             }
         }
     }
 
     /**
-     * Общий метод для получения соседей ячейки, фильтруя их по состоянию посещения.
+     * Добавляет в лабиринт все ячейки сетки и устанавливает все рёбра между соседними ячейками как стены.
      *
-     * @param maze      Лабиринт.
-     * @param current   Текущая ячейка.
-     * @param visited   Массив посещённых ячеек.
-     * @param isVisited Функция, определяющая, был ли сосед посещён или нет.
-     * @return Список соседей, отфильтрованных по состоянию посещения.
+     * @param maze         Лабиринт.
+     * @param typeProvider Провайдер типов лабиринта.
      */
-    private List<Edge> getFilteredNeighbors(Maze maze, Cell current, boolean[][] visited, boolean isVisited) {
-        List<Edge> neighbors = new ArrayList<>();
-        for (Edge edge : maze.getEdges(current)) {
-            Cell neighbor = edge.to();
-            int nRow = neighbor.coordinate().row();
-            int nCol = neighbor.coordinate().col();
-            if (visited[nRow][nCol] == isVisited) {
-                neighbors.add(edge);
+    public void initializeGridAndWalls(AbstractGridMaze maze, MazeTypeProvider typeProvider) {
+        initializeGrid(maze, typeProvider, typeProvider.getUnPassableEdgeType());
+    }
+
+    /**
+     * Общий метод для выбора случайного соседа ячейки, отфильтрованного по состоянию посещения. Соседи
+     * перебираются курсором дважды: сначала подсчитываются подходящие, затем курсор останавливается на выбранном.
+     * Поэтому выбор не создаёт ни списков, ни ячеек, ни рёбер.
+     *
+     * @param cursor          Курсор соседей лабиринта.
+     * @param current         Номер текущей ячейки.
+     * @param visited         Посещённые ячейки по row-major номерам.
+     * @param isVisited       Требуемое состояние посещения соседа.
+     * @param randomGenerator Генератор случайных чисел.
+     * @return true, если подходящий сосед найден и курсор стоит на нём, иначе false.
+     */
+    private boolean moveToRandomNeighbor(
+        NeighborCursor cursor, int current, BitSet visited, boolean isVisited, RandomGenerator randomGenerator
+    ) {
+        int count = 0;
+        cursor.reset(current);
+        while (cursor.next()) {
+            if (visited.get(cursor.id()) == isVisited) {
+                count++;
             }
         }
-        return neighbors;
+        if (count == 0) {
+            return false;
+        }
+
+        int remaining = randomGenerator.nextInt(count);
+        cursor.reset(current);
+        while (cursor.next()) {
+            if (visited.get(cursor.id()) == isVisited && remaining-- == 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Возвращает список рёбер, ведущих к непосещённым соседям.
+     * Устанавливает курсор на случайного непосещённого соседа текущей ячейки.
      *
-     * @param maze    Лабиринт.
-     * @param current Текущая ячейка.
-     * @param visited Массив посещённых ячеек.
-     * @return Список рёбер, ведущих к непосещённым соседям.
+     * @param cursor          Курсор соседей лабиринта.
+     * @param current         Номер текущей ячейки.
+     * @param visited         Посещённые ячейки по row-major номерам.
+     * @param randomGenerator Генератор случайных чисел.
+     * @return true, если непосещённый сосед есть, иначе false.
      */
-    public List<Edge> getUnvisitedNeighbors(Maze maze, Cell current, boolean[][] visited) {
-        return getFilteredNeighbors(maze, current, visited, false);
+    public boolean moveToRandomUnvisitedNeighbor(
+        NeighborCursor cursor, int current, BitSet visited, RandomGenerator randomGenerator
+    ) {
+        return moveToRandomNeighbor(cursor, current, visited, false, randomGenerator);
     }
 
     /**
-     * Возвращает список рёбер к посещённым соседям текущей ячейки.
+     * Устанавливает курсор на случайного посещённого соседа текущей ячейки.
      *
-     * @param maze    Лабиринт.
-     * @param current Текущая ячейка.
-     * @param visited Массив посещённых ячеек.
-     * @return Список рёбер к посещённым соседям.
+     * @param cursor          Курсор соседей лабиринта.
+     * @param current         Номер текущей ячейки.
+     * @param visited         Посещённые ячейки по row-major номерам.
+     * @param randomGenerator Генератор случайных чисел.
+     * @return true, если посещённый сосед есть, иначе false.
      */
-    public List<Edge> getVisitedNeighbors(Maze maze, Cell current, boolean[][] visited) {
-        return getFilteredNeighbors(maze, current, visited, true);
+    public boolean moveToRandomVisitedNeighbor(
+        NeighborCursor cursor, int current, BitSet visited, RandomGenerator randomGenerator
+    ) {
+        return moveToRandomNeighbor(cursor, current, visited, true, randomGenerator);
     }
 
     /**
-     * Устанавливает тип ребра как проходной и обновляет обратное ребро.
+     * Устанавливает тип ребра между двумя соседними ячейками как проходной. Обратное ребро хранится в том же
+     * поле и меняется вместе с ним.
      *
      * @param maze         Лабиринт.
-     * @param edge         Ребро, тип которого нужно изменить.
+     * @param from         Номер ячейки, от которой исходит ребро.
+     * @param to           Номер ячейки, к которой ведёт ребро.
      * @param typeProvider Провайдер типов для лабиринта.
      */
-    public void setPassableEdgeAndReverse(Maze maze, Edge edge, MazeTypeProvider typeProvider) {
-        Cell currentCell = edge.from();
-        Cell neighborCell = edge.to();
-
-        edge.type(typeProvider.getPassableEdgeType());
-
-        Edge reverseEdge = maze.getEdge(neighborCell, currentCell);
-        if (reverseEdge != null) {
-            reverseEdge.type(typeProvider.getPassableEdgeType());
-        }
+    public void setPassableEdgeAndReverse(AbstractGridMaze maze, int from, int to, MazeTypeProvider typeProvider) {
+        maze.setEdgeType(from, to, typeProvider.getPassableEdgeType());
     }
 
     /**
-     * Устанавливает тип ребра между двумя ячейками как непроходимое (стена),
-     * а также обновляет обратное ребро, если оно существует.
+     * Устанавливает тип ребра между двумя соседними ячейками как непроходимое (стена) вместе с обратным ребром.
      *
      * @param maze         Лабиринт, в котором производится изменение рёбер.
-     * @param from         Ячейка, от которой исходит ребро.
-     * @param to           Ячейка, к которой ведёт ребро.
+     * @param from         Номер ячейки, от которой исходит ребро.
+     * @param to           Номер ячейки, к которой ведёт ребро.
      * @param typeProvider Провайдер типов рёбер, который предоставляет тип непроходимого ребра.
      */
-    public void setUnpassableEdgeAndReverse(Maze maze, Cell from, Cell to, MazeTypeProvider typeProvider) {
-        Edge edge = maze.getEdge(from, to);
-
-        if (edge != null) {
-            edge.type(typeProvider.getUnPassableEdgeType());
-
-            Edge reverseEdge = maze.getEdge(to, from);
-            if (reverseEdge != null) {
-                reverseEdge.type(typeProvider.getUnPassableEdgeType());
-            }
-        }
+    public void setUnpassableEdgeAndReverse(AbstractGridMaze maze, int from, int to, MazeTypeProvider typeProvider) {
+        maze.setEdgeType(from, to, typeProvider.getUnPassableEdgeType());
     }
 
 }
@@ -1,30 +1,32 @@
 package backend.academy.utils;
 
-import backend.academy.entity.cell.Cell;
 import backend.academy.entity.cell.Coordinate;
 import backend.academy.entity.path.Path;
+import backend.academy.solver.graph.MazeGraph;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 public class ReconstructorPath {
     /**
      * Вспомогательный метод для восстановления пути.
      *
-     * @param predecessors Карта предшественников.
-     * @param endCell      Конечная ячейка.
+     * @param graph        Граф лабиринта.
+     * @param predecessors Массив предшественников, индексированный номерами ячеек.
+     * @param start        Номер начальной ячейки.
+     * @param end          Номер конечной ячейки.
      * @param totalCost    Общая стоимость пути.
      * @return Путь и его стоимость.
      */
-    public Path reconstruct(Map<Cell, Cell> predecessors, Cell endCell, int totalCost) {
+    public Path reconstruct(MazeGraph graph, int[] predecessors, int start, int end, int totalCost) {
         List<Coordinate> path = new ArrayList<>();
-        Cell current = endCell;
+        int current = end;
 
-        while (current != null) {
-            path.add(current.coordinate());
-            current = predecessors.get(current);
+        while (current != start) {
+            path.add(graph.coordinate(current));
+            current = predecessors[current];
         }
+        path.add(graph.coordinate(start));
 
         Collections.reverse(path);
         return new Path(path, totalCost);
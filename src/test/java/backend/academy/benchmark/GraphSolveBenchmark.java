@@ -0,0 +1,104 @@
+package backend.academy.benchmark;
+
+import backend.academy.cycleadder.CycleAdder;
+import backend.academy.cycleadder.CycleLevelType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.path.Path;
+import backend.academy.generator.MazeGeneratorFactory;
+import backend.academy.generator.MazeGeneratorType;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.mazetype.SimpleMazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.Solver;
+import backend.academy.solver.SolverFactory;
+import backend.academy.solver.SolverType;
+import backend.academy.solver.contraction.ContractionHierarchySolver;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.hierarchy.HierarchicalSolver;
+import backend.academy.solver.priority.LandmarkAStarSolver;
+import backend.academy.solver.tree.TreeSolver;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Замер пропускной способности повторных запросов к одному решателю на заранее построенном графе.
+ * В отличие от {@link SolveBenchmark}, построение графа не входит в замер, поэтому видны
+ * только затраты самого поиска и выделения памяти под него. С параметром highCycles в лабиринт добавляются
+ * циклы уровня {@link CycleLevelType#HIGH}, и у ячеек появляется много альтернативных путей. С параметром
+ * compressCorridors решатель ищет путь по графу развилок, в котором коридоры сжаты в рёбра.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GraphSolveBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    @Param({"BFS", "PARALLEL_BFS", "DFS", "DIJKSTRA", "DIAL", "DELTA_STEPPING", "A_STAR", "ALT", "JPS",
+        "BIDIRECTIONAL", "PARALLEL_BIDIRECTIONAL", "BIDIRECTIONAL_DIJKSTRA", "BIDIRECTIONAL_A_STAR", "HIERARCHICAL",
+        "CONTRACTION_HIERARCHY", "TREE"})
+    private SolverType solverType;
+
+    @Param({"false", "true"})
+    private boolean highCycles;
+
+    @Param({"false", "true"})
+    private boolean compressCorridors;
+
+    private MazeGraph graph;
+    private Solver solver;
+    private Coordinate start;
+    private Coordinate end;
+
+    @Setup
+    public void setup() {
+        MazeTypeProvider typeProvider = new SimpleMazeTypeProvider();
+        Maze maze = new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(MazeGeneratorType.KRUSKAL)
+            .generate(size, size, typeProvider);
+        if (highCycles) {
+            new CycleAdder(new SimpleRandomGenerator()).addCycles(maze, typeProvider, CycleLevelType.HIGH);
+        }
+        graph = MazeGraph.of(maze, typeProvider);
+        start = new Coordinate(0, 0);
+        end = new Coordinate(size - 1, size - 1);
+        solver = new SolverFactory(false, compressCorridors).getSolver(solverType);
+        if (solver instanceof HierarchicalSolver hierarchicalSolver) {
+            // Абстракция строится один раз для лабиринта и не входит в замер запросов
+            hierarchicalSolver.abstraction(graph);
+        }
+        if (solver instanceof ContractionHierarchySolver contractionHierarchySolver) {
+            contractionHierarchySolver.hierarchy(graph);
+        }
+        if (solver instanceof LandmarkAStarSolver landmarkAStarSolver) {
+            landmarkAStarSolver.landmarks(graph);
+        }
+        if (solver instanceof TreeSolver treeSolver) {
+            treeSolver.index(graph);
+        }
+        if (compressCorridors) {
+            // Граф развилок и предобработка решателя на нём строятся первым запросом
+            solver.solve(graph, start, end);
+        }
+    }
+
+    @Benchmark
+    public Path solve() {
+        return solver.solve(graph, start, end);
+    }
+}
@@ -0,0 +1,89 @@
+package backend.academy.benchmark;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.maze.NeighborCursor;
+import backend.academy.generator.MazeGeneratorFactory;
+import backend.academy.generator.MazeGeneratorType;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.mazetype.SimpleMazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Замер обхода соседей всех ячеек лабиринта через списки рёбер и через {@link NeighborCursor}, а также
+ * генерации лабиринта. Выделение памяти видно при запуске с профилировщиком {@code -prof gc}: метрика
+ * gc.alloc.rate.norm показывает байты на операцию, и для обхода курсором она должна быть близка к нулю.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NeighborIterationBenchmark {
+
+    @Param({"100"})
+    private int size;
+
+    @Param({"GROWING_TREE", "HUNT_AND_KILL", "PRIM"})
+    private MazeGeneratorType generatorType;
+
+    private final MazeTypeProvider typeProvider = new SimpleMazeTypeProvider();
+    private MazeGeneratorFactory generatorFactory;
+    private Maze maze;
+    private Cell[] cells;
+    private NeighborCursor cursor;
+
+    @Setup
+    public void setup() {
+        generatorFactory = new MazeGeneratorFactory(new SimpleRandomGenerator());
+        maze = generatorFactory.getGenerator(generatorType).generate(size, size, typeProvider);
+        cells = maze.getAllCells().toArray(new Cell[0]);
+        cursor = maze.neighborCursor();
+    }
+
+    @Benchmark
+    public int edgeList() {
+        int passable = 0;
+        for (Cell cell : cells) {
+            for (Edge edge : maze.getEdges(cell)) {
+                if (edge.type().isPassable()) {
+                    passable += edge.to().coordinate().row();
+                }
+            }
+        }
+        return passable;
+    }
+
+    @Benchmark
+    public int cursor() {
+        int passable = 0;
+        for (Cell cell : cells) {
+            cursor.reset(cell);
+            while (cursor.next()) {
+                if (cursor.edgeType().isPassable()) {
+                    passable += cursor.row();
+                }
+            }
+        }
+        return passable;
+    }
+
+    @Benchmark
+    public Maze generate() {
+        return generatorFactory.getGenerator(generatorType).generate(size, size, typeProvider);
+    }
+}
@@ -0,0 +1,90 @@
+package backend.academy.benchmark;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.path.Path;
+import backend.academy.generator.MazeGeneratorFactory;
+import backend.academy.generator.MazeGeneratorType;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.mazetype.SimpleMazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.Solver;
+import backend.academy.solver.SolverFactory;
+import backend.academy.solver.SolverType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Замер времени поиска пути из левого верхнего угла в правый нижний на лабиринте со списком смежности.
+ * Лабиринт генерируется алгоритмом Краскала и копируется в {@link Maze}, чтобы замер не зависел
+ * от реализации, которую выбирают генераторы.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SolveBenchmark {
+
+    @Param({"100", "300"})
+    private int size;
+
+    @Param({"BFS", "DIJKSTRA", "DIAL", "A_STAR", "BIDIRECTIONAL"})
+    private SolverType solverType;
+
+    private final MazeTypeProvider typeProvider = new SimpleMazeTypeProvider();
+    private Maze maze;
+    private Solver solver;
+    private Coordinate start;
+    private Coordinate end;
+
+    @Setup
+    public void setup() {
+        Maze generated = new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(MazeGeneratorType.KRUSKAL)
+            .generate(size, size, typeProvider);
+        maze = copyToAdjacencyMaze(generated);
+        solver = new SolverFactory().getSolver(solverType);
+        start = new Coordinate(0, 0);
+        end = new Coordinate(size - 1, size - 1);
+    }
+
+    @Benchmark
+    public Path solve() {
+        return solver.solve(maze, start, end, typeProvider);
+    }
+
+    private static Maze copyToAdjacencyMaze(Maze source) {
+        Maze copy = new Maze();
+        Map<Coordinate, Cell> cells = new HashMap<>();
+        for (Cell cell : source.getAllCells()) {
+            Cell copied = new Cell(cell.coordinate().row(), cell.coordinate().col(), cell.cellType());
+            cells.put(copied.coordinate(), copied);
+            copy.addCell(copied);
+        }
+        for (Cell cell : source.getAllCells()) {
+            for (Edge edge : source.getEdges(cell)) {
+                // Каждое ребро копируется один раз: addEdge сам добавляет обратное
+                if (cell.coordinate().compareTo(edge.to().coordinate()) < 0) {
+                    copy.addEdge(cells.get(cell.coordinate()), cells.get(edge.to().coordinate()), edge.type());
+                }
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,127 @@
+package backend.academy.entity.maze;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.path.Path;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.priority.DijkstraSolver;
+import backend.academy.utils.ReconstructorPath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FrozenMazeTest {
+
+    @Test
+    void testFrozenMazeKeepsStructure() {
+        // Arrange
+        MazeFactory mazeFactory = new MazeFactory();
+        Maze maze = mazeFactory.createMultiplePathsMaze();
+
+        // Act
+        Maze frozen = maze.freeze();
+
+        // Assert
+        assertInstanceOf(FrozenMaze.class, frozen, "Снимок лабиринта со списком смежности должен быть FrozenMaze.");
+        assertEquals(mazeFactory.mazeSize() * mazeFactory.mazeSize(), frozen.getAllCells().size(),
+            "Снимок должен содержать по одной ячейке на координату.");
+        for (Cell cell : maze.getAllCells()) {
+            Cell frozenCell = frozen.getCell(cell.coordinate());
+            assertNotNull(frozenCell, "Ячейка должна быть в снимке: " + cell.coordinate());
+            assertEquals(cell.cellType(), frozenCell.cellType(), "Тип ячейки должен совпадать.");
+            for (Edge edge : maze.getEdges(cell)) {
+                assertEquals(edge.type(), frozen.getEdgeType(cell, edge.to()), "Тип ребра должен совпадать.");
+            }
+            assertEquals(maze.getNeighbors(cell).size(), frozen.getNeighbors(cell).size(),
+                "Количество проходимых соседей должно совпадать.");
+        }
+        assertSame(frozen, frozen.freeze(), "Повторная заморозка не должна копировать снимок.");
+    }
+
+    @Test
+    void testFrozenMazeIsImmutable() {
+        // Arrange
+        Maze maze = new Maze();
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+
+        // Act
+        Maze frozen = maze.freeze();
+        maze.updateEdgeType(cell1, cell2, EdgeType.WALL);
+
+        // Assert
+        assertEquals(EdgeType.TRANSITION, frozen.getEdgeType(cell1, cell2),
+            "Изменения исходного лабиринта не должны влиять на снимок.");
+        assertThrows(UnsupportedOperationException.class, () -> frozen.updateEdgeType(cell1, cell2, EdgeType.WALL),
+            "Снимок нельзя изменять.");
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getEdge(cell1, cell2).type(EdgeType.WALL),
+            "Рёбра снимка нельзя изменять.");
+        assertThrows(UnsupportedOperationException.class,
+            () -> frozen.getCell(new Coordinate(0, 0)).cellType(CellType.BAD_SURFACE),
+            "Ячейки снимка нельзя изменять.");
+    }
+
+    @Test
+    void testFrozenGridMazeIsImmutable() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        Cell cell1 = new Cell(0, 0, CellType.GOOD_SURFACE);
+        Cell cell2 = new Cell(1, 0, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.GOOD_TRANSITION);
+
+        // Act
+        Maze frozen = maze.freeze();
+        maze.removeEdge(cell1, cell2);
+
+        // Assert
+        assertInstanceOf(FrozenGridMaze.class, frozen, "Снимок лабиринта на сетке должен быть FrozenGridMaze.");
+        assertEquals(EdgeType.GOOD_TRANSITION, frozen.getEdgeType(cell1, cell2),
+            "Изменения исходного лабиринта не должны влиять на снимок.");
+        assertEquals(2, frozen.getAllCells().size(), "Снимок должен содержать две ячейки.");
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addCell(new Cell(1, 1, CellType.PASSAGE)),
+            "В снимок нельзя добавлять ячейки.");
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getEdge(cell1, cell2).type(EdgeType.WALL),
+            "Рёбра снимка нельзя изменять.");
+    }
+
+    @Test
+    void testConcurrentSolvingOnFrozenMaze() throws Exception {
+        // Arrange
+        MazeFactory mazeFactory = new MazeFactory();
+        Maze frozen = mazeFactory.createMultiplePathsMaze().freeze();
+        DijkstraSolver solver = new DijkstraSolver(new ReconstructorPath());
+        MazeTypeProvider typeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+        int tasks = 16;
+
+        // Act
+        List<Future<Path>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < tasks; i++) {
+                results.add(executor.submit(() -> new DijkstraSolver(new ReconstructorPath())
+                    .solve(frozen, mazeFactory.startCoord(), mazeFactory.endCoord(), typeProvider)));
+            }
+        }
+
+        // Assert
+        Path expected = solver.solve(frozen, mazeFactory.startCoord(), mazeFactory.endCoord(), typeProvider);
+        assertEquals(mazeFactory.pathCostMin(), expected.totalCost(), "Стоимость пути на снимке неверна.");
+        for (Future<Path> result : results) {
+            assertEquals(expected, result.get(), "Все потоки должны найти одинаковый путь.");
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package backend.academy.entity.maze;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.edge.EdgeType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GridMazeTest {
+
+    @Test
+    void testAddAndRetrieveCell() {
+        // Arrange
+        GridMaze maze = new GridMaze(3, 3);
+        Cell cell = new Cell(1, 2, CellType.BAD_SURFACE);
+
+        // Act
+        maze.addCell(cell);
+
+        // Assert
+        assertTrue(maze.containsCell(cell), "Лабиринт должен содержать добавленную ячейку.");
+        Cell stored = maze.getCell(new Coordinate(1, 2));
+        assertNotNull(stored, "Ячейка должна находиться по координатам.");
+        assertEquals(CellType.BAD_SURFACE, stored.cellType(), "Тип ячейки должен сохраниться.");
+        assertNull(maze.getCell(new Coordinate(0, 0)), "Недобавленная ячейка не должна находиться.");
+        assertNull(maze.getCell(new Coordinate(5, 5)), "Ячейка вне сетки не должна находиться.");
+    }
+
+    @Test
+    void testNewEdgeIsWallByDefault() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(1, 0, CellType.PASSAGE);
+
+        // Act
+        maze.addCell(cell1);
+        maze.addCell(cell2);
+
+        // Assert
+        assertEquals(EdgeType.WALL, maze.getEdgeType(cell1, cell2), "Ребро по умолчанию должно быть стеной.");
+        assertTrue(maze.getNeighbors(cell1).isEmpty(), "Через стену не должно быть соседей.");
+    }
+
+    @Test
+    void testAddEdgeIsSymmetric() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.GOOD_SURFACE);
+
+        // Act
+        maze.addEdge(cell1, cell2, EdgeType.BAD_TRANSITION);
+
+        // Assert
+        assertEquals(EdgeType.BAD_TRANSITION, maze.getEdgeType(cell1, cell2), "Тип прямого ребра неверен.");
+        assertEquals(EdgeType.BAD_TRANSITION, maze.getEdgeType(cell2, cell1), "Тип обратного ребра неверен.");
+        assertEquals(List.of(cell2), maze.getNeighbors(cell1), "Соседом должна быть вторая ячейка.");
+        assertEquals(List.of(cell1), maze.getNeighbors(cell2), "Соседом должна быть первая ячейка.");
+    }
+
+    @Test
+    void testEdgeSetterWritesThrough() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(1, 0, CellType.PASSAGE);
+        maze.addCell(cell1);
+        maze.addCell(cell2);
+
+        // Act
+        Edge edge = maze.getEdge(cell1, cell2);
+        assertNotNull(edge, "Ребро между соседями должно существовать.");
+        edge.type(EdgeType.GOOD_TRANSITION);
+
+        // Assert
+        assertEquals(EdgeType.GOOD_TRANSITION, maze.getEdgeType(cell1, cell2),
+            "Изменение типа ребра должно записываться в лабиринт.");
+        assertEquals(EdgeType.GOOD_TRANSITION, maze.getEdge(cell2, cell1).type(),
+            "Обратное ребро должно иметь тот же тип.");
+    }
+
+    @Test
+    void testCellSetterWritesThrough() {
+        // Arrange
+        GridMaze maze = new GridMaze(1, 1);
+        maze.addCell(new Cell(0, 0, CellType.PASSAGE));
+
+        // Act
+        maze.getCell(new Coordinate(0, 0)).cellType(CellType.GOOD_SURFACE);
+
+        // Assert
+        assertEquals(CellType.GOOD_SURFACE, maze.getCell(new Coordinate(0, 0)).cellType(),
+            "Изменение типа ячейки должно записываться в лабиринт.");
+    }
+
+    @Test
+    void testUpdateAndRemoveEdge() {
+        // Arrange
+        GridMaze maze = new GridMaze(3, 3);
+        Cell cell1 = new Cell(1, 1, CellType.PASSAGE);
+        Cell cell2 = new Cell(1, 2, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+
+        // Act
+        maze.updateEdgeType(cell2, cell1, EdgeType.GOOD_TRANSITION);
+        EdgeType updated = maze.getEdgeType(cell1, cell2);
+        maze.removeEdge(cell1, cell2);
+
+        // Assert
+        assertEquals(EdgeType.GOOD_TRANSITION, updated, "Тип ребра должен обновиться в обе стороны.");
+        assertEquals(EdgeType.WALL, maze.getEdgeType(cell1, cell2), "Удалённое ребро должно стать стеной.");
+    }
+
+    @Test
+    void testGetEdgesOnGridBorder() {
+        // Arrange
+        GridMaze maze = new GridMaze(3, 3);
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                maze.addCell(new Cell(row, col, CellType.PASSAGE));
+            }
+        }
+
+        // Act
+        List<Edge> cornerEdges = maze.getEdges(new Cell(0, 0, CellType.PASSAGE));
+        List<Edge> centerEdges = maze.getEdges(new Cell(1, 1, CellType.PASSAGE));
+        List<Edge> sideEdges = maze.getEdges(new Cell(2, 1, CellType.PASSAGE));
+
+        // Assert
+        assertEquals(2, cornerEdges.size(), "У угловой ячейки должно быть два ребра.");
+        assertEquals(4, centerEdges.size(), "У центральной ячейки должно быть четыре ребра.");
+        assertEquals(3, sideEdges.size(), "У ячейки на границе должно быть три ребра.");
+        assertTrue(maze.getEdges(new Cell(7, 7, CellType.PASSAGE)).isEmpty(),
+            "У ячейки вне сетки не должно быть рёбер.");
+    }
+
+    @Test
+    void testGetAllCells() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 3);
+        Cell cell1 = new Cell(0, 2, CellType.PASSAGE);
+        Cell cell2 = new Cell(1, 0, CellType.BAD_SURFACE);
+
+        // Act
+        maze.addCell(cell1);
+        maze.addCell(cell2);
+        maze.addCell(cell1);
+        Set<Cell> cells = maze.getAllCells();
+
+        // Assert
+        assertEquals(2, cells.size(), "Лабиринт должен содержать две ячейки.");
+        assertTrue(cells.contains(cell1), "Набор должен содержать первую ячейку.");
+        assertTrue(cells.contains(cell2), "Набор должен содержать вторую ячейку.");
+        assertFalse(cells.contains(new Cell(0, 0, CellType.PASSAGE)), "Набор не должен содержать лишних ячеек.");
+        assertEquals(Set.of(cell1, cell2), Set.copyOf(cells), "Обход должен вернуть добавленные ячейки.");
+    }
+
+    @Test
+    void testNonAdjacentCellsCannotBeConnected() {
+        // Arrange
+        GridMaze maze = new GridMaze(3, 3);
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(1, 1, CellType.PASSAGE);
+        maze.addCell(cell1);
+        maze.addCell(cell2);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> maze.addEdge(cell1, cell2, EdgeType.TRANSITION),
+            "Диагональные ячейки нельзя соединить.");
+        assertNull(maze.getEdgeType(cell1, cell2), "Между несоседними ячейками не должно быть ребра.");
+        assertNull(maze.getEdge(cell1, cell2), "Между несоседними ячейками не должно быть ребра.");
+    }
+
+    @Test
+    void testInvalidDimensions() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new GridMaze(0, 5),
+            "Лабиринт с нулевой высотой создавать нельзя.");
+        assertThrows(IllegalArgumentException.class, () -> new GridMaze(5, -1),
+            "Лабиринт с отрицательной шириной создавать нельзя.");
+        assertThrows(IllegalArgumentException.class, () -> new GridMaze(2, 2).addCell(new Cell(2, 0, CellType.PASSAGE)),
+            "Ячейку вне сетки добавлять нельзя.");
+    }
+
+    @Test
+    void testVersionChangesOnCellAndEdgeViews() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+        long before = maze.version();
+
+        // Act
+        maze.getCell(cell1.coordinate()).cellType(CellType.BAD_SURFACE);
+        long afterCell = maze.version();
+        maze.getEdge(cell1, cell2).type(EdgeType.WALL);
+
+        // Assert
+        assertTrue(afterCell > before, "Изменение типа ячейки сетки должно менять версию лабиринта.");
+        assertTrue(maze.version() > afterCell, "Изменение типа ребра сетки должно менять версию лабиринта.");
+    }
+
+    @Test
+    void testChangeListenerReceivesEdgeViewChanges() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+        List<EdgeType> changedTypes = new ArrayList<>();
+        maze.addChangeListener((changedMaze, from, to) -> changedTypes.add(changedMaze.getEdgeType(from, to)));
+
+        // Act
+        maze.getEdge(cell1, cell2).type(EdgeType.WALL);
+        maze.updateEdgeType(cell2, cell1, EdgeType.GOOD_TRANSITION);
+
+        // Assert
+        assertEquals(List.of(EdgeType.WALL, EdgeType.GOOD_TRANSITION), changedTypes,
+            "Слушатель должен видеть новый тип ребра сетки.");
+    }
+
+    @Test
+    void testPackedSettersByCellId() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 3);
+        List<EdgeType> changedTypes = new ArrayList<>();
+
+        // Act
+        for (int id = 0; id < 6; id++) {
+            maze.setCellType(id, CellType.PASSAGE);
+        }
+        maze.setCellType(4, CellType.BAD_SURFACE);
+        maze.setEdgeType(1, 4, EdgeType.TRANSITION);
+        maze.addChangeListener((changedMaze, from, to) -> changedTypes.add(changedMaze.getEdgeType(from, to)));
+        maze.setEdgeType(4, 3, EdgeType.GOOD_TRANSITION);
+
+        // Assert
+        Cell cell1 = maze.getCell(new Coordinate(0, 1));
+        Cell cell3 = maze.getCell(new Coordinate(1, 0));
+        Cell cell4 = maze.getCell(new Coordinate(1, 1));
+        assertEquals(6, maze.getAllCells().size(), "Повторная запись типа не должна добавлять ячейку.");
+        assertEquals(CellType.BAD_SURFACE, cell4.cellType(), "Тип ячейки должен перезаписываться.");
+        assertEquals(EdgeType.TRANSITION, maze.getEdgeType(cell4, cell1), "Ребро вверх должно быть записано.");
+        assertEquals(EdgeType.GOOD_TRANSITION, maze.getEdgeType(cell3, cell4), "Ребро влево должно быть записано.");
+        assertEquals(List.of(EdgeType.GOOD_TRANSITION), changedTypes, "Слушатель должен получить изменение ребра.");
+        assertThrows(IllegalArgumentException.class, () -> maze.setEdgeType(2, 3, EdgeType.TRANSITION),
+            "Ячейки на разных строках сетки не являются соседями.");
+        assertThrows(IndexOutOfBoundsException.class, () -> maze.setCellType(6, CellType.PASSAGE),
+            "Номер вне сетки недопустим.");
+    }
+}
@@ -5,12 +5,14 @@ import backend.academy.entity.cell.CellType;
 import backend.academy.entity.cell.Coordinate;
 import backend.academy.entity.edge.Edge;
 import backend.academy.entity.edge.EdgeType;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MazeTest {
@@ -206,6 +208,38 @@ class MazeTest {
         assertNull(result, "Должен вернуть null для несуществующих координат.");
     }
 
+    @Test
+    void testGetCellFromDenseIndex() {
+        // Arrange
+        Maze maze = new Maze(3, 3);
+        Cell inside = new Cell(2, 1, CellType.PASSAGE);
+        Cell outside = new Cell(5, 7, CellType.GOOD_SURFACE);
+
+        // Act
+        maze.addCell(inside);
+        maze.addCell(outside);
+
+        // Assert
+        assertSame(inside, maze.getCell(new Coordinate(2, 1)), "Ячейка внутри границ должна находиться.");
+        assertSame(outside, maze.getCell(new Coordinate(5, 7)), "Ячейка вне границ должна находиться.");
+        assertNull(maze.getCell(new Coordinate(0, 0)), "Должен вернуть null для недобавленной ячейки.");
+    }
+
+    @Test
+    void testGetCellAddedByEdge() {
+        // Arrange
+        Maze maze = new Maze();
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.BAD_SURFACE);
+
+        // Act
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+
+        // Assert
+        assertSame(cell1, maze.getCell(new Coordinate(0, 0)), "Ячейка, добавленная ребром, должна находиться.");
+        assertSame(cell2, maze.getCell(new Coordinate(0, 1)), "Ячейка, добавленная ребром, должна находиться.");
+    }
+
     @Test
     void testGetAllCellsAfterEdgeOperations() {
         // Arrange
@@ -243,4 +277,86 @@ class MazeTest {
         // Assert
         assertTrue(neighbors.isEmpty(), "Не должно быть проходимых соседей после установки рёбра в WALL.");
     }
+
+    @Test
+    void testCellIdsAreRowMajorInDenseMaze() {
+        // Arrange
+        Maze maze = new Maze(3, 4);
+        Cell inside = new Cell(2, 1, CellType.PASSAGE);
+        Cell outside = new Cell(5, 7, CellType.GOOD_SURFACE);
+
+        // Act
+        maze.addCell(inside);
+        maze.addCell(outside);
+
+        // Assert
+        assertEquals(2 * 4 + 1, maze.cellId(inside.coordinate()), "Номер ячейки внутри границ должен быть row-major.");
+        assertEquals(12, maze.cellId(outside.coordinate()),
+            "Ячейка вне границ должна получить номер после плотного массива.");
+        assertSame(inside, maze.getCell(2 * 4 + 1), "Ячейка внутри границ должна находиться по номеру.");
+        assertSame(outside, maze.getCell(12), "Ячейка вне границ должна находиться по номеру.");
+        assertEquals(13, maze.cellIdBound(), "Граница номеров должна учитывать ячейки вне границ.");
+        assertEquals(Cell.NO_ID, maze.cellId(new Coordinate(0, 0)), "Недобавленная ячейка не должна иметь номера.");
+    }
+
+    @Test
+    void testChangingCellTypeKeepsLookup() {
+        // Arrange
+        Maze maze = new Maze();
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+
+        // Act
+        cell1.cellType(CellType.BAD_SURFACE);
+        maze.addEdge(cell1, new Cell(1, 0, CellType.PASSAGE), EdgeType.TRANSITION);
+
+        // Assert
+        assertEquals(3, maze.getAllCells().size(), "Смена типа не должна дублировать ячейку в лабиринте.");
+        assertEquals(2, maze.getEdges(cell1).size(), "Все рёбра ячейки должны оставаться в одном списке.");
+        assertTrue(maze.containsCell(cell1), "Ячейка должна находиться после смены типа.");
+    }
+
+    @Test
+    void testVersionChangesOnModification() {
+        // Arrange
+        Maze maze = new Maze();
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.PASSAGE);
+        maze.addCell(cell1);
+        long afterAddCell = maze.version();
+
+        // Act
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+        long afterAddEdge = maze.version();
+        maze.updateEdgeType(cell1, cell2, EdgeType.WALL);
+        long afterUpdate = maze.version();
+        maze.getNeighbors(cell1);
+        long afterRead = maze.version();
+
+        // Assert
+        assertTrue(afterAddEdge > afterAddCell, "Добавление ребра должно менять версию лабиринта.");
+        assertTrue(afterUpdate > afterAddEdge, "Изменение типа ребра должно менять версию лабиринта.");
+        assertEquals(afterUpdate, afterRead, "Чтение не должно менять версию лабиринта.");
+    }
+
+    @Test
+    void testChangeListenerReceivesEdgeChanges() {
+        // Arrange
+        Maze maze = new Maze();
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.PASSAGE);
+        List<Cell> changed = new ArrayList<>();
+        MazeChangeListener listener = (changedMaze, from, to) -> changed.add(to);
+        maze.addChangeListener(listener);
+
+        // Act
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+        maze.updateEdgeType(cell1, cell2, EdgeType.WALL);
+        maze.removeChangeListener(listener);
+        maze.removeEdge(cell1, cell2);
+
+        // Assert
+        assertEquals(List.of(cell2, cell2), changed, "Слушатель должен получать изменения рёбер до отписки.");
+    }
 }
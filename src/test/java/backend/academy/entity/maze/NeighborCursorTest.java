@@ -0,0 +1,83 @@
+package backend.academy.entity.maze;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.solver.MazeFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class NeighborCursorTest {
+
+    @Test
+    void testCursorMatchesEdgesOfAdjacencyMaze() {
+        // Arrange
+        Maze maze = new MazeFactory().createMultiplePathsMaze();
+
+        // Act & Assert
+        assertCursorMatchesEdges(maze);
+        assertCursorMatchesEdges(maze.freeze());
+    }
+
+    @Test
+    void testCursorMatchesEdgesOfGridMaze() {
+        // Arrange
+        GridMaze maze = new GridMaze(3, 3);
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                maze.addCell(new Cell(row, col, CellType.PASSAGE));
+            }
+        }
+        maze.updateEdgeType(maze.getCell(new Coordinate(1, 1)), maze.getCell(new Coordinate(0, 1)),
+            EdgeType.GOOD_TRANSITION);
+
+        // Act & Assert
+        assertCursorMatchesEdges(maze);
+        assertCursorMatchesEdges(maze.freeze());
+    }
+
+    @Test
+    void testCursorOfMissingCellIsEmpty() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        maze.addCell(new Cell(0, 0, CellType.PASSAGE));
+
+        // Act
+        NeighborCursor cursor = maze.neighborCursor().reset(new Cell(1, 1, CellType.PASSAGE));
+
+        // Assert
+        assertFalse(cursor.next(), "У отсутствующей ячейки не должно быть соседей.");
+        assertFalse(new Maze().neighborCursor().reset(new Cell(0, 0, CellType.PASSAGE)).next(),
+            "У ячейки пустого лабиринта не должно быть соседей.");
+    }
+
+    private static void assertCursorMatchesEdges(Maze maze) {
+        NeighborCursor cursor = maze.neighborCursor();
+        for (Cell cell : maze.getAllCells()) {
+            List<String> expected = new ArrayList<>();
+            for (Edge edge : maze.getEdges(cell)) {
+                expected.add(edge.to().coordinate().row() + ":" + edge.to().coordinate().col() + ":" + edge.type());
+            }
+            List<String> actual = new ArrayList<>();
+            cursor.reset(cell);
+            while (cursor.next()) {
+                actual.add(cursor.row() + ":" + cursor.col() + ":" + cursor.edgeType());
+            }
+            assertEquals(expected, actual, "Курсор должен обходить те же рёбра, что и getEdges: " + cell.coordinate());
+
+            List<String> byId = new ArrayList<>();
+            cursor.reset(maze.cellId(cell.coordinate()));
+            while (cursor.next()) {
+                byId.add(cursor.row() + ":" + cursor.col() + ":" + cursor.edgeType());
+                assertEquals(maze.cellId(new Coordinate(cursor.row(), cursor.col())), cursor.id(),
+                    "Номер соседа должен совпадать с номером в лабиринте.");
+            }
+            assertEquals(expected, byId, "Курсор по номеру ячейки должен обходить те же рёбра: " + cell.coordinate());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package backend.academy.entity.maze;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.path.Path;
+import backend.academy.generator.kruskal.KruskalMazeGenerator;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.mazetype.SimpleMazeTypeProvider;
+import backend.academy.solver.fs.BFSSolver;
+import backend.academy.utils.MazeUtils;
+import backend.academy.utils.ReconstructorPath;
+import java.lang.foreign.Arena;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapMazeTest {
+
+    @Test
+    void testAddCellsAndEdges() {
+        try (Arena arena = Arena.ofConfined()) {
+            // Arrange
+            OffHeapMaze maze = new OffHeapMaze(4, 5, arena);
+            Cell cell1 = new Cell(3, 3, CellType.GOOD_SURFACE);
+            Cell cell2 = new Cell(3, 4, CellType.BAD_SURFACE);
+
+            // Act
+            maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+
+            // Assert
+            assertEquals(2, maze.getAllCells().size(), "Лабиринт должен содержать две ячейки.");
+            assertEquals(CellType.BAD_SURFACE, maze.getCell(new Coordinate(3, 4)).cellType(),
+                "Тип ячейки должен сохраниться.");
+            assertEquals(EdgeType.TRANSITION, maze.getEdgeType(cell2, cell1), "Тип ребра должен сохраниться.");
+            assertEquals(List.of(cell2), maze.getNeighbors(cell1), "Соседом должна быть вторая ячейка.");
+            assertNull(maze.getCell(new Coordinate(0, 0)), "Недобавленная ячейка не должна находиться.");
+        }
+    }
+
+    @Test
+    void testGenerateAndSolveOffHeap() {
+        try (Arena arena = Arena.ofConfined()) {
+            // Arrange
+            MazeTypeProvider typeProvider = new SimpleMazeTypeProvider();
+            KruskalMazeGenerator generator = new KruskalMazeGenerator(new MazeUtils(arena));
+
+            // Act
+            Maze maze = generator.generate(10, 10, typeProvider);
+            Path path = new BFSSolver(new ReconstructorPath())
+                .solve(maze, new Coordinate(0, 0), new Coordinate(9, 9), typeProvider);
+
+            // Assert
+            assertInstanceOf(OffHeapMaze.class, maze, "Лабиринт должен размещаться вне кучи.");
+            assertEquals(100, maze.getAllCells().size(), "Лабиринт должен содержать все ячейки.");
+            assertFalse(path.coordinates().isEmpty(), "В связном лабиринте путь должен существовать.");
+            assertEquals(new Coordinate(9, 9), path.coordinates().getLast(), "Путь должен заканчиваться в конце.");
+        }
+    }
+
+    @Test
+    void testAccessAfterArenaClosed() {
+        // Arrange
+        Arena arena = Arena.ofConfined();
+        OffHeapMaze maze = new OffHeapMaze(2, 2, arena);
+        Cell cell = new Cell(0, 0, CellType.PASSAGE);
+        maze.addCell(cell);
+        assertTrue(maze.containsCell(cell), "До закрытия арены ячейка должна быть доступна.");
+
+        // Act
+        arena.close();
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> maze.containsCell(cell),
+            "После закрытия арены память лабиринта должна быть недоступна.");
+    }
+}
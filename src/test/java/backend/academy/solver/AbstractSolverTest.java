@@ -7,14 +7,30 @@ import backend.academy.entity.path.Path;
 import backend.academy.mazetype.AdvancedMazeTypeProvider;
 import backend.academy.mazetype.MazeTypeProvider;
 import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.priority.DijkstraSolver;
+import backend.academy.utils.ReconstructorPath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Абстрактный класс для тестирования алгоритмов поиска пути.
  */
 public abstract class AbstractSolverTest {
+    private static final int RANDOM_MAZE_SIZE = 30;
+    private static final int RANDOM_QUERY_COUNT = 30;
+    private static final DijkstraSolver DIJKSTRA_SOLVER = new DijkstraSolver(new ReconstructorPath());
+
     private final Solver solver;
     private final boolean shouldFindOptimalPath;
     private final MazeFactory mazeFactory;
@@ -111,4 +127,147 @@ public abstract class AbstractSolverTest {
         assertEquals(startCell.coordinate(), path.coordinates().getFirst(),
             "Путь должен состоять из этой ячейки");
     }
+
+    /**
+     * Тест на повторное использование решателя.
+     * <p>
+     * Проверяет, что состояние предыдущего поиска не влияет на следующий: после поиска в непроходимом
+     * лабиринте тот же решатель снова находит путь с прежней стоимостью.
+     */
+    @Test
+    public void testSolverReuseAcrossQueries() {
+        // Arrange
+        Maze maze = mazeFactory.createMultiplePathsMaze();
+        Maze unreachableMaze = mazeFactory.createUnreachableMaze();
+        Path first = solver.solve(maze, mazeFactory.startCoord(), mazeFactory.endCoord(), mazeTypeProvider);
+
+        // Act
+        Path unreachable = solver.solve(unreachableMaze, new Coordinate(0, 0), new Coordinate(4, 4), mazeTypeProvider);
+        Path second = solver.solve(maze, mazeFactory.startCoord(), mazeFactory.endCoord(), mazeTypeProvider);
+
+        // Assert
+        assertTrue(unreachable.coordinates().isEmpty(), "Путь не должен быть найден в непроходимом лабиринте");
+        assertEquals(first, second, "Повторный поиск должен вернуть тот же путь");
+    }
+
+    /**
+     * Тест на одновременные запросы к одному решателю.
+     * <p>
+     * Решатели из {@link SolverFactory} общие для всех потоков, поэтому запросы из множества виртуальных
+     * потоков не должны портить друг другу состояние: каждый найденный путь должен иметь допустимую стоимость,
+     * а в непроходимом лабиринте путь не должен находиться.
+     */
+    @Test
+    public void testConcurrentQueries() throws Exception {
+        // Arrange
+        MazeGraph graph = MazeGraph.of(mazeFactory.createMultiplePathsMaze(), mazeTypeProvider);
+        MazeGraph unreachableGraph = MazeGraph.of(mazeFactory.createUnreachableMaze(), mazeTypeProvider);
+        List<Future<Path>> paths = new ArrayList<>();
+        List<Future<Path>> unreachablePaths = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                paths.add(executor.submit(() -> solver.solve(graph, mazeFactory.startCoord(), mazeFactory.endCoord())));
+                unreachablePaths.add(executor.submit(
+                    () -> solver.solve(unreachableGraph, new Coordinate(0, 0), new Coordinate(4, 4))));
+            }
+        }
+
+        // Assert
+        for (Future<Path> path : paths) {
+            int totalCost = path.get().totalCost();
+            assertTrue(totalCost >= mazeFactory.pathCostMin() && totalCost <= mazeFactory.pathCostMax(),
+                "Стоимость пути должна быть в допустимом диапазоне при одновременных запросах");
+            if (shouldFindOptimalPath) {
+                assertEquals(mazeFactory.pathCostMin(), totalCost, "Должен быть найден оптимальный путь");
+            }
+        }
+        for (Future<Path> path : unreachablePaths) {
+            assertTrue(path.get().coordinates().isEmpty(), "Путь не должен быть найден в непроходимом лабиринте");
+        }
+    }
+
+    /**
+     * Тест на совпадение стоимостей с алгоритмом Дейкстры для случайных пар ячеек.
+     * <p>
+     * Выполняется только для решателей, которые должны находить оптимальный путь. Проверяется на решётке без
+     * стен со случайными весами, на лабиринте без циклов и на лабиринте с циклами.
+     */
+    @ParameterizedTest
+    @EnumSource(RandomMaze.class)
+    public void testCostsMatchDijkstra(RandomMaze randomMaze) {
+        assumeTrue(shouldFindOptimalPath, "Решатель не обязан находить оптимальный путь");
+
+        // Arrange
+        Random random = new Random(randomMaze.ordinal());
+        Maze maze = switch (randomMaze) {
+            case OPEN_GRID -> mazeFactory.createOpenGrid(RANDOM_MAZE_SIZE, random);
+            case PERFECT_MAZE -> mazeFactory.createPerfectMaze(RANDOM_MAZE_SIZE, mazeTypeProvider);
+            case CYCLIC_MAZE -> mazeFactory.createCyclicMaze(RANDOM_MAZE_SIZE, mazeTypeProvider);
+        };
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+
+        // Act & Assert
+        assertCostsMatchDijkstra(solver, graph, RANDOM_MAZE_SIZE, random, RANDOM_QUERY_COUNT);
+    }
+
+    /**
+     * Сравнивает пути решателя с алгоритмом Дейкстры для случайных пар ячеек квадратного лабиринта: стоимость
+     * должна совпадать, а найденный путь — быть связным, иметь заявленную стоимость и соединять заданные ячейки.
+     *
+     * @param solver  Проверяемый решатель.
+     * @param graph   Граф лабиринта.
+     * @param size    Размер стороны лабиринта.
+     * @param random  Генератор случайных пар ячеек.
+     * @param queries Количество пар.
+     */
+    protected static void assertCostsMatchDijkstra(
+        Solver solver, MazeGraph graph, int size, Random random, int queries
+    ) {
+        for (int i = 0; i < queries; i++) {
+            Coordinate start = new Coordinate(random.nextInt(size), random.nextInt(size));
+            Coordinate end = new Coordinate(random.nextInt(size), random.nextInt(size));
+
+            Path path = solver.solve(graph, start, end);
+
+            assertEquals(DIJKSTRA_SOLVER.solve(graph, start, end).totalCost(), path.totalCost(),
+                "Стоимость пути должна совпадать с алгоритмом Дейкстры");
+            assertValidPath(graph, path, start, end);
+        }
+    }
+
+    /**
+     * Проверяет, что непустой путь соединяет заданные ячейки, проходит только по рёбрам графа и имеет
+     * заявленную стоимость.
+     *
+     * @param graph Граф лабиринта.
+     * @param path  Проверяемый путь.
+     * @param start Начальная ячейка.
+     * @param end   Конечная ячейка.
+     */
+    protected static void assertValidPath(MazeGraph graph, Path path, Coordinate start, Coordinate end) {
+        List<Coordinate> coordinates = path.coordinates();
+        if (coordinates.isEmpty()) {
+            return;
+        }
+        assertEquals(start, coordinates.getFirst(), "Путь должен начинаться в начальной точке");
+        assertEquals(end, coordinates.getLast(), "Путь должен заканчиваться в конечной точке");
+        int cost = graph.cellCost(graph.idOf(coordinates.getFirst()));
+        for (int i = 1; i < coordinates.size(); i++) {
+            int edge = graph.findEdge(graph.idOf(coordinates.get(i - 1)), graph.idOf(coordinates.get(i)));
+            assertTrue(edge >= 0, "Соседние ячейки пути должны быть соединены ребром");
+            cost += graph.weight(edge);
+        }
+        assertEquals(path.totalCost(), cost, "Путь должен иметь заявленную стоимость");
+    }
+
+    /**
+     * Виды случайных лабиринтов для сравнения с алгоритмом Дейкстры.
+     */
+    public enum RandomMaze {
+        OPEN_GRID,
+        PERFECT_MAZE,
+        CYCLIC_MAZE
+    }
 }
@@ -1,12 +1,19 @@
 package backend.academy.solver;
 
+import backend.academy.cycleadder.CycleAdder;
+import backend.academy.cycleadder.CycleLevelType;
 import backend.academy.entity.cell.Cell;
 import backend.academy.entity.cell.CellType;
 import backend.academy.entity.cell.Coordinate;
 import backend.academy.entity.edge.EdgeType;
 import backend.academy.entity.maze.Maze;
+import backend.academy.generator.MazeGeneratorFactory;
+import backend.academy.generator.MazeGeneratorType;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 import lombok.Getter;
 
 public class MazeFactory {
@@ -125,6 +132,65 @@ public class MazeFactory {
         maze.addEdge(cells.get(from), cells.get(to), edgeType);
     }
 
+    /**
+     * Создаёт квадратную решётку, в которой все соседние ячейки соединены проходами случайных типов,
+     * а ячейки имеют случайные типы. Между ячейками такой решётки много путей разной стоимости.
+     *
+     * @param size   Размер стороны решётки.
+     * @param random Генератор случайных чисел.
+     * @return Лабиринт без стен.
+     */
+    public Maze createOpenGrid(int size, Random random) {
+        CellType[] cellTypes = {passage, badSurface, goodSurface};
+        EdgeType[] edgeTypes = {transition, goodTransition, badTransition};
+        Maze maze = new Maze(size, size);
+        Cell[][] cells = new Cell[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                cells[row][col] = new Cell(row, col, cellTypes[random.nextInt(cellTypes.length)]);
+                maze.addCell(cells[row][col]);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (row + 1 < size) {
+                    maze.addEdge(cells[row][col], cells[row + 1][col], edgeTypes[random.nextInt(edgeTypes.length)]);
+                }
+                if (col + 1 < size) {
+                    maze.addEdge(cells[row][col], cells[row][col + 1], edgeTypes[random.nextInt(edgeTypes.length)]);
+                }
+            }
+        }
+        return maze;
+    }
+
+    /**
+     * Создаёт совершенный лабиринт алгоритмом Краскала: между любыми двумя ячейками ровно один путь.
+     *
+     * @param size         Размер стороны лабиринта.
+     * @param typeProvider Поставщик типов ячеек и рёбер.
+     * @return Лабиринт без циклов.
+     */
+    public Maze createPerfectMaze(int size, MazeTypeProvider typeProvider) {
+        return new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(MazeGeneratorType.KRUSKAL)
+            .generate(size, size, typeProvider);
+    }
+
+    /**
+     * Создаёт лабиринт алгоритмом Краскала и добавляет в него циклы уровня {@link CycleLevelType#HIGH},
+     * поэтому между ячейками появляются альтернативные пути.
+     *
+     * @param size         Размер стороны лабиринта.
+     * @param typeProvider Поставщик типов ячеек и рёбер.
+     * @return Лабиринт с циклами.
+     */
+    public Maze createCyclicMaze(int size, MazeTypeProvider typeProvider) {
+        Maze maze = createPerfectMaze(size, typeProvider);
+        new CycleAdder(new SimpleRandomGenerator()).addCycles(maze, typeProvider, CycleLevelType.HIGH);
+        return maze;
+    }
+
     /**
      * Создаёт непроходимый лабиринт, в котором все рёбра имеют тип `WALL`.
      *
@@ -0,0 +1,54 @@
+package backend.academy.solver.bidirection;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelBiDirectionalSolverTest extends AbstractSolverTest {
+
+    public ParallelBiDirectionalSolverTest() {
+        super(new ParallelBiDirectionalSolver(), false);
+    }
+
+    /**
+     * Тест на согласованность фронтов при многократных запросах.
+     * <p>
+     * Проверяет, что каждый найденный путь начинается и заканчивается в заданных ячейках и проходит
+     * только по рёбрам графа, то есть цепочки предшественников двух потоков сшиваются без разрывов.
+     */
+    @Test
+    void testPathsAreConnected() {
+        // Arrange
+        int size = 30;
+        Random random = new Random(5);
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(size, random),
+            new AdvancedMazeTypeProvider(new SimpleRandomGenerator()));
+        ParallelBiDirectionalSolver solver = new ParallelBiDirectionalSolver();
+
+        for (int i = 0; i < 200; i++) {
+            Coordinate start = new Coordinate(random.nextInt(size), random.nextInt(size));
+            Coordinate end = new Coordinate(random.nextInt(size), random.nextInt(size));
+
+            // Act
+            Path path = solver.solve(graph, start, end);
+
+            // Assert
+            List<Coordinate> coordinates = path.coordinates();
+            assertEquals(start, coordinates.getFirst(), "Путь должен начинаться в начальной ячейке");
+            assertEquals(end, coordinates.getLast(), "Путь должен заканчиваться в конечной ячейке");
+            for (int j = 1; j < coordinates.size(); j++) {
+                assertTrue(graph.findEdge(graph.idOf(coordinates.get(j - 1)), graph.idOf(coordinates.get(j))) >= 0,
+                    "Соседние ячейки пути должны быть соединены ребром");
+            }
+        }
+    }
+}
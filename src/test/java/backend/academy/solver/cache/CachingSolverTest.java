@@ -0,0 +1,153 @@
+package backend.academy.solver.cache;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.path.Path;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.priority.DijkstraSolver;
+import backend.academy.utils.ReconstructorPath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CachingSolverTest extends AbstractSolverTest {
+    private final MazeFactory mazeFactory = new MazeFactory();
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+
+    public CachingSolverTest() {
+        super(new CachingSolver(new DijkstraSolver(new ReconstructorPath())), true);
+    }
+
+    /**
+     * Тест на повторное использование результата для графов с одинаковым содержимым, построенных отдельно.
+     */
+    @Test
+    public void testRepeatedQueryIsServedFromCache() {
+        // Arrange
+        AtomicInteger searches = new AtomicInteger();
+        DijkstraSolver dijkstraSolver = new DijkstraSolver(new ReconstructorPath());
+        CachingSolver solver = new CachingSolver((graph, start, end) -> {
+            searches.incrementAndGet();
+            return dijkstraSolver.solve(graph, start, end);
+        });
+        MazeGraph graph = MazeGraph.of(mazeFactory.createMultiplePathsMaze(), mazeTypeProvider);
+        MazeGraph sameContentGraph = MazeGraph.of(mazeFactory.createMultiplePathsMaze(), mazeTypeProvider);
+
+        // Act
+        Path first = solver.solve(graph, mazeFactory.startCoord(), mazeFactory.endCoord());
+        Path second = solver.solve(sameContentGraph, mazeFactory.startCoord(), mazeFactory.endCoord());
+        Path reversed = solver.solve(graph, mazeFactory.endCoord(), mazeFactory.startCoord());
+
+        // Assert
+        assertSame(first, second, "Путь для графа с тем же содержимым должен браться из кеша");
+        assertEquals(mazeFactory.pathCostMin(), reversed.totalCost(), "Обратный запрос должен решаться отдельно");
+        assertEquals(2, searches.get(), "Поиск должен выполняться только для новых запросов");
+        SolverCacheStats stats = solver.stats();
+        assertEquals(1, stats.hits(), "Должно быть одно попадание");
+        assertEquals(2, stats.misses(), "Должно быть два промаха");
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9, "Доля попаданий неверна");
+    }
+
+    /**
+     * Тест на то, что вызывающий код не может изменить закешированный путь, даже если исходный решатель
+     * вернул изменяемый список.
+     */
+    @Test
+    public void testCachedPathCannotBeModified() {
+        // Arrange
+        DijkstraSolver dijkstraSolver = new DijkstraSolver(new ReconstructorPath());
+        CachingSolver solver = new CachingSolver((graph, start, end) -> {
+            Path path = dijkstraSolver.solve(graph, start, end);
+            return new Path(new ArrayList<>(path.coordinates()), path.totalCost());
+        });
+        MazeGraph graph = MazeGraph.of(mazeFactory.createMultiplePathsMaze(), mazeTypeProvider);
+        Path first = solver.solve(graph, mazeFactory.startCoord(), mazeFactory.endCoord());
+        List<Coordinate> expected = List.copyOf(first.coordinates());
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> first.coordinates().clear(),
+            "Закешированный путь должен быть неизменяемым");
+        assertEquals(expected, solver.solve(graph, mazeFactory.startCoord(), mazeFactory.endCoord()).coordinates(),
+            "Повторный запрос должен вернуть исходный путь");
+    }
+
+    /**
+     * Тест на объединение одинаковых запросов: пока первый поиск не завершён, остальные запросы ждут его
+     * результата и не запускают свой поиск.
+     */
+    @Test
+    public void testConcurrentIdenticalQueriesRunOneSearch() throws Exception {
+        // Arrange
+        int callers = 8;
+        AtomicInteger searches = new AtomicInteger();
+        CountDownLatch searchStarted = new CountDownLatch(1);
+        CountDownLatch releaseSearch = new CountDownLatch(1);
+        DijkstraSolver dijkstraSolver = new DijkstraSolver(new ReconstructorPath());
+        CachingSolver solver = new CachingSolver((graph, start, end) -> {
+            searches.incrementAndGet();
+            searchStarted.countDown();
+            try {
+                releaseSearch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return dijkstraSolver.solve(graph, start, end);
+        });
+        MazeGraph graph = MazeGraph.of(mazeFactory.createMultiplePathsMaze(), mazeTypeProvider);
+        List<Future<Path>> paths = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            paths.add(executor.submit(() -> solver.solve(graph, mazeFactory.startCoord(), mazeFactory.endCoord())));
+            searchStarted.await();
+            for (int i = 1; i < callers; i++) {
+                paths.add(executor.submit(() -> solver.solve(graph, mazeFactory.startCoord(), mazeFactory.endCoord())));
+            }
+            while (solver.stats().coalesced() < callers - 1) {
+                Thread.yield();
+            }
+            releaseSearch.countDown();
+        }
+
+        // Assert
+        for (Future<Path> path : paths) {
+            assertEquals(mazeFactory.pathCostMin(), path.get().totalCost(), "Все запросы должны получить путь");
+        }
+        assertEquals(1, searches.get(), "Одинаковые запросы должны выполнять один поиск");
+        assertEquals(callers - 1, solver.stats().hits(), "Ожидавшие запросы должны считаться попаданиями");
+    }
+
+    @Test
+    public void testFailedSearchIsNotCached() {
+        // Arrange
+        AtomicInteger searches = new AtomicInteger();
+        CachingSolver solver = new CachingSolver((graph, start, end) -> {
+            searches.incrementAndGet();
+            throw new IllegalStateException("search failed");
+        });
+        MazeGraph graph = MazeGraph.of(mazeFactory.createMultiplePathsMaze(), mazeTypeProvider);
+        Coordinate start = mazeFactory.startCoord();
+        Coordinate end = mazeFactory.endCoord();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> solver.solve(graph, start, end),
+            "Исключение поиска должно пробрасываться");
+        assertThrows(IllegalStateException.class, () -> solver.solve(graph, start, end),
+            "Неудачный поиск не должен кешироваться");
+        assertEquals(2, searches.get(), "Поиск должен повторяться после ошибки");
+        assertThrows(IllegalArgumentException.class, () -> new CachingSolver(solver, 0),
+            "Нулевой вес кеша должен отклоняться");
+    }
+}
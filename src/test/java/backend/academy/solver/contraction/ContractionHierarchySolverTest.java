@@ -0,0 +1,130 @@
+package backend.academy.solver.contraction;
+
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ContractionHierarchySolverTest extends AbstractSolverTest {
+    private static final int TRAILER = 0x5A;
+
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+
+    public ContractionHierarchySolverTest() {
+        super(new ContractionHierarchySolver(), true);
+    }
+
+    @Test
+    public void testSerializedHierarchyAnswersLikeOriginal() throws IOException {
+        // Arrange
+        int size = 30;
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createCyclicMaze(size, mazeTypeProvider), mazeTypeProvider);
+        ContractionHierarchy original = ContractionHierarchy.build(graph);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        original.write(output);
+        ContractionHierarchy loaded = ContractionHierarchy.read(new ByteArrayInputStream(output.toByteArray()), graph);
+        ContractionHierarchySolver solver = new ContractionHierarchySolver();
+        solver.register(loaded);
+
+        // Assert
+        assertSame(loaded, solver.hierarchy(graph), "Зарегистрированная иерархия должна использоваться для графа");
+        assertEquals(original.edgeCount(), loaded.edgeCount(), "Количество рёбер должно сохраниться");
+        assertEquals(original.shortcutCount(), loaded.shortcutCount(), "Количество коротких путей должно сохраниться");
+        assertCostsMatchDijkstra(solver, graph, size, new Random(9), 30);
+    }
+
+    @Test
+    public void testReadRejectsForeignData() throws IOException {
+        // Arrange
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(10, new Random(3)), mazeTypeProvider);
+        MazeGraph otherGraph = MazeGraph.of(new MazeFactory().createOpenGrid(10, new Random(4)), mazeTypeProvider);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ContractionHierarchy.build(graph).write(output);
+        byte[] data = output.toByteArray();
+        byte[] corrupted = data.clone();
+        corrupted[0] ^= 1;
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> ContractionHierarchy.read(new ByteArrayInputStream(data), otherGraph),
+            "Иерархия другого графа должна отклоняться");
+        assertThrows(IllegalArgumentException.class,
+            () -> ContractionHierarchy.read(new ByteArrayInputStream(corrupted), graph),
+            "Данные с неверной сигнатурой должны отклоняться");
+    }
+
+    @Test
+    public void testReadLeavesFollowingBytesInStream() throws IOException {
+        // Arrange
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(10, new Random(3)), mazeTypeProvider);
+        ContractionHierarchy original = ContractionHierarchy.build(graph);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        original.write(output);
+        output.write(TRAILER);
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+
+        // Act
+        ContractionHierarchy loaded = ContractionHierarchy.read(input, graph);
+
+        // Assert
+        assertEquals(original.edgeCount(), loaded.edgeCount(), "Количество рёбер должно сохраниться");
+        assertEquals(TRAILER, input.read(), "Данные после иерархии должны остаться в потоке");
+        assertEquals(-1, input.read(), "После иерархии в потоке не должно быть лишних данных");
+    }
+
+    @Test
+    public void testReadRejectsCellsOutsideGraph() throws IOException {
+        // Arrange
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(10, new Random(3)), mazeTypeProvider);
+        ContractionHierarchy original = ContractionHierarchy.build(graph);
+        UpwardEdges edges = original.upwardOut();
+        int[] neighbors = edges.neighbors().clone();
+        neighbors[0] = graph.size();
+        int[] middles = edges.middles().clone();
+        middles[0] = graph.size();
+        byte[] badNeighbor = serialize(new ContractionHierarchy(graph, ranks(original),
+            new UpwardEdges(edges.offsets(), neighbors, edges.weights(), edges.middles()), original.upwardIn()));
+        byte[] badMiddle = serialize(new ContractionHierarchy(graph, ranks(original),
+            new UpwardEdges(edges.offsets(), edges.neighbors(), edges.weights(), middles), original.upwardIn()));
+        int[] ranks = ranks(original);
+        ranks[0] = graph.size();
+        byte[] badRank = serialize(new ContractionHierarchy(graph, ranks, original.upwardOut(), original.upwardIn()));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> ContractionHierarchy.read(new ByteArrayInputStream(badNeighbor), graph),
+            "Сосед вне графа должен отклоняться");
+        assertThrows(IllegalArgumentException.class,
+            () -> ContractionHierarchy.read(new ByteArrayInputStream(badMiddle), graph),
+            "Средняя ячейка вне графа должна отклоняться");
+        assertThrows(IllegalArgumentException.class,
+            () -> ContractionHierarchy.read(new ByteArrayInputStream(badRank), graph),
+            "Ранг вне графа должен отклоняться");
+    }
+
+    private static int[] ranks(ContractionHierarchy hierarchy) {
+        int[] ranks = new int[hierarchy.graph().size()];
+        for (int node = 0; node < ranks.length; node++) {
+            ranks[node] = hierarchy.rank(node);
+        }
+        return ranks;
+    }
+
+    private static byte[] serialize(ContractionHierarchy hierarchy) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        hierarchy.write(output);
+        return output.toByteArray();
+    }
+}
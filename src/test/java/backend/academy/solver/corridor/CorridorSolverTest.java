@@ -0,0 +1,121 @@
+package backend.academy.solver.corridor;
+
+import backend.academy.cycleadder.CycleAdder;
+import backend.academy.cycleadder.CycleLevelType;
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.GridMaze;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.path.Path;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.Solver;
+import backend.academy.solver.SolverFactory;
+import backend.academy.solver.SolverType;
+import backend.academy.solver.graph.CorridorGraph;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.priority.DijkstraSolver;
+import backend.academy.utils.ReconstructorPath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CorridorSolverTest extends AbstractSolverTest {
+    private static final Set<SolverType> NON_OPTIMAL_SOLVERS = Set.of(SolverType.BFS, SolverType.PARALLEL_BFS,
+        SolverType.DFS, SolverType.BIDIRECTIONAL, SolverType.PARALLEL_BIDIRECTIONAL);
+
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+
+    public CorridorSolverTest() {
+        super(new CorridorSolver(new DijkstraSolver(new ReconstructorPath())), true);
+    }
+
+    /**
+     * Тест на то, что каждый решатель работает на сжатом графе: оптимальные находят путь стоимости Дейкстры,
+     * остальные — связный путь заявленной стоимости. Концы пути выбираются случайно и обычно лежат в коридорах.
+     */
+    @ParameterizedTest
+    @EnumSource(value = SolverType.class, names = "ALL", mode = EnumSource.Mode.EXCLUDE)
+    public void testEverySolverRunsOnReducedGraph(SolverType solverType) {
+        // Arrange
+        int size = 30;
+        Maze maze = new MazeFactory().createPerfectMaze(size, mazeTypeProvider);
+        new CycleAdder(new SimpleRandomGenerator()).addCycles(maze, mazeTypeProvider, CycleLevelType.LOW);
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+        Solver solver = new SolverFactory(false, true).getSolver(solverType);
+        Random random = new Random(11);
+
+        // Act & Assert
+        if (!NON_OPTIMAL_SOLVERS.contains(solverType)) {
+            assertCostsMatchDijkstra(solver, graph, size, random, 10);
+            return;
+        }
+        for (int i = 0; i < 10; i++) {
+            Coordinate start = new Coordinate(random.nextInt(size), random.nextInt(size));
+            Coordinate end = new Coordinate(random.nextInt(size), random.nextInt(size));
+            Path path = solver.solve(graph, start, end);
+            assertFalse(path.coordinates().isEmpty(), "В связном лабиринте путь должен быть найден");
+            assertValidPath(graph, path, start, end);
+        }
+    }
+
+    @Test
+    public void testCorridorGraphIsReusedForAnyEndpoints() {
+        // Arrange
+        int size = 20;
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createPerfectMaze(size, mazeTypeProvider), mazeTypeProvider);
+        CorridorSolver solver = new CorridorSolver(new DijkstraSolver(new ReconstructorPath()));
+        CorridorGraph corridorGraph = solver.corridorGraph(graph);
+        Random random = new Random(13);
+
+        for (int i = 0; i < 10; i++) {
+            Coordinate start = new Coordinate(random.nextInt(size), random.nextInt(size));
+            Coordinate end = new Coordinate(random.nextInt(size), random.nextInt(size));
+
+            // Act
+            solver.solve(graph, start, end);
+
+            // Assert
+            assertSame(corridorGraph, solver.corridorGraph(graph),
+                "Граф развилок не должен перестраиваться, когда концы пути лежат в коридорах");
+        }
+    }
+
+    /**
+     * Тест на путь между ячейками одного коридора: он может идти прямо по коридору, не заходя в развилки.
+     */
+    @Test
+    public void testPathInsideOneCorridor() {
+        // Arrange
+        GridMaze maze = new GridMaze(1, 5);
+        List<Cell> cells = new ArrayList<>();
+        for (int col = 0; col < 5; col++) {
+            cells.add(new Cell(0, col, CellType.PASSAGE));
+        }
+        for (int col = 1; col < 5; col++) {
+            maze.addEdge(cells.get(col - 1), cells.get(col), EdgeType.TRANSITION);
+        }
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+        CorridorSolver solver = new CorridorSolver(new DijkstraSolver(new ReconstructorPath()));
+
+        // Act
+        Path path = solver.solve(graph, cells.get(3).coordinate(), cells.get(1).coordinate());
+
+        // Assert
+        assertEquals(List.of(cells.get(3).coordinate(), cells.get(2).coordinate(), cells.get(1).coordinate()),
+            path.coordinates(), "Путь должен идти прямо по коридору");
+        assertValidPath(graph, path, cells.get(3).coordinate(), cells.get(1).coordinate());
+    }
+}
@@ -0,0 +1,62 @@
+package backend.academy.solver.fs;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ParallelBFSSolverTest extends AbstractSolverTest {
+
+    public ParallelBFSSolverTest() {
+        super(new ParallelBFSSolver(), false);
+    }
+
+    /**
+     * Тест на расстояния до всех ячеек.
+     * <p>
+     * С низким порогом большие уровни решётки обрабатываются несколькими блоками битовых множеств, а фронт
+     * переключается на обход снизу вверх и обратно; расстояния сравниваются с последовательным поиском.
+     */
+    @Test
+    public void testDistancesMatchSequentialBfs() {
+        // Arrange
+        int size = 200;
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(size, new Random(3)),
+            new AdvancedMazeTypeProvider(new SimpleRandomGenerator()));
+        Coordinate source = new Coordinate(size / 2, 7);
+
+        // Act
+        int[] distances = new ParallelBFSSolver(64).distances(graph, source);
+
+        // Assert
+        assertArrayEquals(sequentialDistances(graph, graph.idOf(source)), distances,
+            "Расстояния должны совпадать с последовательным поиском в ширину");
+    }
+
+    private static int[] sequentialDistances(MazeGraph graph, int source) {
+        int[] distances = new int[graph.size()];
+        int[] queue = new int[graph.size()];
+        Arrays.fill(distances, ParallelBFSSolver.UNREACHED);
+        distances[source] = 0;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int current = queue[head++];
+            for (int edge = graph.edgesStart(current); edge < graph.edgesEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                if (distances[neighbor] == ParallelBFSSolver.UNREACHED) {
+                    distances[neighbor] = distances[current] + 1;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,98 @@
+package backend.academy.solver.graph;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.GridMaze;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.path.Path;
+import backend.academy.generator.MazeGeneratorFactory;
+import backend.academy.generator.MazeGeneratorType;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.priority.DijkstraSolver;
+import backend.academy.utils.ReconstructorPath;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CorridorGraphTest {
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+
+    @Test
+    void testPerfectMazeShrinksToJunctions() {
+        // Arrange
+        int size = 50;
+        Maze maze = new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(MazeGeneratorType.HUNT_AND_KILL)
+            .generate(size, size, mazeTypeProvider);
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+
+        // Act
+        CorridorGraph corridorGraph = CorridorGraph.build(graph);
+
+        // Assert
+        MazeGraph reduced = corridorGraph.reduced();
+        assertTrue(reduced.size() * 2 < graph.size(),
+            "В совершенном лабиринте коридоры должны занимать больше половины ячеек.");
+        for (int node = 0; node < reduced.size(); node++) {
+            int cell = graph.idOf(reduced.coordinate(node));
+            assertTrue(graph.edgesEnd(cell) - graph.edgesStart(cell) != 2, "Вершинами должны быть развилки и тупики.");
+            assertEquals(graph.cellCost(cell), reduced.cellCost(node), "Стоимость развилки должна сохраниться.");
+        }
+    }
+
+    @Test
+    void testExpandedPathKeepsCostAndCells() {
+        // Arrange
+        int size = 40;
+        Maze maze = new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(MazeGeneratorType.KRUSKAL)
+            .generate(size, size, mazeTypeProvider);
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(size - 1, size - 1);
+        CorridorGraph corridorGraph = CorridorGraph.build(graph, graph.idOf(start), graph.idOf(end));
+        DijkstraSolver dijkstraSolver = new DijkstraSolver(new ReconstructorPath());
+
+        // Act
+        Path path = corridorGraph.expand(dijkstraSolver.solve(corridorGraph.reduced(), start, end));
+
+        // Assert
+        Path expected = dijkstraSolver.solve(graph, start, end);
+        assertEquals(expected.totalCost(), path.totalCost(), "Стоимость пути по развилкам должна совпадать.");
+        assertEquals(expected.coordinates(), path.coordinates(), "В совершенном лабиринте путь единственен.");
+    }
+
+    @Test
+    void testRingKeepsCheaperCorridor() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.BAD_SURFACE);
+        Cell cell3 = new Cell(1, 1, CellType.PASSAGE);
+        Cell cell4 = new Cell(1, 0, CellType.GOOD_SURFACE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+        maze.addEdge(cell2, cell3, EdgeType.TRANSITION);
+        maze.addEdge(cell3, cell4, EdgeType.TRANSITION);
+        maze.addEdge(cell4, cell1, EdgeType.TRANSITION);
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+
+        // Act
+        CorridorGraph corridorGraph = CorridorGraph.build(graph, graph.idOf(cell1.coordinate()),
+            graph.idOf(cell3.coordinate()));
+        Path path = corridorGraph.expand(new DijkstraSolver(new ReconstructorPath())
+            .solve(corridorGraph.reduced(), cell1.coordinate(), cell3.coordinate()));
+
+        // Assert
+        assertEquals(1, CorridorGraph.build(graph).reduced().size(), "Кольцо без развилок должно получить одну.");
+        assertEquals(2, corridorGraph.reduced().size(), "Кольцо должно сжаться до закреплённых ячеек.");
+        assertFalse(corridorGraph.isJunction(cell2.coordinate()), "Ячейка внутри коридора не должна быть вершиной.");
+        assertEquals(List.of(cell1.coordinate(), cell4.coordinate(), cell3.coordinate()), path.coordinates(),
+            "Путь должен идти через более дешёвый коридор кольца.");
+    }
+}
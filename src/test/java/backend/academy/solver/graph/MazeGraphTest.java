@@ -0,0 +1,95 @@
+package backend.academy.solver.graph;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.GridMaze;
+import backend.academy.entity.maze.Maze;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.MazeFactory;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MazeGraphTest {
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+
+    @Test
+    void testGraphKeepsOnlyPassableEdges() {
+        // Arrange
+        GridMaze maze = new GridMaze(2, 2);
+        Cell cell1 = new Cell(0, 0, CellType.GOOD_SURFACE);
+        Cell cell2 = new Cell(0, 1, CellType.BAD_SURFACE);
+        Cell cell3 = new Cell(1, 0, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.BAD_TRANSITION);
+        maze.addEdge(cell1, cell3, EdgeType.WALL);
+
+        // Act
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+
+        // Assert
+        int from = graph.idOf(cell1.coordinate());
+        int to = graph.idOf(cell2.coordinate());
+        assertEquals(4, graph.size(), "Номера ячеек графа должны покрывать всю сетку.");
+        assertEquals(maze.cellId(cell2.coordinate()), to, "Номера графа должны совпадать с номерами лабиринта.");
+        assertEquals(-1, graph.idOf(new Coordinate(1, 1)), "Отсутствующая ячейка не должна получать номер.");
+        assertEquals(1, graph.edgesEnd(from) - graph.edgesStart(from), "Стена не должна попадать в граф.");
+        assertEquals(to, graph.target(graph.edgesStart(from)), "Ребро должно вести в соседнюю ячейку.");
+        assertEquals(EdgeType.BAD_TRANSITION.movementCost() + CellType.BAD_SURFACE.movementCost(),
+            graph.weight(graph.findEdge(from, to)), "Вес ребра должен включать стоимость целевой ячейки.");
+        assertEquals(CellType.GOOD_SURFACE.movementCost(), graph.cellCost(from), "Стоимость ячейки неверна.");
+        assertEquals(-1, graph.findEdge(from, graph.idOf(cell3.coordinate())), "Через стену ребра быть не должно.");
+    }
+
+    @Test
+    void testGraphMatchesMazeNeighbors() {
+        // Arrange
+        MazeFactory mazeFactory = new MazeFactory();
+        Maze maze = mazeFactory.createMultiplePathsMaze();
+
+        // Act
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+
+        // Assert
+        assertEquals(mazeFactory.mazeSize() * mazeFactory.mazeSize(), graph.size(),
+            "Граф должен содержать по одной ячейке на координату.");
+        for (int id = 0; id < graph.size(); id++) {
+            Cell cell = maze.getCell(graph.coordinate(id));
+            long passable = maze.getEdges(cell).stream()
+                .filter(edge -> mazeTypeProvider.isPassage(edge.type()))
+                .count();
+            assertEquals(passable, graph.edgesEnd(id) - graph.edgesStart(id),
+                "Количество рёбер ячейки " + graph.coordinate(id) + " должно совпадать с лабиринтом.");
+        }
+    }
+
+    @Test
+    void testCellsOutsideGridKeepTheirCoordinates() {
+        // Arrange
+        Maze maze = new Maze(2, 2);
+        Cell inside = new Cell(1, 1, CellType.PASSAGE);
+        Cell outside = new Cell(1, 2, CellType.GOOD_SURFACE);
+        maze.addEdge(inside, outside, EdgeType.TRANSITION);
+        maze.addEdge(outside, inside, EdgeType.TRANSITION);
+
+        // Act
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+
+        // Assert
+        int insideId = graph.idOf(inside.coordinate());
+        int outsideId = graph.idOf(outside.coordinate());
+        assertEquals(3, insideId, "Номер ячейки сетки должен вычисляться по координатам.");
+        assertEquals(4, outsideId, "Ячейка вне сетки должна получить номер после ячеек сетки.");
+        assertEquals(inside.coordinate(), graph.coordinate(insideId), "Координаты ячейки сетки неверны.");
+        assertEquals(outside.coordinate(), graph.coordinate(outsideId), "Координаты ячейки вне сетки неверны.");
+        assertEquals(2, graph.col(outsideId), "Столбец ячейки вне сетки неверен.");
+        assertNull(graph.coordinate(0), "У свободного номера не должно быть координат.");
+        assertFalse(graph.contains(0), "Свободный номер не должен считаться ячейкой.");
+        assertEquals(outsideId, graph.target(graph.findEdge(insideId, outsideId)),
+            "Ребро должно вести в ячейку вне сетки.");
+    }
+}
@@ -0,0 +1,76 @@
+package backend.academy.solver.hierarchy;
+
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HierarchicalSolverTest extends AbstractSolverTest {
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+
+    public HierarchicalSolverTest() {
+        super(new HierarchicalSolver(2), true);
+    }
+
+    /**
+     * Тест на совпадение стоимостей с алгоритмом Дейкстры при разных размерах кластеров.
+     * <p>
+     * Кластер из одной ячейки делает каждую ячейку входной, кластер больше лабиринта сводит поиск к одному
+     * кластеру.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 64})
+    public void testClusterSizesMatchDijkstra(int clusterSize) {
+        // Arrange
+        int size = 40;
+        Random random = new Random(5);
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(size, random), mazeTypeProvider);
+
+        // Act & Assert
+        assertCostsMatchDijkstra(new HierarchicalSolver(clusterSize), graph, size, random, 30);
+    }
+
+    /**
+     * Тест на сгенерированном лабиринте с циклами и крупными кластерами: у кластеров мало входов, и маршрут
+     * петляет между ними.
+     */
+    @Test
+    public void testGeneratedMazeMatchesDijkstra() {
+        // Arrange
+        int size = 45;
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createCyclicMaze(size, mazeTypeProvider), mazeTypeProvider);
+
+        // Act & Assert
+        assertCostsMatchDijkstra(new HierarchicalSolver(8), graph, size, new Random(9), 30);
+    }
+
+    @Test
+    public void testAbstractionIsBuiltOncePerGraph() {
+        // Arrange
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(20, new Random(3)), mazeTypeProvider);
+        HierarchicalSolver solver = new HierarchicalSolver(5);
+
+        // Act
+        ClusterGraph first = solver.abstraction(graph);
+        solver.solve(graph, new Coordinate(0, 0), new Coordinate(19, 19));
+        ClusterGraph second = solver.abstraction(graph);
+
+        // Assert
+        assertSame(first, second, "Абстракция должна переиспользоваться для того же графа");
+        assertEquals(16, first.clusterCount(), "Решётка 20x20 должна делиться на 16 кластеров 5x5");
+        assertTrue(first.nodeCount() < graph.size(), "Входных ячеек должно быть меньше, чем ячеек");
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalSolver(0),
+            "Нулевой размер кластера должен отклоняться");
+    }
+}
@@ -0,0 +1,150 @@
+package backend.academy.solver.incremental;
+
+import backend.academy.cycleadder.CycleAdder;
+import backend.academy.cycleadder.CycleLevelType;
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.path.Path;
+import backend.academy.generator.MazeGeneratorFactory;
+import backend.academy.generator.MazeGeneratorType;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.priority.DijkstraSolver;
+import backend.academy.utils.ReconstructorPath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IncrementalSolverTest {
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+    private final DijkstraSolver dijkstraSolver = new DijkstraSolver(new ReconstructorPath());
+
+    /**
+     * Тест на совпадение стоимостей с алгоритмом Дейкстры, пока стены лабиринта открываются и закрываются,
+     * а начало пути перемещается при неизменной цели.
+     */
+    @Test
+    public void testReplansMatchDijkstraWhileWallsChange() {
+        // Arrange
+        int size = 30;
+        Maze maze = generateMaze(size);
+        Random random = new Random(3);
+        Coordinate end = new Coordinate(size - 1, size - 1);
+
+        try (IncrementalSolver solver = new IncrementalSolver(maze, mazeTypeProvider)) {
+            for (int i = 0; i < 40; i++) {
+                toggleRandomEdges(maze, random, 3);
+                Coordinate start = new Coordinate(random.nextInt(size), random.nextInt(size));
+
+                // Act
+                Path path = solver.solve(start, end);
+
+                // Assert
+                MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+                assertEquals(dijkstraSolver.solve(graph, start, end).totalCost(), path.totalCost(),
+                    "Стоимость пути должна совпадать с алгоритмом Дейкстры");
+                if (!path.coordinates().isEmpty()) {
+                    assertEquals(path.totalCost(), costOf(graph, path.coordinates()),
+                        "Путь должен иметь заявленную стоимость");
+                    assertEquals(end, path.coordinates().getLast(), "Путь должен заканчиваться в конечной точке");
+                }
+            }
+        }
+    }
+
+    /**
+     * Тест на то, что после нескольких правок перепланирование раскрывает заметно меньше ячеек,
+     * чем поиск с нуля.
+     */
+    @Test
+    public void testReplanExpandsFewerCellsThanFreshSearch() {
+        // Arrange
+        int size = 60;
+        // Решётка с фиксированным зерном, чтобы правки не могли случайно перерезать единственный проход
+        Maze maze = new MazeFactory().createOpenGrid(size, new Random(17));
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(size - 1, size - 1);
+        IncrementalSolver solver = new IncrementalSolver(maze, mazeTypeProvider);
+        solver.solve(start, end);
+        toggleRandomEdges(maze, new Random(17), 3);
+
+        // Act
+        Path replanned = solver.solve(start, end);
+        int replanExpansions = solver.expandedCells();
+        IncrementalSolver freshSolver = new IncrementalSolver(maze, mazeTypeProvider);
+        Path fresh = freshSolver.solve(start, end);
+
+        // Assert
+        assertEquals(fresh.totalCost(), replanned.totalCost(), "Перепланирование должно находить кратчайший путь");
+        assertTrue(replanExpansions * 2 < freshSolver.expandedCells(),
+            "Перепланирование должно раскрывать хотя бы вдвое меньше ячеек, чем поиск с нуля");
+        solver.close();
+        freshSolver.close();
+    }
+
+    @Test
+    public void testNewEdgeRebuildsGraph() {
+        // Arrange
+        Maze maze = new Maze();
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.PASSAGE);
+        Cell cell3 = new Cell(0, 2, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+        maze.addCell(cell3);
+        IncrementalSolver solver = new IncrementalSolver(maze, mazeTypeProvider);
+        Path unreachable = solver.solve(cell1.coordinate(), cell3.coordinate());
+
+        // Act
+        maze.addEdge(cell2, cell3, EdgeType.TRANSITION);
+        Path path = solver.solve(cell1.coordinate(), cell3.coordinate());
+
+        // Assert
+        assertTrue(unreachable.coordinates().isEmpty(), "Несвязная ячейка должна быть недостижима");
+        assertEquals(List.of(cell1.coordinate(), cell2.coordinate(), cell3.coordinate()), path.coordinates(),
+            "Путь должен пройти по добавленному ребру");
+    }
+
+    private Maze generateMaze(int size) {
+        Maze maze = new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(MazeGeneratorType.KRUSKAL)
+            .generate(size, size, mazeTypeProvider);
+        new CycleAdder(new SimpleRandomGenerator()).addCycles(maze, mazeTypeProvider, CycleLevelType.LOW);
+        return maze;
+    }
+
+    /**
+     * Меняет тип нескольких случайных рёбер: открывает стены и закрывает проходы.
+     */
+    private void toggleRandomEdges(Maze maze, Random random, int count) {
+        List<Cell> cells = new ArrayList<>(maze.getAllCells());
+        for (int i = 0; i < count; i++) {
+            Cell cell = cells.get(random.nextInt(cells.size()));
+            List<Edge> edges = maze.getEdges(cell);
+            Edge edge = edges.get(random.nextInt(edges.size()));
+            EdgeType newType = mazeTypeProvider.isPassage(edge.type())
+                ? mazeTypeProvider.getUnPassableEdgeType()
+                : mazeTypeProvider.getPassableEdgeType();
+            maze.updateEdgeType(edge.from(), edge.to(), newType);
+        }
+    }
+
+    private static int costOf(MazeGraph graph, List<Coordinate> coordinates) {
+        int cost = graph.cellCost(graph.idOf(coordinates.getFirst()));
+        for (int i = 1; i < coordinates.size(); i++) {
+            int edge = graph.findEdge(graph.idOf(coordinates.get(i - 1)), graph.idOf(coordinates.get(i)));
+            assertTrue(edge >= 0, "Соседние ячейки пути должны быть соединены ребром");
+            cost += graph.weight(edge);
+        }
+        return cost;
+    }
+}
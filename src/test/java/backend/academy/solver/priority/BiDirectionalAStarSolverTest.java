@@ -0,0 +1,11 @@
+package backend.academy.solver.priority;
+
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.utils.ReconstructorPath;
+
+public class BiDirectionalAStarSolverTest extends AbstractSolverTest {
+
+    public BiDirectionalAStarSolverTest() {
+        super(new BiDirectionalAStarSolver(new ReconstructorPath()), true);
+    }
+}
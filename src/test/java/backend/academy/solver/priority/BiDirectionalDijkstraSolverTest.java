@@ -0,0 +1,11 @@
+package backend.academy.solver.priority;
+
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.utils.ReconstructorPath;
+
+public class BiDirectionalDijkstraSolverTest extends AbstractSolverTest {
+
+    public BiDirectionalDijkstraSolverTest() {
+        super(new BiDirectionalDijkstraSolver(new ReconstructorPath()), true);
+    }
+}
@@ -0,0 +1,45 @@
+package backend.academy.solver.priority;
+
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DeltaSteppingSolverTest extends AbstractSolverTest {
+
+    public DeltaSteppingSolverTest() {
+        super(new DeltaSteppingSolver(), true);
+    }
+
+    /**
+     * Тест на совпадение стоимостей с алгоритмом Дейкстры при разной ширине корзин.
+     * <p>
+     * При ширине 1 каждая корзина содержит одну стоимость, при большой ширине корзины велики и рёбра
+     * релаксируются несколькими задачами пула.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 200})
+    public void testBucketWidthsMatchDijkstra(int delta) {
+        // Arrange
+        int size = 60;
+        Random random = new Random(11);
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(size, random),
+            new AdvancedMazeTypeProvider(new SimpleRandomGenerator()));
+
+        // Act & Assert
+        assertCostsMatchDijkstra(new DeltaSteppingSolver(delta), graph, size, random, 20);
+    }
+
+    @Test
+    public void testNonPositiveDeltaIsRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new DeltaSteppingSolver(0),
+            "Ширина корзины должна быть положительной");
+    }
+}
@@ -0,0 +1,11 @@
+package backend.academy.solver.priority;
+
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.utils.ReconstructorPath;
+
+public class DialSolverTest extends AbstractSolverTest {
+
+    public DialSolverTest() {
+        super(new DialSolver(new ReconstructorPath()), true);
+    }
+}
@@ -0,0 +1,108 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.path.Path;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.utils.ReconstructorPath;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistanceFieldTest {
+
+    /**
+     * Тест на совпадение стоимостей и путей с алгоритмом Дейкстры для всех ячеек решётки со случайными весами.
+     */
+    @Test
+    void testPathsMatchDijkstra() {
+        // Arrange
+        int size = 15;
+        Random random = new Random(42);
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createOpenGrid(size, random),
+            new AdvancedMazeTypeProvider(new SimpleRandomGenerator()));
+        DijkstraSolver dijkstraSolver = new DijkstraSolver(new ReconstructorPath());
+        Coordinate source = new Coordinate(random.nextInt(size), random.nextInt(size));
+
+        // Act
+        DistanceField field = DistanceField.compute(graph, source);
+
+        // Assert
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                Coordinate target = new Coordinate(row, col);
+                Path path = field.pathTo(target);
+                int expectedCost = dijkstraSolver.solve(graph, source, target).totalCost();
+                assertEquals(expectedCost, field.cost(target), "Стоимость должна совпадать с алгоритмом Дейкстры");
+                assertEquals(expectedCost, path.totalCost(), "Стоимость пути должна совпадать с полем");
+                assertEquals(expectedCost, costOf(graph, path.coordinates()), "Путь должен иметь заявленную стоимость");
+                assertEquals(source, path.coordinates().getFirst(), "Путь должен начинаться в источнике");
+                assertEquals(target, path.coordinates().getLast(), "Путь должен заканчиваться в цели");
+            }
+        }
+    }
+
+    @Test
+    void testUnreachableTarget() {
+        // Arrange
+        MazeFactory mazeFactory = new MazeFactory();
+        MazeGraph graph = MazeGraph.of(mazeFactory.createUnreachableMaze(),
+            new AdvancedMazeTypeProvider(new SimpleRandomGenerator()));
+
+        // Act
+        DistanceField field = DistanceField.compute(graph, mazeFactory.startCoord());
+
+        // Assert
+        assertFalse(field.isReachable(mazeFactory.endCoord()), "Конечная ячейка должна быть недостижима");
+        assertTrue(field.pathTo(mazeFactory.endCoord()).coordinates().isEmpty(), "Путь должен быть пустым");
+        assertThrows(IllegalArgumentException.class, () -> DistanceField.compute(graph, new Coordinate(-1, -1)),
+            "Источник вне графа должен отклоняться");
+    }
+
+    @Test
+    void testCacheReusesFieldUntilMazeChanges() {
+        // Arrange
+        Maze maze = new MazeFactory().createOpenGrid(5, new Random(7));
+        MazeTypeProvider provider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+        DistanceFieldCache cache = new DistanceFieldCache();
+        Coordinate source = new Coordinate(0, 0);
+        DistanceField first = cache.get(maze, provider, source);
+
+        // Act
+        DistanceField second = cache.get(maze, provider, source);
+        DistanceField otherSource = cache.get(maze, provider, new Coordinate(4, 4));
+        Cell from = maze.getCell(new Coordinate(0, 0));
+        maze.updateEdgeType(from, maze.getCell(new Coordinate(0, 1)), EdgeType.WALL);
+        maze.updateEdgeType(from, maze.getCell(new Coordinate(1, 0)), EdgeType.WALL);
+        DistanceField afterChange = cache.get(maze, provider, source);
+
+        // Assert
+        assertSame(first, second, "Повторный запрос должен возвращать закешированное поле");
+        assertSame(first.graph(), otherSource.graph(),
+            "Поля одной версии лабиринта должны разделять граф");
+        assertNotSame(first, afterChange, "После изменения лабиринта поле должно пересчитываться");
+        assertFalse(afterChange.isReachable(new Coordinate(4, 4)), "Отрезанная ячейка не должна быть достижима");
+        assertThrows(IllegalArgumentException.class, () -> new DistanceFieldCache(0),
+            "Нулевой размер кеша должен отклоняться");
+    }
+
+    private static int costOf(MazeGraph graph, List<Coordinate> coordinates) {
+        int cost = graph.cellCost(graph.idOf(coordinates.getFirst()));
+        for (int i = 1; i < coordinates.size(); i++) {
+            cost += graph.weight(graph.findEdge(graph.idOf(coordinates.get(i - 1)), graph.idOf(coordinates.get(i))));
+        }
+        return cost;
+    }
+}
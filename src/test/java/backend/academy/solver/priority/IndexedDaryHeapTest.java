@@ -0,0 +1,49 @@
+package backend.academy.solver.priority;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedDaryHeapTest {
+
+    @Test
+    void testPollReturnsCellsByPriorityAfterDecrease() {
+        // Arrange
+        IndexedDaryHeap heap = new IndexedDaryHeap(8);
+        int[] priorities = {7, 3, 9, 5, 1, 8, 6, 4};
+        for (int cell = 0; cell < priorities.length; cell++) {
+            heap.insertOrDecrease(cell, priorities[cell]);
+        }
+
+        // Act
+        heap.insertOrDecrease(2, 0);
+        heap.insertOrDecrease(4, 10);
+        List<Integer> order = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            order.add(heap.poll());
+        }
+
+        // Assert
+        assertEquals(List.of(2, 4, 1, 7, 3, 6, 0, 5), order,
+            "Ячейки должны извлекаться по возрастанию приоритета с учётом уменьшения ключа");
+        assertTrue(heap.isEmpty(), "Куча должна опустеть");
+    }
+
+    @Test
+    void testCellIsStoredOnce() {
+        // Arrange
+        IndexedDaryHeap heap = new IndexedDaryHeap(2);
+        heap.insertOrDecrease(0, 5);
+
+        // Act
+        heap.insertOrDecrease(0, 3);
+        heap.insertOrDecrease(0, 2);
+        int first = heap.poll();
+
+        // Assert
+        assertEquals(0, first, "Должна извлекаться добавленная ячейка");
+        assertTrue(heap.isEmpty(), "Повторное добавление ячейки не должно создавать новую запись");
+    }
+}
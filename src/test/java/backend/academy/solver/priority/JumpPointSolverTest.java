@@ -0,0 +1,93 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.Maze;
+import backend.academy.mazetype.SimpleMazeTypeProvider;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.utils.ReconstructorPath;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JumpPointSolverTest extends AbstractSolverTest {
+
+    public JumpPointSolverTest() {
+        super(new JumpPointSolver(new ReconstructorPath(), new AStarSolver(new ReconstructorPath())), true);
+    }
+
+    /**
+     * Тест на лабиринте с одинаковой стоимостью шага.
+     * <p>
+     * Строит решётку из проходов и случайных стен, сравнивает стоимости путей с алгоритмом Дейкстры
+     * и проверяет, что восстановленный путь проходит через каждую ячейку, а не только через точки прыжка.
+     */
+    @Test
+    public void testUniformGridMatchesDijkstra() {
+        // Arrange
+        int size = 20;
+        Random random = new Random(7);
+        MazeGraph graph = MazeGraph.of(createWalledGrid(size, random), new SimpleMazeTypeProvider());
+        JumpPointSolver jumpPointSolver = new JumpPointSolver(new ReconstructorPath(), null);
+
+        // Act & Assert
+        assertTrue(graph.isUniformGrid(), "Граф из проходов должен считаться однородной решёткой");
+        assertCostsMatchDijkstra(jumpPointSolver, graph, size, random, 50);
+    }
+
+    /**
+     * Тест на то, что прыжки сокращают поиск: на решётке со стенами поиск с точками прыжка раскрывает
+     * заметно меньше ячеек, чем A* с той же эвристикой.
+     */
+    @Test
+    public void testJumpsExpandFewerCellsThanAStar() {
+        // Arrange
+        int size = 40;
+        MazeGraph graph = MazeGraph.of(createWalledGrid(size, new Random(2)), new SimpleMazeTypeProvider());
+        JumpPointSolver jumpPointSolver = new JumpPointSolver(new ReconstructorPath(), null);
+        AStarSolver aStarSolver = new AStarSolver(new ReconstructorPath());
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(size - 1, size - 1);
+
+        // Act
+        SearchResult jumps = jumpPointSolver.search(graph, start, end);
+        SearchResult aStar = aStarSolver.search(graph, start, end);
+
+        // Assert
+        assertFalse(jumps.path().coordinates().isEmpty(), "Путь между углами решётки должен быть найден");
+        assertEquals(aStar.path().totalCost(), jumps.path().totalCost(), "Оба поиска должны находить кратчайший путь");
+        assertTrue(jumps.expandedCells() * 2 < aStar.expandedCells(),
+            "Прыжки должны хотя бы вдвое сокращать количество раскрытых ячеек");
+    }
+
+    private static Maze createWalledGrid(int size, Random random) {
+        Maze maze = new Maze(size, size);
+        Cell[][] cells = new Cell[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                cells[row][col] = new Cell(row, col, CellType.PASSAGE);
+                maze.addCell(cells[row][col]);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (row + 1 < size) {
+                    maze.addEdge(cells[row][col], cells[row + 1][col], randomEdgeType(random));
+                }
+                if (col + 1 < size) {
+                    maze.addEdge(cells[row][col], cells[row][col + 1], randomEdgeType(random));
+                }
+            }
+        }
+        return maze;
+    }
+
+    private static EdgeType randomEdgeType(Random random) {
+        return random.nextInt(3) == 0 ? EdgeType.WALL : EdgeType.TRANSITION;
+    }
+}
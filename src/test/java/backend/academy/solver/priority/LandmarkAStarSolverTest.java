@@ -0,0 +1,110 @@
+package backend.academy.solver.priority;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.path.Path;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.MazeFactory;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.utils.ReconstructorPath;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LandmarkAStarSolverTest extends AbstractSolverTest {
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+
+    public LandmarkAStarSolverTest() {
+        super(new LandmarkAStarSolver(new ReconstructorPath()), true);
+    }
+
+    /**
+     * Тест на совпадение стоимостей с алгоритмом Дейкстры в лабиринте с циклами, где веса рёбер в разные стороны
+     * различаются, при обоих способах выбора ориентиров.
+     */
+    @ParameterizedTest
+    @EnumSource(LandmarkSelection.class)
+    public void testSelectionsMatchDijkstra(LandmarkSelection selection) {
+        // Arrange
+        int size = 40;
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createCyclicMaze(size, mazeTypeProvider), mazeTypeProvider);
+        LandmarkAStarSolver solver = new LandmarkAStarSolver(new ReconstructorPath(), 4, selection);
+
+        // Act & Assert
+        assertCostsMatchDijkstra(solver, graph, size, new Random(7), 30);
+        assertEquals(4, solver.landmarks(graph).count(), "Должно быть выбрано заданное количество ориентиров");
+    }
+
+    /**
+     * Тест на то, что ориентиры отсекают больше ячеек, чем манхэттенское расстояние: в лабиринте без циклов
+     * A* с ориентирами раскрывает заметно меньше ячеек.
+     */
+    @Test
+    public void testLandmarksExpandFewerCellsThanManhattan() {
+        // Arrange
+        int size = 60;
+        MazeGraph graph = MazeGraph.of(new MazeFactory().createPerfectMaze(size, mazeTypeProvider), mazeTypeProvider);
+        AStarSolver manhattanSolver = new AStarSolver(new ReconstructorPath());
+        LandmarkAStarSolver landmarkSolver = new LandmarkAStarSolver(new ReconstructorPath());
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(size - 1, size - 1);
+
+        // Act
+        SearchResult manhattan = manhattanSolver.search(graph, start, end);
+        SearchResult landmark = landmarkSolver.search(graph, start, end);
+
+        // Assert
+        assertEquals(manhattan.path().totalCost(), landmark.path().totalCost(),
+            "Обе эвристики должны находить кратчайший путь");
+        assertTrue(landmark.expandedCells() * 2 < manhattan.expandedCells(),
+            "Ориентиры должны хотя бы вдвое сокращать количество раскрытых ячеек");
+    }
+
+    /**
+     * Тест на лабиринт, в котором часть номеров ячеек свободна: у таких номеров в графе нет координат,
+     * и оба способа выбора ориентиров должны их пропускать.
+     */
+    @ParameterizedTest
+    @EnumSource(LandmarkSelection.class)
+    public void testMazeWithMissingCells(LandmarkSelection selection) {
+        // Arrange
+        Maze maze = new Maze(3, 3);
+        Cell cell1 = new Cell(1, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(1, 1, CellType.PASSAGE);
+        Cell cell3 = new Cell(1, 2, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+        maze.addEdge(cell2, cell3, EdgeType.TRANSITION);
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+        LandmarkAStarSolver solver = new LandmarkAStarSolver(new ReconstructorPath(), 4, selection);
+
+        // Act
+        Path path = solver.solve(graph, cell1.coordinate(), cell3.coordinate());
+
+        // Assert
+        assertEquals(List.of(cell1.coordinate(), cell2.coordinate(), cell3.coordinate()), path.coordinates(),
+            "Путь должен проходить через все три ячейки");
+        for (int i = 0; i < solver.landmarks(graph).count(); i++) {
+            assertTrue(maze.cellId(solver.landmarks(graph).landmark(i)) >= 0,
+                "Ориентиром может быть только существующая ячейка");
+        }
+    }
+
+    @Test
+    public void testNonPositiveLandmarkCountIsRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> new LandmarkAStarSolver(new ReconstructorPath(), 0, LandmarkSelection.FARTHEST),
+            "Нулевое количество ориентиров должно отклоняться");
+    }
+}
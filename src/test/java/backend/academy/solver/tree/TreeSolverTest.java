@@ -0,0 +1,120 @@
+package backend.academy.solver.tree;
+
+import backend.academy.cycleadder.CycleAdder;
+import backend.academy.cycleadder.CycleLevelType;
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.EdgeType;
+import backend.academy.entity.maze.GridMaze;
+import backend.academy.entity.maze.Maze;
+import backend.academy.entity.path.Path;
+import backend.academy.generator.MazeGeneratorFactory;
+import backend.academy.generator.MazeGeneratorType;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.solver.AbstractSolverTest;
+import backend.academy.solver.SolverFactory;
+import backend.academy.solver.graph.MazeGraph;
+import backend.academy.solver.priority.DijkstraSolver;
+import backend.academy.utils.ReconstructorPath;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TreeSolverTest extends AbstractSolverTest {
+    private final MazeTypeProvider mazeTypeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+
+    public TreeSolverTest() {
+        super(new TreeSolver(new DijkstraSolver(new ReconstructorPath())), true);
+    }
+
+    /**
+     * Тест на то, что в совершенном лабиринте путь по индексу совпадает с путём Дейкстры, а стоимость без
+     * восстановления пути — со стоимостью пути. Веса рёбер в разные стороны различаются.
+     */
+    @ParameterizedTest
+    @EnumSource(value = MazeGeneratorType.class, names = {"KRUSKAL", "HUNT_AND_KILL"})
+    public void testPathsMatchDijkstraInPerfectMaze(MazeGeneratorType generatorType) {
+        // Arrange
+        int size = 40;
+        Maze maze = new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(generatorType)
+            .generate(size, size, mazeTypeProvider);
+        MazeGraph graph = MazeGraph.of(maze, mazeTypeProvider);
+        TreeSolver solver = new TreeSolver(new DijkstraSolver(new ReconstructorPath()));
+        DijkstraSolver dijkstraSolver = new DijkstraSolver(new ReconstructorPath());
+        Random random = new Random(5);
+
+        assertTrue(solver.index(graph).isPresent(), "Лабиринт без циклов должен получить индекс");
+        for (int i = 0; i < 30; i++) {
+            Coordinate start = new Coordinate(random.nextInt(size), random.nextInt(size));
+            Coordinate end = new Coordinate(random.nextInt(size), random.nextInt(size));
+
+            // Act
+            Path path = solver.solve(graph, start, end);
+
+            // Assert
+            Path expected = dijkstraSolver.solve(graph, start, end);
+            assertEquals(expected.coordinates(), path.coordinates(), "В совершенном лабиринте путь единственен");
+            assertEquals(expected.totalCost(), path.totalCost(),
+                "Стоимость пути должна совпадать с алгоритмом Дейкстры");
+            assertEquals(path.totalCost(), solver.index(graph).orElseThrow().cost(start, end),
+                "Стоимость по индексу должна совпадать со стоимостью пути");
+        }
+    }
+
+    @Test
+    public void testMazeWithCyclesHasNoIndex() {
+        // Arrange
+        Maze maze = new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(MazeGeneratorType.KRUSKAL)
+            .generate(20, 20, mazeTypeProvider);
+        new CycleAdder(new SimpleRandomGenerator()).addCycles(maze, mazeTypeProvider, CycleLevelType.LOW);
+
+        // Act & Assert
+        assertTrue(TreeMazeIndex.of(MazeGraph.of(maze, mazeTypeProvider)).isEmpty(),
+            "Лабиринт с циклами не должен получать индекс");
+    }
+
+    @Test
+    public void testFactoryDetectsPerfectMaze() {
+        // Arrange
+        Maze maze = new MazeGeneratorFactory(new SimpleRandomGenerator())
+            .getGenerator(MazeGeneratorType.KRUSKAL)
+            .generate(20, 20, mazeTypeProvider);
+        SolverFactory solverFactory = new SolverFactory(true);
+        MazeGraph perfectGraph = MazeGraph.of(maze, mazeTypeProvider);
+        new CycleAdder(new SimpleRandomGenerator()).addCycles(maze, mazeTypeProvider, CycleLevelType.LOW);
+        MazeGraph cyclicGraph = MazeGraph.of(maze, mazeTypeProvider);
+
+        // Act & Assert
+        assertTrue(solverFactory.isTree(perfectGraph), "Лабиринт без циклов должен распознаваться как дерево");
+        assertFalse(solverFactory.isTree(cyclicGraph), "Лабиринт с циклами не должен распознаваться как дерево");
+    }
+
+    @Test
+    public void testCellsOfDifferentTreesAreUnreachable() {
+        // Arrange
+        GridMaze maze = new GridMaze(1, 3);
+        Cell cell1 = new Cell(0, 0, CellType.PASSAGE);
+        Cell cell2 = new Cell(0, 1, CellType.PASSAGE);
+        Cell cell3 = new Cell(0, 2, CellType.PASSAGE);
+        maze.addEdge(cell1, cell2, EdgeType.TRANSITION);
+        maze.addCell(cell3);
+        TreeMazeIndex index = TreeMazeIndex.of(MazeGraph.of(maze, mazeTypeProvider)).orElseThrow();
+
+        // Act
+        Path path = index.path(cell1.coordinate(), cell3.coordinate());
+
+        // Assert
+        assertTrue(path.coordinates().isEmpty(), "Путь между разными деревьями не должен находиться");
+        assertEquals(Integer.MAX_VALUE, index.cost(cell1.coordinate(), cell3.coordinate()),
+            "Стоимость пути между разными деревьями должна быть бесконечной");
+    }
+}
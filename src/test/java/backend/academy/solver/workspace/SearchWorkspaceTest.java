@@ -0,0 +1,50 @@
+package backend.academy.solver.workspace;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchWorkspaceTest {
+
+    @Test
+    void testPrepareResetsVisitedWithoutReallocation() {
+        // Arrange
+        SearchWorkspace workspace = new SearchWorkspace();
+        workspace.prepare(4);
+        workspace.visit(1);
+        workspace.visit(3);
+        int[] parents = workspace.parents();
+
+        // Act
+        workspace.prepare(4);
+
+        // Assert
+        assertFalse(workspace.isVisited(1), "Отметки прошлого поиска должны сбрасываться.");
+        assertFalse(workspace.isVisited(3), "Отметки прошлого поиска должны сбрасываться.");
+        assertTrue(workspace.visit(3), "Ячейку можно посетить в новом поиске.");
+        assertFalse(workspace.visit(3), "Повторное посещение должно возвращать false.");
+        assertSame(parents, workspace.parents(), "Массивы не должны пересоздаваться для графа того же размера.");
+    }
+
+    @Test
+    void testFrontierWorksAsQueueAndStack() {
+        // Arrange
+        SearchWorkspace workspace = new SearchWorkspace();
+        workspace.prepare(3);
+
+        // Act
+        workspace.push(0);
+        workspace.push(1);
+        workspace.push(2);
+        int first = workspace.pollFirst();
+        int last = workspace.pollLast();
+
+        // Assert
+        assertEquals(0, first, "Из начала фронта извлекается первая ячейка.");
+        assertEquals(2, last, "Из конца фронта извлекается последняя ячейка.");
+        assertEquals(1, workspace.pollFirst(), "Во фронте должна остаться средняя ячейка.");
+        assertTrue(workspace.isFrontierEmpty(), "Фронт должен опустеть.");
+    }
+}
@@ -0,0 +1,35 @@
+package backend.academy.solver.workspace;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkspacePoolTest {
+
+    @Test
+    void testReleasedWorkspaceIsReusedWithinCapacity() {
+        // Arrange
+        WorkspacePool<SearchWorkspace> pool = new WorkspacePool<>(SearchWorkspace::new, 1);
+        SearchWorkspace first = pool.acquire();
+        SearchWorkspace second = pool.acquire();
+
+        // Act
+        pool.release(first);
+        pool.release(second);
+        SearchWorkspace reused = pool.acquire();
+        SearchWorkspace created = pool.acquire();
+
+        // Assert
+        assertNotSame(first, second, "Одновременно взятые рабочие пространства должны различаться");
+        assertSame(first, reused, "Возвращённое рабочее пространство должно переиспользоваться");
+        assertNotSame(second, created, "Рабочее пространство сверх размера пула должно отбрасываться");
+    }
+
+    @Test
+    void testNonPositiveCapacityIsRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new WorkspacePool<>(SearchWorkspace::new, 0),
+            "Размер пула должен быть положительным");
+    }
+}
@@ -0,0 +1,142 @@
+package backend.academy.storage;
+
+import backend.academy.entity.cell.Cell;
+import backend.academy.entity.cell.CellType;
+import backend.academy.entity.cell.Coordinate;
+import backend.academy.entity.edge.Edge;
+import backend.academy.entity.maze.Maze;
+import backend.academy.generator.kruskal.KruskalMazeGenerator;
+import backend.academy.mazetype.AdvancedMazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProvider;
+import backend.academy.mazetype.MazeTypeProviderType;
+import backend.academy.random.SimpleRandomGenerator;
+import backend.academy.utils.MazeUtils;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MazeFileTest {
+
+    private static final int HEIGHT = 7;
+    private static final int WIDTH = 9;
+
+    private final MazeFileWriter writer = new MazeFileWriter();
+    private final MazeFileReader reader = new MazeFileReader();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void testWriteAndReadRoundTrip() throws IOException {
+        // Arrange
+        MazeTypeProvider typeProvider = new AdvancedMazeTypeProvider(new SimpleRandomGenerator());
+        Maze maze = new KruskalMazeGenerator(new MazeUtils()).generate(HEIGHT, WIDTH, typeProvider);
+        MazeFileHeader header = new MazeFileHeader(HEIGHT, WIDTH, MazeTypeProviderType.ADVANCED, 42L);
+        Path file = tempDir.resolve("maze.bin");
+
+        // Act
+        writer.write(file, maze, header);
+
+        // Assert
+        assertEquals(MazeFileFormat.fileSize(HEIGHT, WIDTH), Files.size(file), "Размер файла неверен.");
+        try (Arena arena = Arena.ofConfined()) {
+            MappedMaze loaded = reader.read(file, arena);
+            assertEquals(header, loaded.header(), "Заголовок должен сохраниться.");
+            assertEquals(maze.getAllCells().size(), loaded.getAllCells().size(), "Количество ячеек неверно.");
+            for (Cell cell : maze.getAllCells()) {
+                Cell loadedCell = loaded.getCell(cell.coordinate());
+                assertNotNull(loadedCell, "Ячейка должна сохраниться: " + cell.coordinate());
+                assertEquals(cell.cellType(), loadedCell.cellType(), "Тип ячейки должен сохраниться.");
+                for (Edge edge : maze.getEdges(cell)) {
+                    assertEquals(edge.type(), loaded.getEdgeType(cell, edge.to()), "Тип ребра должен сохраниться.");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMappedMazeIsReadOnly() throws IOException {
+        // Arrange
+        Maze maze = new MazeUtils().createMaze(2, 2);
+        Path file = tempDir.resolve("small.bin");
+        writer.write(file, maze, new MazeFileHeader(2, 2, MazeTypeProviderType.SIMPLE, 0L));
+
+        try (Arena arena = Arena.ofConfined()) {
+            // Act
+            MappedMaze loaded = reader.read(file, arena);
+
+            // Assert
+            assertThrows(UnsupportedOperationException.class,
+                () -> loaded.addCell(new Cell(0, 0, CellType.PASSAGE)),
+                "Отображённый лабиринт нельзя изменять.");
+            assertEquals(0, loaded.getAllCells().size(), "Пустой лабиринт должен остаться пустым.");
+            assertNull(loaded.getCell(new Coordinate(1, 1)), "Ячеек в пустом лабиринте быть не должно.");
+        }
+    }
+
+    @Test
+    void testReadInvalidFile() throws IOException {
+        // Arrange
+        Path notMaze = tempDir.resolve("not-maze.bin");
+        Files.write(notMaze, new byte[MazeFileFormat.HEADER_SIZE]);
+        Path truncated = tempDir.resolve("truncated.bin");
+        writer.write(truncated, new MazeUtils().createMaze(3, 3),
+            new MazeFileHeader(3, 3, MazeTypeProviderType.SIMPLE, 0L));
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+
+        try (Arena arena = Arena.ofConfined()) {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> reader.read(notMaze, arena),
+                "Файл без сигнатуры не должен открываться.");
+            assertThrows(IllegalArgumentException.class, () -> reader.read(truncated, arena),
+                "Обрезанный файл не должен открываться.");
+        }
+    }
+
+    @Test
+    void testCorruptedCellPlaneIsReportedOnRead() throws IOException {
+        // Arrange
+        Maze maze = new MazeUtils().createMaze(2, 2);
+        maze.addCell(new Cell(0, 0, CellType.PASSAGE));
+        maze.addCell(new Cell(0, 1, CellType.PASSAGE));
+        Path badCode = tempDir.resolve("bad-code.bin");
+        writer.write(badCode, maze, new MazeFileHeader(2, 2, MazeTypeProviderType.SIMPLE, 0L));
+        byte[] bytes = Files.readAllBytes(badCode);
+        bytes[(int) MazeFileFormat.cellPlaneOffset() + 1] = Byte.MAX_VALUE;
+        Files.write(badCode, bytes);
+        Path badCount = tempDir.resolve("bad-count.bin");
+        writer.write(badCount, maze, new MazeFileHeader(2, 2, MazeTypeProviderType.SIMPLE, 0L));
+        bytes = Files.readAllBytes(badCount);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt((int) MazeFileFormat.CELL_COUNT_OFFSET, 3);
+        Files.write(badCount, bytes);
+        Path outOfRangeCount = tempDir.resolve("out-of-range-count.bin");
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt((int) MazeFileFormat.CELL_COUNT_OFFSET, 5);
+        Files.write(outOfRangeCount, bytes);
+
+        try (Arena arena = Arena.ofConfined()) {
+            // Act
+            MappedMaze withBadCode = reader.read(badCode, arena);
+            MappedMaze withBadCount = reader.read(badCount, arena);
+
+            // Assert
+            assertNotNull(withBadCode.getCell(new Coordinate(0, 0)), "Неповреждённая ячейка должна читаться.");
+            assertThrows(IllegalStateException.class, () -> withBadCode.getCell(new Coordinate(0, 1)),
+                "Неизвестный код ячейки должен обнаруживаться при чтении.");
+            assertThrows(IllegalStateException.class, () -> withBadCount.getAllCells().size(),
+                "Количество ячеек в заголовке должно сверяться с плоскостью.");
+            assertThrows(IllegalArgumentException.class, () -> reader.read(outOfRangeCount, arena),
+                "Количество ячеек больше площади сетки недопустимо.");
+        }
+    }
+}